@@ -0,0 +1,46 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.filter.Approximator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Douglas Peucker reduction of a noisy line. The reduction grows much faster than the number of
+ * points for noisy data, one million points already take seconds per run, so larger sizes are
+ * left out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApproximatorBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"1", "10"})
+    public float tolerance;
+
+    private Approximator mApproximator;
+
+    private float[] mPoints;
+
+    @Setup
+    public void setup() {
+        mApproximator = new Approximator();
+        mPoints = BenchmarkData.createPoints(size);
+    }
+
+    @Benchmark
+    public float[] reduceWithDouglasPeucker() {
+        return mApproximator.reduceWithDouglasPeucker(mPoints, tolerance);
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.mikephil.charting.benchmark;
+
+import android.graphics.Canvas;
+
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.renderer.AxisRenderer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computation of the axis labels, done for every frame while zooming or scrolling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AxisBenchmark {
+
+    private static final int RANGES = 1024;
+
+    @Param({"6", "25"})
+    public int labelCount;
+
+    @Param({"false", "true"})
+    public boolean forceLabels;
+
+    private YAxis mAxis;
+
+    private AxisRenderer mRenderer;
+
+    private float[] mRanges;
+
+    private int mRange;
+
+    @Setup
+    public void setup() {
+        mAxis = new YAxis();
+        mAxis.setLabelCount(labelCount, forceLabels);
+
+        // without a view port handler the renderer creates no paints and uses the given range
+        mRenderer = new ComputeOnlyAxisRenderer(mAxis);
+
+        mRanges = BenchmarkData.createQueries(RANGES, 1000000f);
+    }
+
+    @Benchmark
+    public float[] computeAxis() {
+
+        mRange = (mRange + 1) & (RANGES - 1);
+
+        float max = mRanges[mRange];
+        mRenderer.computeAxis(-max * 0.1f, max, false);
+
+        return mAxis.mEntries;
+    }
+
+    /**
+     * Renderer without drawing, the concrete renderers allocate native paths on creation which
+     * are not available on the JVM.
+     */
+    private static class ComputeOnlyAxisRenderer extends AxisRenderer {
+
+        ComputeOnlyAxisRenderer(AxisBase axis) {
+            super(null, null, axis);
+        }
+
+        @Override
+        public void renderAxisLabels(Canvas c) {
+        }
+
+        @Override
+        public void renderGridLines(Canvas c) {
+        }
+
+        @Override
+        public void renderAxisLine(Canvas c) {
+        }
+
+        @Override
+        public void renderLimitLines(Canvas c) {
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.buffer.BarBuffer;
+import com.github.mikephil.charting.data.BarDataSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeding the bar buffer with all entries of a data set, done for every drawn frame.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BarBufferBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"1", "3"})
+    public int stackSize;
+
+    private BarDataSet mDataSet;
+
+    private BarBuffer mBuffer;
+
+    @Setup
+    public void setup() {
+        mDataSet = new BarDataSet(BenchmarkData.createBarEntries(size, stackSize), "benchmark");
+
+        // sized like in BarChartRenderer.initBuffers()
+        mBuffer = new BarBuffer(size * 4 * (mDataSet.isStacked() ? mDataSet.getStackSize() : 1),
+                1, mDataSet.isStacked());
+        mBuffer.setBarWidth(0.85f);
+    }
+
+    @Benchmark
+    public float[] feed() {
+        mBuffer.feed(mDataSet);
+        return mBuffer.buffer;
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.Entry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates the data used by the benchmarks. All data is generated from a fixed seed, so every run
+ * works on the same values.
+ */
+final class BenchmarkData {
+
+    static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Returns size entries with x = 0, 1, 2, ... and a noisy sine as y.
+     *
+     * @param size
+     * @return
+     */
+    static List<Entry> createEntries(int size) {
+
+        Random random = new Random(SEED);
+        List<Entry> entries = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++)
+            entries.add(new Entry(i, y(i, random)));
+
+        return entries;
+    }
+
+    /**
+     * Returns size bar entries with x = 0, 1, 2, ..., stacked entries have stackSize values.
+     *
+     * @param size
+     * @param stackSize
+     * @return
+     */
+    static List<BarEntry> createBarEntries(int size, int stackSize) {
+
+        Random random = new Random(SEED);
+        List<BarEntry> entries = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+
+            if (stackSize < 2) {
+                entries.add(new BarEntry(i, y(i, random)));
+            } else {
+                float[] vals = new float[stackSize];
+                for (int j = 0; j < stackSize; j++)
+                    vals[j] = y(i, random);
+                entries.add(new BarEntry(i, vals));
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns size points as x, y pairs of the same shape as createEntries(...).
+     *
+     * @param size
+     * @return
+     */
+    static float[] createPoints(int size) {
+
+        Random random = new Random(SEED);
+        float[] points = new float[size * 2];
+
+        for (int i = 0; i < size; i++) {
+            points[i * 2] = i;
+            points[i * 2 + 1] = y(i, random);
+        }
+
+        return points;
+    }
+
+    /**
+     * Returns count random values in [0, max).
+     *
+     * @param count
+     * @param max
+     * @return
+     */
+    static float[] createQueries(int count, float max) {
+
+        Random random = new Random(SEED + 1);
+        float[] queries = new float[count];
+
+        for (int i = 0; i < count; i++)
+            queries[i] = random.nextFloat() * max;
+
+        return queries;
+    }
+
+    private static float y(int i, Random random) {
+        return (float) (Math.sin(i / 50.0) * 100.0) + random.nextFloat() * 20f - 10f;
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.LineDataSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entry lookup and min / max calculation of a DataSet, as done on every highlight and for every
+ * drawn frame with auto scaling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataSetBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private LineDataSet mDataSet;
+
+    private float[] mQueries;
+
+    private int mQuery;
+
+    @Setup
+    public void setup() {
+        mDataSet = new LineDataSet(BenchmarkData.createEntries(size), "benchmark");
+        mQueries = BenchmarkData.createQueries(QUERIES, size);
+    }
+
+    private float nextQuery() {
+        mQuery = (mQuery + 1) & (QUERIES - 1);
+        return mQueries[mQuery];
+    }
+
+    @Benchmark
+    public int getEntryIndex() {
+        return mDataSet.getEntryIndex(nextQuery(), Float.NaN, DataSet.Rounding.CLOSEST);
+    }
+
+    @Benchmark
+    public float calcMinMaxY() {
+
+        // a window of a tenth of the data, like a zoomed in chart
+        float from = nextQuery() * 0.9f;
+
+        mDataSet.calcMinMaxY(from, from + size * 0.1f);
+        return mDataSet.getYMax();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public float calcMinMax() {
+        mDataSet.calcMinMax();
+        return mDataSet.getYMax();
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.mikephil.charting.benchmark;
+
+import com.github.mikephil.charting.formatter.DefaultValueFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting of a single value label, done for every drawn value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValueFormatterBenchmark {
+
+    private static final int VALUES = 1024;
+
+    @Param({"0", "2", "5"})
+    public int digits;
+
+    private DefaultValueFormatter mFormatter;
+
+    private float[] mValues;
+
+    private int mValue;
+
+    @Setup
+    public void setup() {
+        mFormatter = new DefaultValueFormatter(digits);
+        mValues = BenchmarkData.createQueries(VALUES, 100000f);
+    }
+
+    @Benchmark
+    public String getFormattedValue() {
+        mValue = (mValue + 1) & (VALUES - 1);
+        return mFormatter.getFormattedValue(mValues[mValue], null, 0, null);
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.mikephil.charting.canvas;
+
+/**
+ * Narrow drawing surface for drawing code that does not depend on android.graphics. So far only
+ * the scatter shapes (see ScatterShapes) draw through it, on an android.graphics.Canvas wrapped by
+ * AndroidChartCanvas; the chart, axis, legend and data renderers draw on android.graphics.Canvas
+ * directly. The semantics follow android.graphics.Canvas:
+ * coordinates are in pixels with the origin at the top left, text is drawn at its baseline and
+ * save() / restoreToCount(...) cover the transformation and the clip.
+ */
+public interface ChartCanvas {
+
+    int getWidth();
+
+    int getHeight();
+
+    /**
+     * Creates a paint that can be used with this canvas.
+     *
+     * @return
+     */
+    ChartPaint createPaint();
+
+    /**
+     * Creates a path that can be used with this canvas.
+     *
+     * @return
+     */
+    ChartPath createPath();
+
+    /**
+     * Saves the current transformation and clip, returns the count to pass to restoreToCount.
+     *
+     * @return
+     */
+    int save();
+
+    void restoreToCount(int saveCount);
+
+    void translate(float dx, float dy);
+
+    void scale(float sx, float sy);
+
+    void rotate(float degrees);
+
+    void clipRect(float left, float top, float right, float bottom);
+
+    /**
+     * Fills the whole clip with the given color.
+     *
+     * @param color
+     */
+    void drawColor(int color);
+
+    void drawLine(float startX, float startY, float stopX, float stopY, ChartPaint paint);
+
+    /**
+     * Draws count / 4 lines, each defined by four consecutive floats (x0, y0, x1, y1).
+     *
+     * @param pts
+     * @param offset
+     * @param count
+     * @param paint
+     */
+    void drawLines(float[] pts, int offset, int count, ChartPaint paint);
+
+    void drawRect(float left, float top, float right, float bottom, ChartPaint paint);
+
+    void drawCircle(float cx, float cy, float radius, ChartPaint paint);
+
+    void drawPath(ChartPath path, ChartPaint paint);
+
+    void drawText(String text, float x, float y, ChartPaint paint);
+}
@@ -0,0 +1,73 @@
+package com.github.mikephil.charting.canvas;
+
+/**
+ * Platform independent paint used with a ChartCanvas. Colors are ARGB ints like on Android.
+ * Instances are created by ChartCanvas.createPaint() and can only be used with canvases of the
+ * same backend.
+ */
+public interface ChartPaint {
+
+    enum Style {
+        FILL, STROKE, FILL_AND_STROKE
+    }
+
+    enum Align {
+        LEFT, CENTER, RIGHT
+    }
+
+    void setColor(int color);
+
+    int getColor();
+
+    void setStyle(Style style);
+
+    Style getStyle();
+
+    void setStrokeWidth(float width);
+
+    float getStrokeWidth();
+
+    void setAntiAlias(boolean enabled);
+
+    boolean isAntiAlias();
+
+    /**
+     * Sets a dash pattern for stroked lines, the intervals alternate between dash and gap
+     * lengths. Pass null to draw solid lines.
+     *
+     * @param intervals
+     * @param phase
+     */
+    void setDash(float[] intervals, float phase);
+
+    void setTextSize(float size);
+
+    float getTextSize();
+
+    void setTextAlign(Align align);
+
+    Align getTextAlign();
+
+    /**
+     * Returns the width of the given text drawn with this paint.
+     *
+     * @param text
+     * @return
+     */
+    float measureText(String text);
+
+    /**
+     * Returns the distance from the baseline to the top of the font, negative like
+     * android.graphics.Paint.ascent().
+     *
+     * @return
+     */
+    float ascent();
+
+    /**
+     * Returns the distance from the baseline to the bottom of the font.
+     *
+     * @return
+     */
+    float descent();
+}
@@ -0,0 +1,21 @@
+package com.github.mikephil.charting.canvas;
+
+/**
+ * Platform independent path used with a ChartCanvas. Filled paths use the non-zero winding rule.
+ * Instances are created by ChartCanvas.createPath() and can only be used with canvases of the
+ * same backend.
+ */
+public interface ChartPath {
+
+    void reset();
+
+    void moveTo(float x, float y);
+
+    void lineTo(float x, float y);
+
+    void quadTo(float x1, float y1, float x2, float y2);
+
+    void cubicTo(float x1, float y1, float x2, float y2, float x3, float y3);
+
+    void close();
+}
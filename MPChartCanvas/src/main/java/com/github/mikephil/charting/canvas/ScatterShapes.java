@@ -0,0 +1,178 @@
+package com.github.mikephil.charting.canvas;
+
+/**
+ * Draws the scatter shapes of the library on any ChartCanvas. The scatter shape renderers of the
+ * Android library delegate to these routines, so the shapes look the same on every backend.
+ * <p>
+ * For the shapes with a hole, shapeSize is the outer size and holeRadius the radius of the hole
+ * in pixels. If the hole is larger than zero the shape is drawn as an outline and the hole is
+ * filled with holeColor, unless drawHole is false.
+ */
+public final class ScatterShapes {
+
+    private ScatterShapes() {
+    }
+
+    public static void drawCircle(ChartCanvas c, ChartPaint paint, float posX, float posY,
+                                  float shapeSize, float holeRadius, int holeColor,
+                                  boolean drawHole) {
+
+        final float shapeHalf = shapeSize / 2f;
+        final float shapeHoleSize = holeRadius * 2.f;
+        final float shapeStrokeSize = (shapeSize - shapeHoleSize) / 2.f;
+        final float shapeStrokeSizeHalf = shapeStrokeSize / 2.f;
+
+        if (shapeSize > 0.0) {
+            paint.setStyle(ChartPaint.Style.STROKE);
+            paint.setStrokeWidth(shapeStrokeSize);
+
+            c.drawCircle(posX, posY, holeRadius + shapeStrokeSizeHalf, paint);
+
+            if (drawHole) {
+                paint.setStyle(ChartPaint.Style.FILL);
+                paint.setColor(holeColor);
+
+                c.drawCircle(posX, posY, holeRadius, paint);
+            }
+        } else {
+            paint.setStyle(ChartPaint.Style.FILL);
+
+            c.drawCircle(posX, posY, shapeHalf, paint);
+        }
+    }
+
+    public static void drawSquare(ChartCanvas c, ChartPaint paint, float posX, float posY,
+                                  float shapeSize, float holeRadius, int holeColor,
+                                  boolean drawHole) {
+
+        final float shapeHalf = shapeSize / 2f;
+        final float shapeHoleSize = holeRadius * 2.f;
+        final float shapeStrokeSize = (shapeSize - shapeHoleSize) / 2.f;
+        final float shapeStrokeSizeHalf = shapeStrokeSize / 2.f;
+
+        if (shapeSize > 0.0) {
+            paint.setStyle(ChartPaint.Style.STROKE);
+            paint.setStrokeWidth(shapeStrokeSize);
+
+            c.drawRect(posX - holeRadius - shapeStrokeSizeHalf,
+                    posY - holeRadius - shapeStrokeSizeHalf,
+                    posX + holeRadius + shapeStrokeSizeHalf,
+                    posY + holeRadius + shapeStrokeSizeHalf,
+                    paint);
+
+            if (drawHole) {
+                paint.setStyle(ChartPaint.Style.FILL);
+                paint.setColor(holeColor);
+
+                c.drawRect(posX - holeRadius,
+                        posY - holeRadius,
+                        posX + holeRadius,
+                        posY + holeRadius,
+                        paint);
+            }
+        } else {
+            paint.setStyle(ChartPaint.Style.FILL);
+
+            c.drawRect(posX - shapeHalf,
+                    posY - shapeHalf,
+                    posX + shapeHalf,
+                    posY + shapeHalf,
+                    paint);
+        }
+    }
+
+    /**
+     * Draws a triangle, the given path is used as a buffer.
+     */
+    public static void drawTriangle(ChartCanvas c, ChartPaint paint, ChartPath path,
+                                    float posX, float posY, float shapeSize, float holeRadius,
+                                    int holeColor, boolean drawHole) {
+
+        final float shapeHalf = shapeSize / 2f;
+        final float shapeHoleSize = holeRadius * 2.f;
+        final float shapeStrokeSize = (shapeSize - shapeHoleSize) / 2.f;
+
+        paint.setStyle(ChartPaint.Style.FILL);
+
+        path.reset();
+
+        path.moveTo(posX, posY - shapeHalf);
+        path.lineTo(posX + shapeHalf, posY + shapeHalf);
+        path.lineTo(posX - shapeHalf, posY + shapeHalf);
+
+        if (shapeSize > 0.0) {
+            path.lineTo(posX, posY - shapeHalf);
+
+            path.moveTo(posX - shapeHalf + shapeStrokeSize, posY + shapeHalf - shapeStrokeSize);
+            path.lineTo(posX + shapeHalf - shapeStrokeSize, posY + shapeHalf - shapeStrokeSize);
+            path.lineTo(posX, posY - shapeHalf + shapeStrokeSize);
+            path.lineTo(posX - shapeHalf + shapeStrokeSize, posY + shapeHalf - shapeStrokeSize);
+        }
+
+        path.close();
+
+        c.drawPath(path, paint);
+        path.reset();
+
+        if (shapeSize > 0.0 && drawHole) {
+
+            paint.setColor(holeColor);
+
+            path.moveTo(posX, posY - shapeHalf + shapeStrokeSize);
+            path.lineTo(posX + shapeHalf - shapeStrokeSize, posY + shapeHalf - shapeStrokeSize);
+            path.lineTo(posX - shapeHalf + shapeStrokeSize, posY + shapeHalf - shapeStrokeSize);
+            path.close();
+
+            c.drawPath(path, paint);
+            path.reset();
+        }
+    }
+
+    public static void drawCross(ChartCanvas c, ChartPaint paint, float posX, float posY,
+                                 float shapeSize, float lineWidth) {
+
+        final float shapeHalf = shapeSize / 2f;
+
+        paint.setStyle(ChartPaint.Style.STROKE);
+        paint.setStrokeWidth(lineWidth);
+
+        c.drawLine(posX - shapeHalf, posY, posX + shapeHalf, posY, paint);
+        c.drawLine(posX, posY - shapeHalf, posX, posY + shapeHalf, paint);
+    }
+
+    public static void drawX(ChartCanvas c, ChartPaint paint, float posX, float posY,
+                             float shapeSize, float lineWidth) {
+
+        final float shapeHalf = shapeSize / 2f;
+
+        paint.setStyle(ChartPaint.Style.STROKE);
+        paint.setStrokeWidth(lineWidth);
+
+        c.drawLine(posX - shapeHalf, posY - shapeHalf, posX + shapeHalf, posY + shapeHalf, paint);
+        c.drawLine(posX + shapeHalf, posY - shapeHalf, posX - shapeHalf, posY + shapeHalf, paint);
+    }
+
+    public static void drawChevronUp(ChartCanvas c, ChartPaint paint, float posX, float posY,
+                                     float shapeSize, float lineWidth) {
+
+        final float shapeHalf = shapeSize / 2f;
+
+        paint.setStyle(ChartPaint.Style.STROKE);
+        paint.setStrokeWidth(lineWidth);
+
+        c.drawLine(posX, posY - (2 * shapeHalf), posX + (2 * shapeHalf), posY, paint);
+        c.drawLine(posX, posY - (2 * shapeHalf), posX - (2 * shapeHalf), posY, paint);
+    }
+
+    public static void drawChevronDown(ChartCanvas c, ChartPaint paint, float posX, float posY,
+                                       float shapeSize, float lineWidth) {
+
+        final float shapeHalf = shapeSize / 2f;
+
+        paint.setStyle(ChartPaint.Style.STROKE);
+        paint.setStrokeWidth(lineWidth);
+
+        c.drawLine(posX, posY + (2 * shapeHalf), posX + (2 * shapeHalf), posY, paint);
+        c.drawLine(posX, posY + (2 * shapeHalf), posX - (2 * shapeHalf), posY, paint);
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.mikephil.charting.data;
+
+import java.util.TimeZone;
+
+/**
+ * Maps 64 bit timestamps (milliseconds since the epoch) to the float x-values of entries and back.
+ * The x-value of a timestamp is its offset from a base timestamp, counted in a time unit:
+ * with a base close to the data and a unit of the resolution of the data (e.g. MINUTES for
+ * minute data), the x-values are exact integers for more than 30 years of data, so binary
+ * searches over the entries stay exact.
+ */
+public class TimeScale {
+
+    public static final long MILLISECONDS = 1L;
+    public static final long SECONDS = 1000L;
+    public static final long MINUTES = 60L * SECONDS;
+    public static final long HOURS = 60L * MINUTES;
+    public static final long DAYS = 24L * HOURS;
+
+    private final long mBase;
+
+    private final long mUnit;
+
+    private final TimeZone mTimeZone;
+
+    /**
+     * @param base the timestamp at x = 0, in milliseconds since the epoch
+     * @param unit the milliseconds per x-unit, e.g. TimeScale.MINUTES
+     */
+    public TimeScale(long base, long unit) {
+        this(base, unit, TimeZone.getDefault());
+    }
+
+    /**
+     * @param base     the timestamp at x = 0, in milliseconds since the epoch
+     * @param unit     the milliseconds per x-unit, e.g. TimeScale.MINUTES
+     * @param timeZone the time zone the axis labels and calendar ticks are computed in
+     */
+    public TimeScale(long base, long unit, TimeZone timeZone) {
+
+        if (unit <= 0)
+            throw new IllegalArgumentException("unit must be greater than 0!");
+
+        mBase = base;
+        mUnit = unit;
+        mTimeZone = timeZone;
+    }
+
+    /**
+     * Returns the x-value of the given timestamp.
+     *
+     * @param millis
+     * @return
+     */
+    public float toX(long millis) {
+        return (float) ((double) (millis - mBase) / mUnit);
+    }
+
+    /**
+     * Returns the timestamp of the given x-value, rounded to the closest millisecond.
+     *
+     * @param x
+     * @return
+     */
+    public long toMillis(float x) {
+        return mBase + Math.round((double) x * mUnit);
+    }
+
+    /**
+     * Returns the timestamp at x = 0.
+     *
+     * @return
+     */
+    public long getBase() {
+        return mBase;
+    }
+
+    /**
+     * Returns the milliseconds per x-unit.
+     *
+     * @return
+     */
+    public long getUnit() {
+        return mUnit;
+    }
+
+    public TimeZone getTimeZone() {
+        return mTimeZone;
+    }
+}
@@ -1,9 +1,6 @@
 
 package com.github.mikephil.charting.data.filter;
 
-import android.annotation.TargetApi;
-import android.os.Build;
-
 import java.util.Arrays;
 
 /**
@@ -14,7 +11,6 @@ import java.util.Arrays;
  */
 public class Approximator {
 
-    @TargetApi(Build.VERSION_CODES.GINGERBREAD)
     public float[] reduceWithDouglasPeucker(float[] points, float tolerance) {
 
         int greatestIndex = 0;
@@ -0,0 +1,157 @@
+package com.github.mikephil.charting.math;
+
+/**
+ * Computes the label positions of an axis. The result arrays are reused between calls and only
+ * grow, so the valid part of entries and centeredEntries is given by entryCount.
+ */
+public class AxisTicks {
+
+    /**
+     * the label positions, the first entryCount values are valid
+     */
+    public float[] mEntries = new float[]{};
+
+    /**
+     * the label positions moved by half an interval, only set with centered labels
+     */
+    public float[] mCenteredEntries = new float[]{};
+
+    /**
+     * the number of label positions
+     */
+    public int mEntryCount;
+
+    /**
+     * the number of decimal digits needed to tell the labels apart
+     */
+    public int mDecimals;
+
+    /**
+     * Sets up the axis values. Computes the desired number of labels between the two given
+     * extremes.
+     *
+     * @param min                the minimum value of the axis range
+     * @param max                the maximum value of the axis range
+     * @param labelCount         the desired number of labels
+     * @param granularityEnabled true if the interval must not be smaller than granularity
+     * @param granularity        the minimum interval
+     * @param forceLabels        true if exactly labelCount labels from min to max are used
+     * @param centerLabels       true if the labels are centered between the interval
+     */
+    public void compute(float min, float max, int labelCount, boolean granularityEnabled,
+                        float granularity, boolean forceLabels, boolean centerLabels) {
+
+        float yMin = min;
+        float yMax = max;
+
+        double range = Math.abs(yMax - yMin);
+
+        if (labelCount == 0 || range <= 0 || Double.isInfinite(range)) {
+            mEntries = new float[]{};
+            mCenteredEntries = new float[]{};
+            mEntryCount = 0;
+            return;
+        }
+
+        // Find out how much spacing (in y value space) between axis values
+        double rawInterval = range / labelCount;
+        double interval = ChartMath.roundToNextSignificant(rawInterval);
+
+        // If granularity is enabled, then do not allow the interval to go below specified granularity.
+        // This is used to avoid repeated values when rounding values for display.
+        if (granularityEnabled)
+            interval = interval < granularity ? granularity : interval;
+
+        // Normalize interval
+        double intervalMagnitude = ChartMath.roundToNextSignificant(Math.pow(10, (int) Math.log10(interval)));
+        int intervalSigDigit = (int) (interval / intervalMagnitude);
+        if (intervalSigDigit > 5) {
+            // Use one order of magnitude higher, to avoid intervals like 0.9 or 90
+            // if it's 0.0 after floor(), we use the old value
+            interval = Math.floor(10.0 * intervalMagnitude) == 0.0
+                    ? interval
+                    : Math.floor(10.0 * intervalMagnitude);
+
+        }
+
+        int n = centerLabels ? 1 : 0;
+
+        // force label count
+        if (forceLabels) {
+
+            interval = (float) range / (float) (labelCount - 1);
+            mEntryCount = labelCount;
+
+            if (mEntries.length < labelCount) {
+                // Ensure stops contains at least numStops elements.
+                mEntries = new float[labelCount];
+            }
+
+            float v = min;
+
+            for (int i = 0; i < labelCount; i++) {
+                mEntries[i] = v;
+                v += interval;
+            }
+
+            n = labelCount;
+
+            // no forced count
+        } else {
+
+            double first = interval == 0.0 ? 0.0 : Math.ceil(yMin / interval) * interval;
+            if (centerLabels) {
+                first -= interval;
+            }
+
+            double last = interval == 0.0 ? 0.0 : ChartMath.nextUp(Math.floor(yMax / interval) * interval);
+
+            double f;
+            int i;
+
+            if (interval != 0.0 && last != first) {
+                for (f = first; f <= last; f += interval) {
+                    ++n;
+                }
+            }
+            else if (last == first && n == 0) {
+                n = 1;
+            }
+
+            mEntryCount = n;
+
+            if (mEntries.length < n) {
+                // Ensure stops contains at least numStops elements.
+                mEntries = new float[n];
+            }
+
+            for (f = first, i = 0; i < n; f += interval, ++i) {
+
+                if (f == 0.0) // Fix for negative zero case (Where value == -0.0, and 0.0 == -0.0)
+                    f = 0.0;
+
+                mEntries[i] = (float) f;
+            }
+        }
+
+        // set decimals
+        if (interval < 1) {
+            mDecimals = (int) Math.ceil(-Math.log10(interval));
+        } else {
+            mDecimals = 0;
+        }
+
+        if (centerLabels) {
+
+            if (mCenteredEntries.length < n) {
+                mCenteredEntries = new float[n];
+            }
+
+            float offset = (float) interval / 2f;
+
+            for (int i = 0; i < n; i++) {
+                mCenteredEntries[i] = mEntries[i] + offset;
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.mikephil.charting.math;
+
+/**
+ * Number helpers used for axis and label calculations.
+ */
+public final class ChartMath {
+
+    private ChartMath() {
+    }
+
+    /**
+     * rounds the given number to the next significant number
+     *
+     * @param number
+     * @return
+     */
+    public static float roundToNextSignificant(double number) {
+        if (Double.isInfinite(number) ||
+            Double.isNaN(number) ||
+            number == 0.0)
+            return 0;
+
+        final float d = (float) Math.ceil((float) Math.log10(number < 0 ? -number : number));
+        final int pw = 1 - (int) d;
+        final float magnitude = (float) Math.pow(10, pw);
+        final long shifted = Math.round(number * magnitude);
+        return shifted / magnitude;
+    }
+
+    /**
+     * Returns the appropriate number of decimals to be used for the provided
+     * number.
+     *
+     * @param number
+     * @return
+     */
+    public static int getDecimals(float number) {
+
+        float i = roundToNextSignificant(number);
+
+        if (Float.isInfinite(i))
+            return 0;
+
+        return (int) Math.ceil(-Math.log10(i)) + 2;
+    }
+
+    /**
+     * Replacement for the Math.nextUp(...) method that is only available in
+     * HONEYCOMB and higher.
+     *
+     * @param d
+     * @return
+     */
+    public static double nextUp(double d) {
+        if (d == Double.POSITIVE_INFINITY)
+            return d;
+        else {
+            d += 0.0d;
+            return Double.longBitsToDouble(Double.doubleToRawLongBits(d) +
+                    ((d >= 0.0d) ? +1L : -1L));
+        }
+    }
+}
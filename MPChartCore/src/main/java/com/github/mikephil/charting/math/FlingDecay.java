@@ -0,0 +1,178 @@
+package com.github.mikephil.charting.math;
+
+/**
+ * Exponential decay of the velocity of a fling. The friction coefficient is the factor the velocity
+ * is multiplied with per frame at 60 frames per second, as the charts did before when stepping the
+ * deceleration per frame. The distance travelled is computed from the elapsed time, so the path of
+ * the fling does not depend on how often or how regularly it is sampled, and its end position is
+ * known when it starts.
+ */
+public class FlingDecay {
+
+    /**
+     * the frame duration the friction coefficient refers to, in seconds
+     */
+    private static final double FRAME_SECONDS = 1.0 / 60.0;
+
+    private float mVelocityX;
+    private float mVelocityY;
+
+    /**
+     * the decay rate of the velocity, per second
+     */
+    private double mDecayRate;
+
+    /**
+     * the duration of the fling, in seconds
+     */
+    private double mDuration;
+
+    private long mStartTime;
+
+    /**
+     * the velocity below which the fling ends, in units per second
+     */
+    private float mMinVelocity = 1f;
+
+    private float mOffsetX;
+    private float mOffsetY;
+
+    private boolean mFinished = true;
+
+    /**
+     * Starts a fling with the given velocity.
+     *
+     * @param velocityX    in units per second
+     * @param velocityY    in units per second
+     * @param frictionCoef the factor the velocity is multiplied with per frame, between 0 and 1
+     * @param time         the start time in milliseconds, e.g. AnimationUtils.currentAnimationTimeMillis()
+     */
+    public void start(float velocityX, float velocityY, float frictionCoef, long time) {
+
+        mVelocityX = velocityX;
+        mVelocityY = velocityY;
+        mStartTime = time;
+        mOffsetX = 0f;
+        mOffsetY = 0f;
+
+        double velocity = Math.max(Math.abs(velocityX), Math.abs(velocityY));
+
+        if (frictionCoef <= 0f || frictionCoef >= 1f || velocity <= mMinVelocity) {
+            mDuration = 0.0;
+            mDecayRate = Double.POSITIVE_INFINITY;
+            mFinished = true;
+            return;
+        }
+
+        mDecayRate = -Math.log(frictionCoef) / FRAME_SECONDS;
+        mDuration = Math.log(velocity / mMinVelocity) / mDecayRate;
+        mFinished = false;
+    }
+
+    /**
+     * Computes the offset of the fling at the given time. Returns false if the fling was already
+     * finished, true otherwise, also when the fling reaches its end at the given time.
+     *
+     * @param time in milliseconds
+     * @return
+     */
+    public boolean computeOffset(long time) {
+
+        if (mFinished)
+            return false;
+
+        double t = Math.max(0.0, (time - mStartTime) / 1000.0);
+
+        if (t >= mDuration) {
+            t = mDuration;
+            mFinished = true;
+        }
+
+        double distance = getDistanceFactor(t);
+
+        mOffsetX = (float) (mVelocityX * distance);
+        mOffsetY = (float) (mVelocityY * distance);
+
+        return true;
+    }
+
+    /**
+     * Returns the distance travelled per unit of start velocity after the given number of seconds.
+     */
+    private double getDistanceFactor(double t) {
+
+        if (Double.isInfinite(mDecayRate))
+            return 0.0;
+
+        return (1.0 - Math.exp(-mDecayRate * t)) / mDecayRate;
+    }
+
+    /**
+     * Stops the fling at its current offset.
+     */
+    public void abort() {
+        mFinished = true;
+    }
+
+    public boolean isFinished() {
+        return mFinished;
+    }
+
+    /**
+     * Returns the x-distance travelled since the start, as of the last computeOffset(...).
+     *
+     * @return
+     */
+    public float getOffsetX() {
+        return mOffsetX;
+    }
+
+    /**
+     * Returns the y-distance travelled since the start, as of the last computeOffset(...).
+     *
+     * @return
+     */
+    public float getOffsetY() {
+        return mOffsetY;
+    }
+
+    /**
+     * Returns the x-distance the fling travels in total.
+     *
+     * @return
+     */
+    public float getFinalOffsetX() {
+        return (float) (mVelocityX * getDistanceFactor(mDuration));
+    }
+
+    /**
+     * Returns the y-distance the fling travels in total.
+     *
+     * @return
+     */
+    public float getFinalOffsetY() {
+        return (float) (mVelocityY * getDistanceFactor(mDuration));
+    }
+
+    /**
+     * Returns the duration of the fling in milliseconds.
+     *
+     * @return
+     */
+    public long getDuration() {
+        return (long) Math.ceil(mDuration * 1000.0);
+    }
+
+    /**
+     * Sets the velocity below which a fling ends, in units per second. Default: 1
+     *
+     * @param velocity
+     */
+    public void setMinVelocity(float velocity) {
+        mMinVelocity = Math.max(velocity, Float.MIN_VALUE);
+    }
+
+    public float getMinVelocity() {
+        return mMinVelocity;
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.mikephil.charting.math;
+
+/**
+ * The unit vectors of count directions that are stepAngle degrees apart, starting at a rotation
+ * angle, as used for the axes of radar charts. The angles without the rotation are only computed
+ * when the count or the step angle change, a new rotation only needs one sine and cosine.
+ */
+public class PolarTable {
+
+    private int mCount = 0;
+    private float mStepAngle = Float.NaN;
+    private float mRotationAngle = Float.NaN;
+
+    /**
+     * the unit vectors without rotation
+     */
+    private double[] mBaseCos = new double[0];
+    private double[] mBaseSin = new double[0];
+
+    /**
+     * the rotated unit vectors
+     */
+    private float[] mCos = new float[0];
+    private float[] mSin = new float[0];
+
+    /**
+     * Returns true if this table holds at least count directions with the given step angle,
+     * regardless of the rotation.
+     *
+     * @param count
+     * @param stepAngle
+     * @return
+     */
+    public boolean covers(int count, float stepAngle) {
+        return count <= mCount && stepAngle == mStepAngle;
+    }
+
+    /**
+     * Makes the table hold count directions with the given step angle, starting at the given
+     * rotation angle, all in degrees. Does nothing if the table already holds those.
+     *
+     * @param count
+     * @param stepAngle
+     * @param rotationAngle
+     */
+    public void update(int count, float stepAngle, float rotationAngle) {
+
+        boolean baseChanged = !covers(count, stepAngle);
+
+        if (baseChanged) {
+
+            if (mBaseCos.length < count) {
+                mBaseCos = new double[count];
+                mBaseSin = new double[count];
+                mCos = new float[count];
+                mSin = new float[count];
+            }
+
+            for (int i = 0; i < count; i++) {
+                double angle = Math.toRadians(stepAngle * i);
+                mBaseCos[i] = Math.cos(angle);
+                mBaseSin[i] = Math.sin(angle);
+            }
+
+            mCount = count;
+            mStepAngle = stepAngle;
+        }
+
+        if (baseChanged || rotationAngle != mRotationAngle) {
+
+            double rotation = Math.toRadians(rotationAngle);
+            double cos = Math.cos(rotation);
+            double sin = Math.sin(rotation);
+
+            for (int i = 0; i < mCount; i++) {
+                mCos[i] = (float) (mBaseCos[i] * cos - mBaseSin[i] * sin);
+                mSin[i] = (float) (mBaseSin[i] * cos + mBaseCos[i] * sin);
+            }
+
+            mRotationAngle = rotationAngle;
+        }
+    }
+
+    /**
+     * Returns the number of directions in the table.
+     *
+     * @return
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * Returns the cosine of the direction at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float cos(int index) {
+        return mCos[index];
+    }
+
+    /**
+     * Returns the sine of the direction at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float sin(int index) {
+        return mSin[index];
+    }
+}
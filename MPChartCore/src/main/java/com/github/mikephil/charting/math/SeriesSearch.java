@@ -0,0 +1,149 @@
+package com.github.mikephil.charting.math;
+
+/**
+ * Binary search on series sorted by x.
+ */
+public final class SeriesSearch {
+
+    /**
+     * Determines how to round an x-value that lies between two points of a series.
+     */
+    public enum Rounding {
+        UP,
+        DOWN,
+        CLOSEST,
+    }
+
+    private SeriesSearch() {
+    }
+
+    /**
+     * Returns the index of the point closest to the given x-value, or -1 if the series is empty.
+     * If there are multiple points with that x-value, the one closest to closestToY is returned,
+     * pass Float.NaN to ignore the y-value.
+     *
+     * @param series
+     * @param xValue     the x-value to search for
+     * @param closestToY if there are multiple points with the same x-value, the one closest to
+     *                   this y-value is returned
+     * @param rounding   determine whether to round up / down / closest if there is no point at
+     *                   exactly xValue
+     * @return
+     */
+    public static int getIndex(XYSeries series, float xValue, float closestToY,
+                               Rounding rounding) {
+
+        final int size = series.getPointCount();
+
+        if (size == 0)
+            return -1;
+
+        int low = 0;
+        int high = size - 1;
+        int closest = high;
+
+        while (low < high) {
+            int m = (low + high) / 2;
+
+            final float d1 = series.getPointX(m) - xValue,
+                    d2 = series.getPointX(m + 1) - xValue,
+                    ad1 = Math.abs(d1), ad2 = Math.abs(d2);
+
+            if (ad2 < ad1) {
+                // [m + 1] is closer to xValue
+                // Search in an higher place
+                low = m + 1;
+            } else if (ad1 < ad2) {
+                // [m] is closer to xValue
+                // Search in a lower place
+                high = m;
+            } else {
+                // We have multiple sequential x-value with same distance
+
+                if (d1 >= 0.0) {
+                    // Search in a lower place
+                    high = m;
+                } else if (d1 < 0.0) {
+                    // Search in an higher place
+                    low = m + 1;
+                }
+            }
+
+            closest = high;
+        }
+
+        if (closest != -1) {
+            float closestXValue = series.getPointX(closest);
+            if (rounding == Rounding.UP) {
+                // If rounding up, and found x-value is lower than specified x, and we can go upper...
+                if (closestXValue < xValue && closest < size - 1) {
+                    ++closest;
+                }
+            } else if (rounding == Rounding.DOWN) {
+                // If rounding down, and found x-value is upper than specified x, and we can go lower...
+                if (closestXValue > xValue && closest > 0) {
+                    --closest;
+                }
+            }
+
+            // Search by closest to y-value
+            if (!Float.isNaN(closestToY)) {
+                while (closest > 0 && series.getPointX(closest - 1) == closestXValue)
+                    closest -= 1;
+
+                float closestYValue = series.getPointY(closest);
+                int closestYIndex = closest;
+
+                while (true) {
+                    closest += 1;
+                    if (closest >= size)
+                        break;
+
+                    if (series.getPointX(closest) != closestXValue)
+                        break;
+
+                    if (Math.abs(series.getPointY(closest) - closestToY) <= Math.abs(closestYValue - closestToY)) {
+                        closestYValue = closestToY;
+                        closestYIndex = closest;
+                    }
+                }
+
+                closest = closestYIndex;
+            }
+        }
+
+        return closest;
+    }
+
+    /**
+     * Returns the index of the first point with exactly the given x-value, or -1 if there is
+     * none.
+     *
+     * @param series
+     * @param xValue
+     * @return
+     */
+    public static int getFirstIndexOf(XYSeries series, float xValue) {
+
+        int low = 0;
+        int high = series.getPointCount() - 1;
+
+        while (low <= high) {
+            int m = (high + low) / 2;
+            float x = series.getPointX(m);
+
+            if (xValue == x) {
+                while (m > 0 && series.getPointX(m - 1) == xValue)
+                    m--;
+                return m;
+            }
+
+            if (xValue > x)
+                low = m + 1;
+            else
+                high = m - 1;
+        }
+
+        return -1;
+    }
+}
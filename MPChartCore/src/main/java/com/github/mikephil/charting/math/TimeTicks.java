@@ -0,0 +1,285 @@
+package com.github.mikephil.charting.math;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Computes the label positions of a time axis. The positions are timestamps aligned to the
+ * calendar: the interval between them is a "round" step of a time unit (e.g. 15 minutes, 6 hours,
+ * 1 day, 3 months), and they are multiples of that step in the given time zone. The result array
+ * is reused between calls and only grows, so the valid part of ticks is given by tickCount.
+ */
+public class TimeTicks {
+
+    public static final int MILLISECOND = 0;
+    public static final int SECOND = 1;
+    public static final int MINUTE = 2;
+    public static final int HOUR = 3;
+    public static final int DAY = 4;
+    public static final int MONTH = 5;
+    public static final int YEAR = 6;
+
+    private static final long SECOND_MILLIS = 1000L;
+    private static final long MINUTE_MILLIS = 60L * SECOND_MILLIS;
+    private static final long HOUR_MILLIS = 60L * MINUTE_MILLIS;
+    private static final long DAY_MILLIS = 24L * HOUR_MILLIS;
+
+    /**
+     * the steps between seconds and years, from small to large, given by unit and multiple
+     */
+    private static final int[] STEP_UNITS = new int[]{
+            SECOND, SECOND, SECOND, SECOND, SECOND, SECOND,
+            MINUTE, MINUTE, MINUTE, MINUTE, MINUTE, MINUTE,
+            HOUR, HOUR, HOUR, HOUR, HOUR,
+            DAY, DAY, DAY,
+            MONTH, MONTH, MONTH, MONTH,
+            YEAR
+    };
+
+    private static final int[] STEP_MULTIPLES = new int[]{
+            1, 2, 5, 10, 15, 30,
+            1, 2, 5, 10, 15, 30,
+            1, 2, 3, 6, 12,
+            1, 2, 7,
+            1, 2, 3, 6,
+            1
+    };
+
+    /**
+     * the label positions in milliseconds since the epoch, the first tickCount values are valid
+     */
+    public long[] mTicks = new long[]{};
+
+    /**
+     * the number of label positions
+     */
+    public int mTickCount;
+
+    /**
+     * the unit of the interval between the label positions, e.g. TimeTicks.HOUR
+     */
+    public int mUnit = MILLISECOND;
+
+    /**
+     * the interval between the label positions, in multiples of the unit
+     */
+    public int mStep = 1;
+
+    private Calendar mCalendar;
+
+    /**
+     * Computes the label positions between the two given timestamps.
+     *
+     * @param min         the minimum timestamp of the axis range, in milliseconds
+     * @param max         the maximum timestamp of the axis range, in milliseconds
+     * @param labelCount  the desired number of labels
+     * @param minInterval the minimum interval between labels in milliseconds, 0 for none
+     * @param timeZone    the time zone the positions are aligned in
+     */
+    public void compute(long min, long max, int labelCount, long minInterval, TimeZone timeZone) {
+
+        mTickCount = 0;
+
+        if (labelCount <= 0 || max <= min)
+            return;
+
+        double rawInterval = Math.max((double) (max - min) / labelCount, minInterval);
+
+        chooseStep(rawInterval);
+
+        if (mUnit <= HOUR)
+            computeFixedTicks(min, max, getUnitMillis(mUnit) * mStep, timeZone);
+        else
+            computeCalendarTicks(min, max, timeZone);
+    }
+
+    /**
+     * Sets unit and step to the smallest step that is at least the given interval.
+     *
+     * @param rawInterval
+     */
+    private void chooseStep(double rawInterval) {
+
+        if (rawInterval < SECOND_MILLIS) {
+
+            long step = niceMultiple(rawInterval);
+
+            if (step < SECOND_MILLIS) {
+                mUnit = MILLISECOND;
+                mStep = (int) step;
+                return;
+            }
+        }
+
+        for (int i = 0; i < STEP_UNITS.length; i++) {
+
+            if (getUnitMillis(STEP_UNITS[i]) * STEP_MULTIPLES[i] >= rawInterval) {
+                mUnit = STEP_UNITS[i];
+                mStep = STEP_MULTIPLES[i];
+                return;
+            }
+        }
+
+        mUnit = YEAR;
+        mStep = (int) Math.min(niceMultiple(rawInterval / getUnitMillis(YEAR)), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the smallest of 1, 2, 5, 10, 20, 50, ... that is at least the given value.
+     *
+     * @param value
+     * @return
+     */
+    private static long niceMultiple(double value) {
+
+        long magnitude = 1;
+
+        while (true) {
+
+            if (magnitude >= value)
+                return magnitude;
+            if (2 * magnitude >= value)
+                return 2 * magnitude;
+            if (5 * magnitude >= value)
+                return 5 * magnitude;
+
+            magnitude *= 10;
+        }
+    }
+
+    /**
+     * Returns the length of the given unit in milliseconds, approximate for months and years.
+     *
+     * @param unit
+     * @return
+     */
+    public static long getUnitMillis(int unit) {
+
+        switch (unit) {
+            case SECOND:
+                return SECOND_MILLIS;
+            case MINUTE:
+                return MINUTE_MILLIS;
+            case HOUR:
+                return HOUR_MILLIS;
+            case DAY:
+                return DAY_MILLIS;
+            case MONTH:
+                return 30L * DAY_MILLIS;
+            case YEAR:
+                return 365L * DAY_MILLIS;
+            default:
+                return 1L;
+        }
+    }
+
+    /**
+     * Steps of a fixed length: multiples of the step in local time, which is aligned to full
+     * hours and days because the steps divide them.
+     */
+    private void computeFixedTicks(long min, long max, long step, TimeZone timeZone) {
+
+        // the ticks are aligned in local time, the offset can change in between (daylight saving)
+        long local = floorDiv(min + timeZone.getOffset(min) + step - 1, step) * step;
+        long last = Long.MIN_VALUE;
+
+        for (; ; local += step) {
+
+            long tick = toUtc(local, timeZone);
+
+            if (tick > max)
+                break;
+
+            // local times that are skipped or repeated by an offset change map to the same tick
+            if (tick >= min && tick > last) {
+                addTick(tick);
+                last = tick;
+            }
+        }
+    }
+
+    /**
+     * Returns the timestamp of the given local time of the given time zone.
+     */
+    private static long toUtc(long local, TimeZone timeZone) {
+        long guess = local - timeZone.getOffset(local);
+        return local - timeZone.getOffset(guess);
+    }
+
+    /**
+     * Steps of days, months or years, which vary in length.
+     */
+    private void computeCalendarTicks(long min, long max, TimeZone timeZone) {
+
+        if (mCalendar == null || !mCalendar.getTimeZone().equals(timeZone))
+            mCalendar = Calendar.getInstance(timeZone);
+
+        Calendar cal = mCalendar;
+        cal.setTimeInMillis(min);
+
+        cal.set(Calendar.HOUR_OF_DAY, 0);
+        cal.set(Calendar.MINUTE, 0);
+        cal.set(Calendar.SECOND, 0);
+        cal.set(Calendar.MILLISECOND, 0);
+
+        int field;
+
+        switch (mUnit) {
+            case DAY:
+                field = Calendar.DAY_OF_MONTH;
+
+                if (mStep == 7)
+                    cal.set(Calendar.DAY_OF_WEEK, cal.getFirstDayOfWeek());
+                else
+                    cal.add(Calendar.DAY_OF_MONTH, -((cal.get(Calendar.DAY_OF_MONTH) - 1) % mStep));
+                break;
+
+            case MONTH:
+                field = Calendar.MONTH;
+
+                cal.set(Calendar.DAY_OF_MONTH, 1);
+                cal.add(Calendar.MONTH, -(cal.get(Calendar.MONTH) % mStep));
+                break;
+
+            default:
+                field = Calendar.YEAR;
+
+                cal.set(Calendar.MONTH, Calendar.JANUARY);
+                cal.set(Calendar.DAY_OF_MONTH, 1);
+                cal.add(Calendar.YEAR, -(cal.get(Calendar.YEAR) % mStep));
+                break;
+        }
+
+        while (cal.getTimeInMillis() < min)
+            cal.add(field, mStep);
+
+        long tick;
+
+        while ((tick = cal.getTimeInMillis()) <= max) {
+            addTick(tick);
+            cal.add(field, mStep);
+        }
+    }
+
+    private void addTick(long tick) {
+
+        if (mTickCount == mTicks.length) {
+            long[] ticks = new long[Math.max(8, mTicks.length * 2)];
+            System.arraycopy(mTicks, 0, ticks, 0, mTickCount);
+            mTicks = ticks;
+        }
+
+        mTicks[mTickCount++] = tick;
+    }
+
+    private static long floorDiv(long x, long y) {
+
+        long r = x / y;
+
+        // round towards negative infinity
+        if ((x % y != 0) && ((x ^ y) < 0))
+            r--;
+
+        return r;
+    }
+}
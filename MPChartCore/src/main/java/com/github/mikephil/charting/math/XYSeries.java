@@ -0,0 +1,31 @@
+package com.github.mikephil.charting.math;
+
+/**
+ * Read access to a series of points sorted by x, the input of the search functions in this
+ * package. Implementations usually are thin views on existing entry lists.
+ */
+public interface XYSeries {
+
+    /**
+     * Returns the number of points in the series.
+     *
+     * @return
+     */
+    int getPointCount();
+
+    /**
+     * Returns the x-value of the point at the given index.
+     *
+     * @param index
+     * @return
+     */
+    float getPointX(int index);
+
+    /**
+     * Returns the y-value of the point at the given index.
+     *
+     * @param index
+     * @return
+     */
+    float getPointY(int index);
+}
@@ -0,0 +1,230 @@
+package com.github.mikephil.charting.utils;
+
+/**
+ * Plain Java 2x3 affine matrix used by the Transformer to map values to pixels without going
+ * through android.graphics.Matrix. The element layout follows android.graphics.Matrix:
+ *
+ * <pre>
+ * | scaleX  skewX   transX |
+ * | skewY   scaleY  transY |
+ * </pre>
+ *
+ * The charts only ever scale and translate, so the mapping routines use a shortcut for matrices
+ * without skew.
+ */
+public final class AffineMatrix {
+
+    // indices of the values in a 3x3 android.graphics.Matrix value array
+    private static final int MSCALE_X = 0;
+    private static final int MSKEW_X = 1;
+    private static final int MTRANS_X = 2;
+    private static final int MSKEW_Y = 3;
+    private static final int MSCALE_Y = 4;
+    private static final int MTRANS_Y = 5;
+    private static final int MPERSP_0 = 6;
+    private static final int MPERSP_1 = 7;
+    private static final int MPERSP_2 = 8;
+
+    public float scaleX = 1f;
+    public float skewX = 0f;
+    public float transX = 0f;
+    public float skewY = 0f;
+    public float scaleY = 1f;
+    public float transY = 0f;
+
+    /**
+     * Sets this matrix to identity.
+     */
+    public void reset() {
+        scaleX = 1f;
+        skewX = 0f;
+        transX = 0f;
+        skewY = 0f;
+        scaleY = 1f;
+        transY = 0f;
+    }
+
+    /**
+     * Sets this matrix to a scale followed by a translation.
+     *
+     * @param sx
+     * @param sy
+     * @param tx
+     * @param ty
+     */
+    public void setScaleTranslate(float sx, float sy, float tx, float ty) {
+        scaleX = sx;
+        skewX = 0f;
+        transX = tx;
+        skewY = 0f;
+        scaleY = sy;
+        transY = ty;
+    }
+
+    /**
+     * Sets this matrix from the 9 values of a 3x3 matrix as returned by
+     * android.graphics.Matrix.getValues(...). Returns false and leaves this matrix unchanged if
+     * the values contain a perspective part, which cannot be represented.
+     *
+     * @param values
+     * @return
+     */
+    public boolean setValues(float[] values) {
+
+        if (values[MPERSP_0] != 0f || values[MPERSP_1] != 0f || values[MPERSP_2] != 1f)
+            return false;
+
+        scaleX = values[MSCALE_X];
+        skewX = values[MSKEW_X];
+        transX = values[MTRANS_X];
+        skewY = values[MSKEW_Y];
+        scaleY = values[MSCALE_Y];
+        transY = values[MTRANS_Y];
+        return true;
+    }
+
+    /**
+     * Copies the values of the given matrix into this one.
+     *
+     * @param m
+     */
+    public void set(AffineMatrix m) {
+        scaleX = m.scaleX;
+        skewX = m.skewX;
+        transX = m.transX;
+        skewY = m.skewY;
+        scaleY = m.scaleY;
+        transY = m.transY;
+    }
+
+    /**
+     * Sets this matrix to m * this, so the given matrix is applied after this one.
+     *
+     * @param m
+     */
+    public void postConcat(AffineMatrix m) {
+
+        float sx = m.scaleX * scaleX + m.skewX * skewY;
+        float kx = m.scaleX * skewX + m.skewX * scaleY;
+        float tx = m.scaleX * transX + m.skewX * transY + m.transX;
+        float ky = m.skewY * scaleX + m.scaleY * skewY;
+        float sy = m.skewY * skewX + m.scaleY * scaleY;
+        float ty = m.skewY * transX + m.scaleY * transY + m.transY;
+
+        scaleX = sx;
+        skewX = kx;
+        transX = tx;
+        skewY = ky;
+        scaleY = sy;
+        transY = ty;
+    }
+
+    /**
+     * Writes the inverse of this matrix into the given output matrix. Returns false if this
+     * matrix cannot be inverted.
+     *
+     * @param out
+     * @return
+     */
+    public boolean invert(AffineMatrix out) {
+
+        float det = scaleX * scaleY - skewX * skewY;
+
+        if (det == 0f || Float.isNaN(det) || Float.isInfinite(det))
+            return false;
+
+        float invDet = 1f / det;
+
+        float sx = scaleY * invDet;
+        float kx = -skewX * invDet;
+        float ky = -skewY * invDet;
+        float sy = scaleX * invDet;
+
+        out.transX = -(sx * transX + kx * transY);
+        out.transY = -(ky * transX + sy * transY);
+        out.scaleX = sx;
+        out.skewX = kx;
+        out.skewY = ky;
+        out.scaleY = sy;
+        return true;
+    }
+
+    /**
+     * Returns true if this matrix only scales and translates.
+     *
+     * @return
+     */
+    public boolean isScaleTranslate() {
+        return skewX == 0f && skewY == 0f;
+    }
+
+    public float mapX(float x, float y) {
+        return scaleX * x + skewX * y + transX;
+    }
+
+    public float mapY(float x, float y) {
+        return skewY * x + scaleY * y + transY;
+    }
+
+    /**
+     * Maps all (x, y) pairs of the given array in place.
+     *
+     * @param pts
+     */
+    public void mapPoints(float[] pts) {
+        mapPoints(pts, 0, pts.length, 1f);
+    }
+
+    /**
+     * Maps count floats (count / 2 points) of the given array in place, starting at offset.
+     *
+     * @param pts
+     * @param offset
+     * @param count
+     */
+    public void mapPoints(float[] pts, int offset, int count) {
+        mapPoints(pts, offset, count, 1f);
+    }
+
+    /**
+     * Maps count floats (count / 2 points) of the given array in place, starting at offset. The
+     * y-values are multiplied with phaseY before they are mapped.
+     *
+     * @param pts
+     * @param offset
+     * @param count
+     * @param phaseY
+     */
+    public void mapPoints(float[] pts, int offset, int count, float phaseY) {
+
+        final int end = offset + (count & ~1);
+
+        if (isScaleTranslate()) {
+
+            final float sx = scaleX, tx = transX;
+            final float sy = scaleY * phaseY, ty = transY;
+
+            for (int i = offset; i < end; i += 2) {
+                pts[i] = pts[i] * sx + tx;
+                pts[i + 1] = pts[i + 1] * sy + ty;
+            }
+
+        } else {
+
+            final float kx = skewX * phaseY, sy = scaleY * phaseY;
+
+            for (int i = offset; i < end; i += 2) {
+                float x = pts[i];
+                float y = pts[i + 1];
+                pts[i] = scaleX * x + kx * y + transX;
+                pts[i + 1] = skewY * x + sy * y + transY;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AffineMatrix[" + scaleX + ", " + skewX + ", " + transX + "][" + skewY + ", "
+                + scaleY + ", " + transY + "]";
+    }
+}
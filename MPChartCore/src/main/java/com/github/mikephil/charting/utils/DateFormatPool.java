@@ -0,0 +1,91 @@
+package com.github.mikephil.charting.utils;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Keeps one SimpleDateFormat per pattern, so that formatting timestamps does not create a new
+ * DateFormat per label. All formats use the same locale and time zone. Not thread safe, like the
+ * DateFormats themselves; use one pool per thread.
+ */
+public class DateFormatPool {
+
+    private final HashMap<String, DateFormat> mFormats = new HashMap<>();
+
+    private final Locale mLocale;
+
+    private TimeZone mTimeZone;
+
+    /**
+     * date reused for formatting
+     */
+    private final Date mDate = new Date();
+
+    public DateFormatPool() {
+        this(Locale.getDefault(), TimeZone.getDefault());
+    }
+
+    public DateFormatPool(Locale locale, TimeZone timeZone) {
+        mLocale = locale;
+        mTimeZone = timeZone;
+    }
+
+    /**
+     * Returns the format for the given pattern, creates it if it is not in the pool.
+     *
+     * @param pattern a SimpleDateFormat pattern
+     * @return
+     */
+    public DateFormat getFormat(String pattern) {
+
+        DateFormat format = mFormats.get(pattern);
+
+        if (format == null) {
+            format = new SimpleDateFormat(pattern, mLocale);
+            format.setTimeZone(mTimeZone);
+            mFormats.put(pattern, format);
+        }
+
+        return format;
+    }
+
+    /**
+     * Formats the given timestamp with the format of the given pattern.
+     *
+     * @param pattern a SimpleDateFormat pattern
+     * @param millis  milliseconds since the epoch
+     * @return
+     */
+    public String format(String pattern, long millis) {
+        mDate.setTime(millis);
+        return getFormat(pattern).format(mDate);
+    }
+
+    /**
+     * Changes the time zone of all formats of the pool.
+     *
+     * @param timeZone
+     */
+    public void setTimeZone(TimeZone timeZone) {
+
+        if (timeZone.equals(mTimeZone))
+            return;
+
+        mTimeZone = timeZone;
+
+        for (DateFormat format : mFormats.values())
+            format.setTimeZone(timeZone);
+    }
+
+    public TimeZone getTimeZone() {
+        return mTimeZone;
+    }
+
+    public Locale getLocale() {
+        return mLocale;
+    }
+}
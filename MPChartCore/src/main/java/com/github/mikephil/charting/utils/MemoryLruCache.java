@@ -0,0 +1,197 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A thread safe cache that evicts the least recently used values once the total size of all
+ * values exceeds the maximum size. The size of a value is given by sizeOf(), which counts
+ * values by default, override it to bound the cache by memory instead.
+ */
+public class MemoryLruCache<K, V> {
+
+    private final LinkedHashMap<K, V> mMap = new LinkedHashMap<>(16, 0.75f, true);
+
+    private int mSize;
+    private int mMaxSize;
+
+    private int mHitCount;
+    private int mMissCount;
+    private int mPutCount;
+    private int mEvictionCount;
+
+    /**
+     * @param maxSize the maximum total size of the values, in the unit of sizeOf()
+     */
+    public MemoryLruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0!");
+        }
+        mMaxSize = maxSize;
+    }
+
+    /**
+     * Returns the value for the given key and marks it as recently used, or null if there is
+     * no such value.
+     *
+     * @param key
+     * @return
+     */
+    public synchronized V get(K key) {
+
+        V value = mMap.get(key);
+
+        if (value != null)
+            mHitCount++;
+        else
+            mMissCount++;
+
+        return value;
+    }
+
+    /**
+     * Adds a value to the cache and evicts the least recently used values if the cache is too
+     * large afterwards. Returns the previous value for the key, or null.
+     *
+     * @param key
+     * @param value
+     * @return
+     */
+    public synchronized V put(K key, V value) {
+
+        if (key == null || value == null) {
+            throw new NullPointerException("key and value must not be null!");
+        }
+
+        mPutCount++;
+        mSize += sizeOf(key, value);
+
+        V previous = mMap.put(key, value);
+
+        if (previous != null) {
+            mSize -= sizeOf(key, previous);
+            entryRemoved(key, previous);
+        }
+
+        trimToSize(mMaxSize);
+
+        return previous;
+    }
+
+    /**
+     * Removes the value for the given key, returns it or null if there was none.
+     *
+     * @param key
+     * @return
+     */
+    public synchronized V remove(K key) {
+
+        V previous = mMap.remove(key);
+
+        if (previous != null) {
+            mSize -= sizeOf(key, previous);
+            entryRemoved(key, previous);
+        }
+
+        return previous;
+    }
+
+    /**
+     * Evicts the least recently used values until the total size is at most the given size.
+     *
+     * @param maxSize
+     */
+    public synchronized void trimToSize(int maxSize) {
+
+        Iterator<Map.Entry<K, V>> it = mMap.entrySet().iterator();
+
+        while (mSize > maxSize && it.hasNext()) {
+
+            Map.Entry<K, V> eldest = it.next();
+            it.remove();
+
+            mSize -= sizeOf(eldest.getKey(), eldest.getValue());
+            mEvictionCount++;
+
+            entryRemoved(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * Removes all values.
+     */
+    public synchronized void evictAll() {
+        trimToSize(-1);
+    }
+
+    /**
+     * Changes the maximum size and evicts values if needed.
+     *
+     * @param maxSize
+     */
+    public synchronized void setMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0!");
+        }
+        mMaxSize = maxSize;
+        trimToSize(maxSize);
+    }
+
+    /**
+     * Returns the size of the given value, 1 by default. Must not change while the value is in
+     * the cache.
+     *
+     * @param key
+     * @param value
+     * @return
+     */
+    protected int sizeOf(K key, V value) {
+        return 1;
+    }
+
+    /**
+     * Called when a value was evicted, removed or replaced. Does nothing by default.
+     *
+     * @param key
+     * @param value
+     */
+    protected void entryRemoved(K key, V value) {
+    }
+
+    public synchronized int size() {
+        return mSize;
+    }
+
+    public synchronized int maxSize() {
+        return mMaxSize;
+    }
+
+    public synchronized int getEntryCount() {
+        return mMap.size();
+    }
+
+    public synchronized int getHitCount() {
+        return mHitCount;
+    }
+
+    public synchronized int getMissCount() {
+        return mMissCount;
+    }
+
+    public synchronized int getPutCount() {
+        return mPutCount;
+    }
+
+    public synchronized int getEvictionCount() {
+        return mEvictionCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        int accesses = mHitCount + mMissCount;
+        int hitPercent = accesses != 0 ? (100 * mHitCount / accesses) : 0;
+        return "MemoryLruCache[size=" + mSize + ", maxSize=" + mMaxSize + ", hits=" + mHitCount
+                + ", misses=" + mMissCount + ", hitRate=" + hitPercent + "%]";
+    }
+}
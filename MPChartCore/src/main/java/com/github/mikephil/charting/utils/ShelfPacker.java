@@ -0,0 +1,88 @@
+package com.github.mikephil.charting.utils;
+
+/**
+ * Places rectangles into a fixed area row by row ("shelves"), as used for texture atlases. A
+ * rectangle is placed to the right of the previous one, or on a new shelf below the tallest
+ * rectangle of the current shelf if the row is full.
+ */
+public class ShelfPacker {
+
+    private int mWidth;
+    private int mHeight;
+
+    /**
+     * the left edge of the next rectangle on the current shelf
+     */
+    private int mShelfX;
+
+    /**
+     * the top edge and the height of the current shelf
+     */
+    private int mShelfY;
+    private int mShelfHeight;
+
+    /**
+     * the position of the last rectangle that was added
+     */
+    public int mX;
+    public int mY;
+
+    public ShelfPacker(int width, int height) {
+        mWidth = width;
+        mHeight = height;
+    }
+
+    /**
+     * Reserves space for a rectangle of the given size. If there is enough space left, the
+     * position of the rectangle is stored in mX and mY and true is returned.
+     *
+     * @param width
+     * @param height
+     * @return false if the rectangle does not fit anymore
+     */
+    public boolean add(int width, int height) {
+
+        if (width > mWidth || height > mHeight)
+            return false;
+
+        if (mShelfX + width > mWidth) {
+            // start a new shelf below the current one
+            mShelfY += mShelfHeight;
+            mShelfX = 0;
+            mShelfHeight = 0;
+        }
+
+        if (mShelfY + height > mHeight)
+            return false;
+
+        mX = mShelfX;
+        mY = mShelfY;
+
+        mShelfX += width;
+        mShelfHeight = Math.max(mShelfHeight, height);
+
+        return true;
+    }
+
+    /**
+     * Removes all rectangles and changes the size of the area.
+     *
+     * @param width
+     * @param height
+     */
+    public void reset(int width, int height) {
+        mWidth = width;
+        mHeight = height;
+        mShelfX = 0;
+        mShelfY = 0;
+        mShelfHeight = 0;
+    }
+
+    public int getWidth() {
+        return mWidth;
+    }
+
+    public int getHeight() {
+        return mHeight;
+    }
+}
@@ -0,0 +1,198 @@
+package com.github.mikephil.charting.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Small process-wide pool of worker threads used by the renderers to prepare the geometry of
+ * several DataSets in parallel. A call to runAll(...) distributes the indices 0 .. count - 1 over
+ * the workers and the calling thread and returns once all of them have been processed, so the
+ * caller can issue its canvas calls right afterwards. Calls are serialized, the pool does not
+ * allocate per call.
+ */
+public final class WorkerPool {
+
+    /**
+     * Unit of work executed for every index passed to runAll(...). Implementations must be safe to
+     * call concurrently for different indices.
+     */
+    public interface Task {
+
+        /**
+         * Processes the item at the given index.
+         *
+         * @param index
+         */
+        void run(int index);
+    }
+
+    private static WorkerPool sInstance;
+
+    /**
+     * Returns the shared pool, it uses one worker less than there are available processors
+     * because the calling thread takes part in the work as well.
+     *
+     * @return
+     */
+    public static synchronized WorkerPool getInstance() {
+        if (sInstance == null)
+            sInstance = new WorkerPool(Runtime.getRuntime().availableProcessors() - 1);
+        return sInstance;
+    }
+
+    private final Executor mExecutor;
+
+    private final int mWorkerCount;
+
+    private final AtomicInteger mNextIndex = new AtomicInteger();
+
+    private final Object mLock = new Object();
+
+    private Task mTask;
+
+    private int mCount;
+
+    /**
+     * number of workers that have not finished the current call yet, guarded by mLock
+     */
+    private int mActiveWorkers;
+
+    /**
+     * first exception thrown by a worker during the current call, guarded by mLock
+     */
+    private RuntimeException mWorkerException;
+
+    private final Runnable mWorker = new Runnable() {
+        @Override
+        public void run() {
+
+            RuntimeException exception = null;
+
+            try {
+                work();
+            } catch (RuntimeException e) {
+                exception = e;
+            }
+
+            synchronized (mLock) {
+                if (exception != null && mWorkerException == null)
+                    mWorkerException = exception;
+
+                mActiveWorkers--;
+                mLock.notifyAll();
+            }
+        }
+    };
+
+    /**
+     * Creates a pool with the given number of daemon worker threads. A pool without workers runs
+     * every task on the calling thread.
+     *
+     * @param workerCount
+     */
+    public WorkerPool(int workerCount) {
+
+        mWorkerCount = Math.max(0, workerCount);
+
+        if (mWorkerCount > 0) {
+            mExecutor = Executors.newFixedThreadPool(mWorkerCount, new ThreadFactory() {
+
+                private final AtomicInteger mThreadCount = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "MPChart-Worker-" + mThreadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        } else {
+            mExecutor = null;
+        }
+    }
+
+    /**
+     * Returns the number of worker threads, not counting the calling thread.
+     *
+     * @return
+     */
+    public int getWorkerCount() {
+        return mWorkerCount;
+    }
+
+    /**
+     * Runs the given task for all indices from 0 to count - 1 and blocks until every index has been
+     * processed. If a task throws, the first exception is rethrown on the calling thread after all
+     * workers have stopped.
+     *
+     * @param task
+     * @param count
+     */
+    public synchronized void runAll(Task task, int count) {
+
+        if (count < 2 || mWorkerCount == 0) {
+            for (int i = 0; i < count; i++)
+                task.run(i);
+            return;
+        }
+
+        mTask = task;
+        mCount = count;
+        mNextIndex.set(0);
+
+        int workers = Math.min(mWorkerCount, count - 1);
+
+        synchronized (mLock) {
+            mActiveWorkers = workers;
+            mWorkerException = null;
+        }
+
+        for (int i = 0; i < workers; i++)
+            mExecutor.execute(mWorker);
+
+        RuntimeException exception = null;
+
+        try {
+            work();
+        } catch (RuntimeException e) {
+            exception = e;
+        }
+
+        boolean interrupted = false;
+
+        synchronized (mLock) {
+            while (mActiveWorkers > 0) {
+                try {
+                    mLock.wait();
+                } catch (InterruptedException e) {
+                    // the workers still use the shared state, keep waiting
+                    interrupted = true;
+                }
+            }
+
+            if (exception == null)
+                exception = mWorkerException;
+
+            mWorkerException = null;
+        }
+
+        mTask = null;
+
+        if (interrupted)
+            Thread.currentThread().interrupt();
+
+        if (exception != null)
+            throw exception;
+    }
+
+    private void work() {
+
+        int index;
+
+        while ((index = mNextIndex.getAndIncrement()) < mCount) {
+            mTask.run(index);
+        }
+    }
+}
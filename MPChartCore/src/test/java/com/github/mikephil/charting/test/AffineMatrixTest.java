@@ -0,0 +1,93 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.utils.AffineMatrix;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class AffineMatrixTest {
+
+    @Test
+    public void testConcatAndMap() {
+
+        // value matrix: translate(-10, -5) followed by scale(2, -4)
+        AffineMatrix m = new AffineMatrix();
+        m.setScaleTranslate(2f, -4f, -20f, 20f);
+
+        // touch matrix: zoomed in 2x on x, dragged 30px to the left
+        AffineMatrix touch = new AffineMatrix();
+        touch.setScaleTranslate(2f, 1f, -30f, 0f);
+
+        // offset matrix
+        AffineMatrix offset = new AffineMatrix();
+        offset.setScaleTranslate(1f, 1f, 15f, 300f);
+
+        m.postConcat(touch);
+        m.postConcat(offset);
+
+        float[] pts = new float[]{10f, 5f, 20f, 15f, 99f};
+
+        m.mapPoints(pts, 0, 4);
+
+        assertEquals(-15f, pts[0], 0.001f);
+        assertEquals(300f, pts[1], 0.001f);
+        assertEquals(25f, pts[2], 0.001f);
+        assertEquals(260f, pts[3], 0.001f);
+
+        // values outside the range stay untouched
+        assertEquals(99f, pts[4], 0.001f);
+
+        // phaseY is applied to the y-values before mapping
+        pts = new float[]{20f, 15f};
+        m.mapPoints(pts, 0, 2, 0.5f);
+
+        assertEquals(25f, pts[0], 0.001f);
+        assertEquals(290f, pts[1], 0.001f);
+    }
+
+    @Test
+    public void testInvert() {
+
+        AffineMatrix m = new AffineMatrix();
+        m.setScaleTranslate(3f, -2f, 7f, 100f);
+
+        AffineMatrix skew = new AffineMatrix();
+        skew.setValues(new float[]{1f, 0.5f, 0f, 0.25f, 1f, 0f, 0f, 0f, 1f});
+        m.postConcat(skew);
+
+        assertFalse(m.isScaleTranslate());
+
+        AffineMatrix inverse = new AffineMatrix();
+        assertTrue(m.invert(inverse));
+
+        float[] pts = new float[]{12.5f, -3f, 0f, 40f};
+        m.mapPoints(pts);
+        inverse.mapPoints(pts);
+
+        assertEquals(12.5f, pts[0], 0.001f);
+        assertEquals(-3f, pts[1], 0.001f);
+        assertEquals(0f, pts[2], 0.001f);
+        assertEquals(40f, pts[3], 0.001f);
+
+        AffineMatrix singular = new AffineMatrix();
+        singular.setScaleTranslate(0f, 1f, 0f, 0f);
+        assertFalse(singular.invert(inverse));
+    }
+
+    @Test
+    public void testPerspectiveRejected() {
+
+        AffineMatrix m = new AffineMatrix();
+
+        assertFalse(m.setValues(new float[]{2f, 0f, 0f, 0f, 2f, 0f, 0.1f, 0f, 1f}));
+
+        // left unchanged
+        assertEquals(1f, m.scaleX, 0f);
+        assertTrue(m.setValues(new float[]{2f, 0f, 5f, 0f, 3f, 6f, 0f, 0f, 1f}));
+        assertEquals(5f, m.mapX(0f, 0f), 0f);
+        assertEquals(9f, m.mapY(0f, 1f), 0f);
+    }
+}
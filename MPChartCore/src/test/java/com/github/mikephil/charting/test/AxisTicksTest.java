@@ -0,0 +1,79 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.math.AxisTicks;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class AxisTicksTest {
+
+    @Test
+    public void testCompute() {
+
+        AxisTicks ticks = new AxisTicks();
+        ticks.compute(0, 100, 6, false, 1f, false, false);
+
+        assertEquals(6, ticks.mEntryCount);
+        assertEquals(20, ticks.mEntries[1] - ticks.mEntries[0], 0.01); // interval 20
+        assertEquals(0, ticks.mEntries[0], 0.01);
+        assertEquals(100, ticks.mEntries[5], 0.01);
+        assertEquals(0, ticks.mDecimals);
+
+        ticks = new AxisTicks();
+        ticks.compute(0, 100, 6, true, 50f, false, false);
+
+        assertEquals(3, ticks.mEntryCount);
+        assertEquals(50, ticks.mEntries[1] - ticks.mEntries[0], 0.01); // interval 50
+        assertEquals(100, ticks.mEntries[2], 0.01);
+
+        ticks = new AxisTicks();
+        ticks.compute(0, 0.01f, 5, false, 1f, true, false);
+
+        assertEquals(5, ticks.mEntryCount);
+        assertEquals(0.0025, ticks.mEntries[1] - ticks.mEntries[0], 0.0001);
+        assertEquals(0.01, ticks.mEntries[4], 0.0001);
+        assertEquals(3, ticks.mDecimals);
+
+        ticks = new AxisTicks();
+        ticks.compute(-50, 100, 6, false, 1f, false, false);
+
+        assertEquals(5, ticks.mEntryCount);
+        assertEquals(-30, ticks.mEntries[0], 0.0001);
+        assertEquals(30, ticks.mEntries[2], 0.0001);
+        assertEquals(90, ticks.mEntries[4], 0.0001);
+    }
+
+    @Test
+    public void testCenteredLabels() {
+
+        AxisTicks ticks = new AxisTicks();
+        ticks.compute(0, 100, 6, false, 1f, false, true);
+
+        // starts one interval below the range
+        assertEquals(8, ticks.mEntryCount);
+        assertEquals(-20, ticks.mEntries[0], 0.01);
+        assertEquals(-10, ticks.mCenteredEntries[0], 0.01);
+        assertEquals(130, ticks.mCenteredEntries[7], 0.01);
+    }
+
+    @Test
+    public void testArraysAreReused() {
+
+        AxisTicks ticks = new AxisTicks();
+        ticks.compute(0, 100, 6, false, 1f, false, false);
+
+        float[] entries = ticks.mEntries;
+
+        ticks.compute(0, 50, 6, false, 1f, false, false);
+
+        assertEquals(entries, ticks.mEntries);
+        assertEquals(6, ticks.mEntryCount);
+        assertEquals(50, ticks.mEntries[5], 0.01);
+
+        // an empty range has no labels
+        ticks.compute(10, 10, 6, false, 1f, false, false);
+
+        assertEquals(0, ticks.mEntryCount);
+    }
+}
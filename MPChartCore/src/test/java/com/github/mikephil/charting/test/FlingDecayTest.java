@@ -0,0 +1,89 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.math.FlingDecay;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class FlingDecayTest {
+
+    @Test
+    public void testSamplingIndependence() {
+
+        FlingDecay smooth = new FlingDecay();
+        FlingDecay janky = new FlingDecay();
+
+        smooth.start(3000f, -1500f, 0.9f, 1000L);
+        janky.start(3000f, -1500f, 0.9f, 1000L);
+
+        // 60 fps
+        for (long t = 1000L; t <= 1500L; t += 16L)
+            smooth.computeOffset(t);
+
+        // a few dropped frames
+        janky.computeOffset(1100L);
+        janky.computeOffset(1400L);
+
+        smooth.computeOffset(1500L);
+        janky.computeOffset(1500L);
+
+        assertEquals(smooth.getOffsetX(), janky.getOffsetX(), 0.001f);
+        assertEquals(smooth.getOffsetY(), janky.getOffsetY(), 0.001f);
+
+        // v0 / rate * (1 - e^(-rate * t)), with rate = -ln(0.9) * 60 per second
+        double rate = -Math.log(0.9) * 60.0;
+        assertEquals((float) (3000.0 / rate * (1.0 - Math.exp(-rate * 0.5))), smooth.getOffsetX(), 0.01f);
+    }
+
+    @Test
+    public void testEnd() {
+
+        FlingDecay fling = new FlingDecay();
+        fling.start(3000f, 0f, 0.9f, 0L);
+
+        assertFalse(fling.isFinished());
+
+        long duration = fling.getDuration();
+        float finalX = fling.getFinalOffsetX();
+
+        assertTrue(fling.computeOffset(duration / 2));
+        assertTrue(fling.getOffsetX() < finalX);
+
+        // the last step ends the fling at its final offset
+        assertTrue(fling.computeOffset(duration + 1000L));
+        assertTrue(fling.isFinished());
+        assertEquals(finalX, fling.getOffsetX(), 0.0001f);
+
+        assertFalse(fling.computeOffset(duration + 2000L));
+
+        // the remaining distance is below one pixel when the velocity drops below 1 per second
+        double rate = -Math.log(0.9) * 60.0;
+        assertEquals(3000.0 / rate, finalX, 1.0);
+    }
+
+    @Test
+    public void testNoFling() {
+
+        FlingDecay fling = new FlingDecay();
+
+        fling.start(3000f, 3000f, 0f, 0L);
+        assertTrue(fling.isFinished());
+        assertEquals(0f, fling.getFinalOffsetX());
+
+        fling.start(0.5f, 0f, 0.9f, 0L);
+        assertTrue(fling.isFinished());
+
+        fling.start(3000f, 0f, 0.9f, 0L);
+        fling.computeOffset(100L);
+
+        float offset = fling.getOffsetX();
+
+        fling.abort();
+
+        assertFalse(fling.computeOffset(200L));
+        assertEquals(offset, fling.getOffsetX());
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.utils.MemoryLruCache;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+public class MemoryLruCacheTest {
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+
+        MemoryLruCache<String, String> cache = new MemoryLruCache<>(3);
+
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.put("c", "C");
+
+        // "a" is now the most recently used value
+        assertEquals("A", cache.get("a"));
+
+        cache.put("d", "D");
+
+        assertNull(cache.get("b"));
+        assertEquals("A", cache.get("a"));
+        assertEquals("C", cache.get("c"));
+        assertEquals("D", cache.get("d"));
+
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(4, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testSizeOf() {
+
+        final List<String> removed = new ArrayList<>();
+
+        MemoryLruCache<String, int[]> cache = new MemoryLruCache<String, int[]>(10) {
+            @Override
+            protected int sizeOf(String key, int[] value) {
+                return value.length;
+            }
+
+            @Override
+            protected void entryRemoved(String key, int[] value) {
+                removed.add(key);
+            }
+        };
+
+        cache.put("a", new int[4]);
+        cache.put("b", new int[4]);
+        assertEquals(8, cache.size());
+
+        cache.put("c", new int[4]);
+        assertEquals(8, cache.size());
+        assertEquals(2, cache.getEntryCount());
+        assertEquals("a", removed.get(0));
+
+        // replacing a value changes the size
+        cache.put("b", new int[1]);
+        assertEquals(5, cache.size());
+        assertEquals("b", removed.get(1));
+
+        cache.setMaxSize(4);
+        assertEquals(1, cache.size());
+        assertNull(cache.get("c"));
+
+        cache.evictAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getEntryCount());
+    }
+}
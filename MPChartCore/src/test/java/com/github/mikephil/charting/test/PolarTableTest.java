@@ -0,0 +1,59 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.math.PolarTable;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class PolarTableTest {
+
+    private static void assertDirections(PolarTable table, int count, float step, float rotation) {
+
+        for (int i = 0; i < count; i++) {
+            double angle = Math.toRadians(step * i + rotation);
+            assertEquals(Math.cos(angle), table.cos(i), 0.00001);
+            assertEquals(Math.sin(angle), table.sin(i), 0.00001);
+        }
+    }
+
+    @Test
+    public void testUpdate() {
+
+        PolarTable table = new PolarTable();
+        table.update(6, 60f, 270f);
+
+        assertEquals(6, table.getCount());
+        assertDirections(table, 6, 60f, 270f);
+
+        // rotating keeps the directions in sync
+        table.update(6, 60f, 33.5f);
+        assertDirections(table, 6, 60f, 33.5f);
+
+        table.update(5, 72f, -10f);
+        assertEquals(5, table.getCount());
+        assertDirections(table, 5, 72f, -10f);
+    }
+
+    @Test
+    public void testCovers() {
+
+        PolarTable table = new PolarTable();
+
+        assertFalse(table.covers(3, 120f));
+
+        table.update(8, 45f, 0f);
+
+        assertTrue(table.covers(8, 45f));
+        assertTrue(table.covers(3, 45f));
+        assertFalse(table.covers(9, 45f));
+        assertFalse(table.covers(8, 40f));
+
+        // a smaller count is served by the larger table
+        table.update(4, 45f, 90f);
+        assertEquals(8, table.getCount());
+        assertDirections(table, 8, 45f, 90f);
+    }
+}
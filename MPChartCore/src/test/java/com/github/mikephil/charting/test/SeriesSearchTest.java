@@ -0,0 +1,68 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.math.SeriesSearch;
+import com.github.mikephil.charting.math.XYSeries;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class SeriesSearchTest {
+
+    private static XYSeries series(final float... xy) {
+        return new XYSeries() {
+            @Override
+            public int getPointCount() {
+                return xy.length / 2;
+            }
+
+            @Override
+            public float getPointX(int index) {
+                return xy[index * 2];
+            }
+
+            @Override
+            public float getPointY(int index) {
+                return xy[index * 2 + 1];
+            }
+        };
+    }
+
+    @Test
+    public void testGetIndex() {
+
+        XYSeries s = series(0, 10, 5, 15, 15, 2, 21, 5);
+
+        assertEquals(2, SeriesSearch.getIndex(s, 17, Float.NaN, SeriesSearch.Rounding.CLOSEST));
+        assertEquals(2, SeriesSearch.getIndex(s, 17, Float.NaN, SeriesSearch.Rounding.DOWN));
+        assertEquals(2, SeriesSearch.getIndex(s, 15, Float.NaN, SeriesSearch.Rounding.DOWN));
+        assertEquals(1, SeriesSearch.getIndex(s, 14, Float.NaN, SeriesSearch.Rounding.DOWN));
+        assertEquals(3, SeriesSearch.getIndex(s, 17, Float.NaN, SeriesSearch.Rounding.UP));
+        assertEquals(3, SeriesSearch.getIndex(s, 21, Float.NaN, SeriesSearch.Rounding.UP));
+        assertEquals(3, SeriesSearch.getIndex(s, 100, Float.NaN, SeriesSearch.Rounding.UP));
+        assertEquals(0, SeriesSearch.getIndex(s, -100, Float.NaN, SeriesSearch.Rounding.DOWN));
+
+        assertEquals(-1, SeriesSearch.getIndex(series(), 1, Float.NaN, SeriesSearch.Rounding.CLOSEST));
+    }
+
+    @Test
+    public void testGetIndexWithDuplicates() {
+
+        XYSeries s = series(0, 10, 5, 5, 5, 50, 5, 100, 10, 1);
+
+        assertEquals(1, SeriesSearch.getIndex(s, 5, 0, SeriesSearch.Rounding.CLOSEST));
+        assertEquals(2, SeriesSearch.getIndex(s, 5, 45, SeriesSearch.Rounding.CLOSEST));
+    }
+
+    @Test
+    public void testGetFirstIndexOf() {
+
+        XYSeries s = series(0, 10, 5, 5, 5, 50, 5, 100, 10, 1);
+
+        assertEquals(0, SeriesSearch.getFirstIndexOf(s, 0));
+        assertEquals(1, SeriesSearch.getFirstIndexOf(s, 5));
+        assertEquals(4, SeriesSearch.getFirstIndexOf(s, 10));
+        assertEquals(-1, SeriesSearch.getFirstIndexOf(s, 7));
+        assertEquals(-1, SeriesSearch.getFirstIndexOf(series(), 7));
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.utils.ShelfPacker;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class ShelfPackerTest {
+
+    @Test
+    public void testAdd() {
+
+        ShelfPacker packer = new ShelfPacker(100, 50);
+
+        assertTrue(packer.add(40, 10));
+        assertEquals(0, packer.mX);
+        assertEquals(0, packer.mY);
+
+        assertTrue(packer.add(40, 20));
+        assertEquals(40, packer.mX);
+        assertEquals(0, packer.mY);
+
+        // does not fit into the first row anymore
+        assertTrue(packer.add(30, 10));
+        assertEquals(0, packer.mX);
+        assertEquals(20, packer.mY);
+
+        assertTrue(packer.add(70, 20));
+        assertEquals(30, packer.mX);
+        assertEquals(20, packer.mY);
+
+        assertFalse(packer.add(10, 20));
+        assertFalse(packer.add(101, 1));
+    }
+
+    @Test
+    public void testReset() {
+
+        ShelfPacker packer = new ShelfPacker(10, 10);
+
+        assertTrue(packer.add(10, 10));
+        assertFalse(packer.add(1, 1));
+
+        packer.reset(20, 10);
+
+        assertTrue(packer.add(10, 10));
+        assertTrue(packer.add(10, 10));
+        assertEquals(10, packer.mX);
+        assertEquals(0, packer.mY);
+        assertEquals(20, packer.getWidth());
+    }
+}
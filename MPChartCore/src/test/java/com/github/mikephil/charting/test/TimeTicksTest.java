@@ -0,0 +1,178 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.TimeScale;
+import com.github.mikephil.charting.math.TimeTicks;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class TimeTicksTest {
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static long utc(int year, int month, int day, int hour, int minute) {
+        Calendar cal = Calendar.getInstance(UTC);
+        cal.clear();
+        cal.set(year, month, day, hour, minute);
+        return cal.getTimeInMillis();
+    }
+
+    @Test
+    public void testFixedSteps() {
+
+        TimeTicks ticks = new TimeTicks();
+
+        // 6 hours, 6 labels: one label per hour at full hours
+        ticks.compute(utc(2020, 0, 1, 0, 10), utc(2020, 0, 1, 6, 10), 6, 0L, UTC);
+
+        assertEquals(TimeTicks.HOUR, ticks.mUnit);
+        assertEquals(1, ticks.mStep);
+        assertEquals(6, ticks.mTickCount);
+        assertEquals(utc(2020, 0, 1, 1, 0), ticks.mTicks[0]);
+        assertEquals(utc(2020, 0, 1, 6, 0), ticks.mTicks[5]);
+
+        // 100 minutes, 5 labels: one label every 30 minutes
+        ticks.compute(utc(2020, 0, 1, 0, 0), utc(2020, 0, 1, 1, 40), 5, 0L, UTC);
+
+        assertEquals(TimeTicks.MINUTE, ticks.mUnit);
+        assertEquals(30, ticks.mStep);
+        assertEquals(4, ticks.mTickCount);
+        assertEquals(utc(2020, 0, 1, 1, 30), ticks.mTicks[3]);
+
+        // the minimum interval wins over the label count
+        ticks.compute(utc(2020, 0, 1, 0, 0), utc(2020, 0, 1, 1, 0), 60, TimeScale.MINUTES * 10, UTC);
+
+        assertEquals(TimeTicks.MINUTE, ticks.mUnit);
+        assertEquals(10, ticks.mStep);
+        assertEquals(7, ticks.mTickCount);
+
+        // sub second ranges
+        ticks.compute(0L, 100L, 5, 0L, UTC);
+
+        assertEquals(TimeTicks.MILLISECOND, ticks.mUnit);
+        assertEquals(20, ticks.mStep);
+        assertEquals(6, ticks.mTickCount);
+    }
+
+    @Test
+    public void testCalendarSteps() {
+
+        TimeTicks ticks = new TimeTicks();
+
+        // two years, 9 labels: one label every quarter, on the first day of the month
+        ticks.compute(utc(2019, 1, 10, 5, 0), utc(2021, 1, 10, 5, 0), 9, 0L, UTC);
+
+        assertEquals(TimeTicks.MONTH, ticks.mUnit);
+        assertEquals(3, ticks.mStep);
+        assertEquals(8, ticks.mTickCount);
+        assertEquals(utc(2019, 3, 1, 0, 0), ticks.mTicks[0]);
+        assertEquals(utc(2019, 6, 1, 0, 0), ticks.mTicks[1]);
+        assertEquals(utc(2021, 0, 1, 0, 0), ticks.mTicks[7]);
+
+        // thirty years, 7 labels: every 5 years
+        ticks.compute(utc(1995, 5, 1, 0, 0), utc(2025, 5, 1, 0, 0), 7, 0L, UTC);
+
+        assertEquals(TimeTicks.YEAR, ticks.mUnit);
+        assertEquals(5, ticks.mStep);
+        assertEquals(utc(2000, 0, 1, 0, 0), ticks.mTicks[0]);
+        assertEquals(utc(2025, 0, 1, 0, 0), ticks.mTicks[ticks.mTickCount - 1]);
+
+        // a week, 7 labels: every day at midnight
+        ticks.compute(utc(2020, 2, 1, 12, 0), utc(2020, 2, 8, 12, 0), 7, 0L, UTC);
+
+        assertEquals(TimeTicks.DAY, ticks.mUnit);
+        assertEquals(1, ticks.mStep);
+        assertEquals(7, ticks.mTickCount);
+        assertEquals(utc(2020, 2, 2, 0, 0), ticks.mTicks[0]);
+
+        // empty range
+        ticks.compute(10L, 10L, 5, 0L, UTC);
+        assertEquals(0, ticks.mTickCount);
+    }
+
+    @Test
+    public void testTimeZoneAlignment() {
+
+        TimeZone zone = TimeZone.getTimeZone("GMT+05:30");
+
+        TimeTicks ticks = new TimeTicks();
+        ticks.compute(utc(2020, 0, 1, 0, 0), utc(2020, 0, 3, 0, 0), 2, 0L, zone);
+
+        assertEquals(TimeTicks.DAY, ticks.mUnit);
+
+        // local midnight
+        Calendar cal = Calendar.getInstance(zone);
+
+        for (int i = 0; i < ticks.mTickCount; i++) {
+            cal.setTimeInMillis(ticks.mTicks[i]);
+            assertEquals(0, cal.get(Calendar.HOUR_OF_DAY));
+            assertEquals(0, cal.get(Calendar.MINUTE));
+        }
+
+        ticks.compute(utc(2020, 0, 1, 0, 0), utc(2020, 0, 1, 12, 0), 2, 0L, zone);
+
+        assertEquals(TimeTicks.HOUR, ticks.mUnit);
+        assertEquals(6, ticks.mStep);
+
+        cal.setTimeInMillis(ticks.mTicks[0]);
+        assertEquals(0, cal.get(Calendar.HOUR_OF_DAY) % 6);
+        assertEquals(0, cal.get(Calendar.MINUTE));
+    }
+
+    @Test
+    public void testDaylightSaving() {
+
+        TimeZone zone = TimeZone.getTimeZone("Europe/Berlin");
+
+        TimeTicks ticks = new TimeTicks();
+
+        // the clocks go forward at 01:00 UTC on March 29th
+        ticks.compute(utc(2020, 2, 28, 20, 0), utc(2020, 2, 29, 20, 0), 4, 0L, zone);
+
+        assertEquals(TimeTicks.HOUR, ticks.mUnit);
+        assertTrue(ticks.mTickCount > 2);
+
+        Calendar cal = Calendar.getInstance(zone);
+
+        for (int i = 0; i < ticks.mTickCount; i++) {
+            cal.setTimeInMillis(ticks.mTicks[i]);
+            assertEquals(0, cal.get(Calendar.HOUR_OF_DAY) % ticks.mStep);
+            assertEquals(0, cal.get(Calendar.MINUTE));
+        }
+
+        // the clocks go back at 01:00 UTC on October 25th
+        ticks.compute(utc(2020, 9, 24, 20, 0), utc(2020, 9, 25, 20, 0), 4, 0L, zone);
+
+        for (int i = 0; i < ticks.mTickCount; i++) {
+            cal.setTimeInMillis(ticks.mTicks[i]);
+            assertEquals(0, cal.get(Calendar.HOUR_OF_DAY) % ticks.mStep);
+
+            if (i > 0)
+                assertTrue(ticks.mTicks[i] > ticks.mTicks[i - 1]);
+        }
+    }
+
+    @Test
+    public void testTimeScale() {
+
+        long base = utc(2000, 0, 1, 0, 0);
+
+        TimeScale scale = new TimeScale(base, TimeScale.MINUTES, UTC);
+
+        // 25 years of minutes are exact integers
+        long t = utc(2025, 11, 31, 23, 59);
+        float x = scale.toX(t);
+
+        assertEquals(t, scale.toMillis(x));
+        assertEquals(x + 1f, scale.toX(t + TimeScale.MINUTES));
+        assertTrue(scale.toX(t + TimeScale.MINUTES) > x);
+
+        assertEquals(0f, scale.toX(base));
+        assertEquals(base - TimeScale.MINUTES, scale.toMillis(-1f));
+    }
+}
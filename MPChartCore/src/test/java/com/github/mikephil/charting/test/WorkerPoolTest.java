@@ -0,0 +1,69 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.utils.WorkerPool;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.fail;
+
+public class WorkerPoolTest {
+
+    @Test
+    public void testRunAll() {
+
+        WorkerPool pool = new WorkerPool(3);
+
+        for (int count : new int[]{0, 1, 2, 7, 1000}) {
+
+            final AtomicIntegerArray calls = new AtomicIntegerArray(Math.max(count, 1));
+
+            pool.runAll(new WorkerPool.Task() {
+                @Override
+                public void run(int index) {
+                    calls.incrementAndGet(index);
+                }
+            }, count);
+
+            for (int i = 0; i < count; i++) {
+                assertEquals(1, calls.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testException() {
+
+        WorkerPool pool = new WorkerPool(2);
+
+        try {
+            pool.runAll(new WorkerPool.Task() {
+                @Override
+                public void run(int index) {
+                    if (index == 5)
+                        throw new IllegalStateException("index 5");
+                }
+            }, 10);
+
+            fail("exception was not propagated");
+        } catch (IllegalStateException e) {
+            assertEquals("index 5", e.getMessage());
+        }
+
+        // the pool is still usable afterwards
+        final AtomicIntegerArray calls = new AtomicIntegerArray(10);
+
+        pool.runAll(new WorkerPool.Task() {
+            @Override
+            public void run(int index) {
+                calls.incrementAndGet(index);
+            }
+        }, 10);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(1, calls.get(i));
+        }
+    }
+}
@@ -12,11 +12,20 @@ import java.util.List;
  */
 public abstract class AbstractBuffer<T> {
 
+    /** the smallest capacity the buffer shrinks to */
+    private static final int MIN_CAPACITY = 16;
+
     /** index in the buffer */
     protected int index = 0;
 
-    /** float-buffer that holds the data points to draw, order: x,y,x,y,... */
-    public final float[] buffer;
+    /**
+     * float-buffer that holds the data points to draw, order: x,y,x,y,... The array grows as
+     * needed and can be longer than the data, only the first size() values are valid.
+     */
+    public float[] buffer;
+
+    /** the number of values written by the last feed */
+    protected int mSize = 0;
 
     /** animation phase x-axis */
     protected float phaseX = 1f;
@@ -31,7 +40,7 @@ public abstract class AbstractBuffer<T> {
     protected int mTo = 0;
 
     /**
-     * Initialization with buffer-size.
+     * Initialization with the initial buffer capacity.
      * 
      * @param size
      */
@@ -62,14 +71,52 @@ public abstract class AbstractBuffer<T> {
     }
 
     /**
-     * Returns the size (length) of the buffer array.
+     * Returns the number of values written to the buffer by the last feed.
      * 
      * @return
      */
     public int size() {
+        return mSize;
+    }
+
+    /**
+     * Returns the length of the buffer array.
+     *
+     * @return
+     */
+    public int capacity() {
         return buffer.length;
     }
 
+    /**
+     * Makes sure the buffer can hold the given number of values. The capacity is at least
+     * doubled when it grows, so appending data does not reallocate the buffer every time.
+     *
+     * @param capacity
+     */
+    public void ensureCapacity(int capacity) {
+
+        if (buffer.length >= capacity)
+            return;
+
+        buffer = new float[Math.max(capacity, buffer.length * 2)];
+    }
+
+    /**
+     * Releases memory if the buffer is a lot larger than the given number of values, e.g. after
+     * most of the data was removed. Keeps twice the needed capacity so that the buffer can grow
+     * again without reallocating.
+     *
+     * @param size the number of values that are needed
+     */
+    public void shrinkTo(int size) {
+
+        int capacity = Math.max(size * 2, MIN_CAPACITY);
+
+        if (buffer.length > capacity * 2)
+            buffer = new float[capacity];
+    }
+
     /**
      * Set the phases used for animations.
      * 
@@ -1,6 +1,7 @@
 
 package com.github.mikephil.charting.buffer;
 
+import com.github.mikephil.charting.data.BarDataSet;
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 
@@ -20,6 +21,14 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         this.mContainsStacks = containsStacks;
     }
 
+    public void setDataSetCount(int dataSetCount) {
+        this.mDataSetCount = dataSetCount;
+    }
+
+    public void setContainsStacks(boolean containsStacks) {
+        this.mContainsStacks = containsStacks;
+    }
+
     public void setBarWidth(float barWidth) {
         this.mBarWidth = barWidth;
     }
@@ -46,6 +55,11 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
+        ensureCapacity((int) Math.ceil(size) * 4 * (mContainsStacks ? data.getStackSize() : 1));
+
+        // stacks are read from the flat stack bounds if the dataset has them
+        BarDataSet stackedSet = mContainsStacks && data instanceof BarDataSet ? (BarDataSet) data : null;
+
         for (int i = 0; i < size; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
@@ -79,6 +93,10 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
 
                 addBar(left, top, right, bottom);
 
+            } else if (stackedSet != null) {
+
+                feedStack(stackedSet, i, vals.length, x, barWidthHalf, e.getNegativeSum());
+
             } else {
 
                 float posY = 0f;
@@ -125,6 +143,66 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
             }
         }
 
+        mSize = index;
         reset();
     }
+
+    /**
+     * Adds the bars of the stacked entry at the given index, read from the stack bounds of the dataset.
+     * The bounds equal the values the stack is filled with in feed(...), except for 0.0 values.
+     *
+     * @param set
+     * @param entryIndex
+     * @param stackCount   the number of stack values of the entry
+     * @param x
+     * @param barWidthHalf
+     * @param negativeSum  the negative sum of the entry
+     */
+    protected void feedStack(BarDataSet set, int entryIndex, int stackCount, float x, float barWidthHalf,
+                             float negativeSum) {
+
+        int offset = set.getStackBoundsOffset(entryIndex);
+        float[] bounds = set.getStackBounds();
+
+        float negY = -negativeSum;
+
+        for (int k = 0; k < stackCount; k++) {
+
+            int i = offset + 1 + k * BarDataSet.STACK_SEGMENT_SIZE;
+
+            float value = bounds[i];
+            float y, yStart;
+
+            // the from bound of a 0.0 value is the positive sum below it
+            if (value == 0.0f && (bounds[i + 1] == 0.0f || negY == 0.0f)) {
+                // Take care of the situation of a 0.0 value, which overlaps a non-zero bar
+                y = value;
+                yStart = y;
+            } else {
+                y = bounds[i + 1];
+                yStart = bounds[i + 2];
+
+                if (value < 0.0f)
+                    negY = yStart;
+            }
+
+            float left = x - barWidthHalf;
+            float right = x + barWidthHalf;
+            float bottom, top;
+
+            if (mInverted) {
+                bottom = y >= yStart ? y : yStart;
+                top = y <= yStart ? y : yStart;
+            } else {
+                top = y >= yStart ? y : yStart;
+                bottom = y <= yStart ? y : yStart;
+            }
+
+            // multiply the height of the rect with the phase
+            top *= phaseY;
+            bottom *= phaseY;
+
+            addBar(left, top, right, bottom);
+        }
+    }
 }
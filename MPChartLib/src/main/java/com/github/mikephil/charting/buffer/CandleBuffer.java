@@ -0,0 +1,229 @@
+package com.github.mikephil.charting.buffer;
+
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+
+/**
+ * Buffer for the candles of a CandleDataSet, grouped by their direction, so that the candles of
+ * each direction can be drawn with a few calls and the whole buffer transformed at once. The buffer
+ * holds the lines of all directions followed by the bodies of all directions. In candle mode each
+ * candle has 8 values of lines (the upper and the lower shadow) and 4 values of body (left, close,
+ * right, open). In OHLC bar mode each candle has 12 values of lines (the range, the open and the
+ * close tick) and no body.
+ */
+public class CandleBuffer extends AbstractBuffer<ICandleDataSet> {
+
+    public static final int DECREASING = 0;
+    public static final int INCREASING = 1;
+    public static final int NEUTRAL = 2;
+
+    public static final int DIRECTION_COUNT = 3;
+
+    protected boolean mShowCandleBar = true;
+
+    /** space on the left and right of the body, in values (not pixels) */
+    protected float mBarSpace = 0.1f;
+
+    /**
+     * the entry index of each candle, the candles of a direction follow each other starting at
+     * getCandleOffset(direction)
+     */
+    public int[] entryIndices;
+
+    /** the number of candles per direction */
+    protected final int[] mCounts = new int[DIRECTION_COUNT];
+
+    protected final int[] mCandleOffsets = new int[DIRECTION_COUNT];
+    protected final int[] mLineOffsets = new int[DIRECTION_COUNT];
+    protected final int[] mBodyOffsets = new int[DIRECTION_COUNT];
+
+    /** the number of candles per direction written so far during feed */
+    private final int[] mFilled = new int[DIRECTION_COUNT];
+
+    public CandleBuffer(int size) {
+        super(size);
+        entryIndices = new int[Math.max(size / 12, 1)];
+    }
+
+    public void setShowCandleBar(boolean showCandleBar) {
+        this.mShowCandleBar = showCandleBar;
+    }
+
+    public void setBarSpace(float barSpace) {
+        this.mBarSpace = barSpace;
+    }
+
+    /**
+     * Returns the number of values of lines per candle.
+     *
+     * @return
+     */
+    public int getLineStride() {
+        return mShowCandleBar ? 8 : 12;
+    }
+
+    /**
+     * Returns the number of values of body per candle.
+     *
+     * @return
+     */
+    public int getBodyStride() {
+        return mShowCandleBar ? 4 : 0;
+    }
+
+    /**
+     * Returns the number of candles of the given direction.
+     *
+     * @param direction DECREASING, INCREASING or NEUTRAL
+     * @return
+     */
+    public int getCount(int direction) {
+        return mCounts[direction];
+    }
+
+    /**
+     * Returns the index in entryIndices of the first candle of the given direction.
+     *
+     * @param direction
+     * @return
+     */
+    public int getCandleOffset(int direction) {
+        return mCandleOffsets[direction];
+    }
+
+    /**
+     * Returns the index in the buffer of the lines of the first candle of the given direction.
+     *
+     * @param direction
+     * @return
+     */
+    public int getLineOffset(int direction) {
+        return mLineOffsets[direction];
+    }
+
+    /**
+     * Returns the index in the buffer of the body of the first candle of the given direction.
+     *
+     * @param direction
+     * @return
+     */
+    public int getBodyOffset(int direction) {
+        return mBodyOffsets[direction];
+    }
+
+    /**
+     * Returns the direction of the given candle.
+     *
+     * @param e
+     * @return
+     */
+    public static int getDirection(CandleEntry e) {
+
+        if (e.getOpen() > e.getClose())
+            return DECREASING;
+        else if (e.getOpen() < e.getClose())
+            return INCREASING;
+        else
+            return NEUTRAL;
+    }
+
+    @Override
+    public void feed(ICandleDataSet data) {
+
+        int to = Math.min(mTo, data.getEntryCount() - 1);
+
+        mCounts[DECREASING] = 0;
+        mCounts[INCREASING] = 0;
+        mCounts[NEUTRAL] = 0;
+
+        for (int i = mFrom; i <= to; i++) {
+
+            CandleEntry e = data.getEntryForIndex(i);
+
+            if (e != null)
+                mCounts[getDirection(e)]++;
+        }
+
+        int lineStride = getLineStride();
+        int bodyStride = getBodyStride();
+
+        int candles = 0;
+        int offset = 0;
+
+        for (int d = 0; d < DIRECTION_COUNT; d++) {
+            mCandleOffsets[d] = candles;
+            mLineOffsets[d] = offset;
+            candles += mCounts[d];
+            offset += mCounts[d] * lineStride;
+        }
+
+        for (int d = 0; d < DIRECTION_COUNT; d++) {
+            mBodyOffsets[d] = offset;
+            offset += mCounts[d] * bodyStride;
+        }
+
+        ensureCapacity(offset);
+        mSize = offset;
+
+        if (entryIndices.length < candles)
+            entryIndices = new int[Math.max(candles, entryIndices.length * 2)];
+
+        mFilled[DECREASING] = 0;
+        mFilled[INCREASING] = 0;
+        mFilled[NEUTRAL] = 0;
+
+        for (int i = mFrom; i <= to; i++) {
+
+            CandleEntry e = data.getEntryForIndex(i);
+
+            if (e == null)
+                continue;
+
+            int direction = getDirection(e);
+            int k = mFilled[direction]++;
+
+            entryIndices[mCandleOffsets[direction] + k] = i;
+
+            final float x = e.getX();
+            final float open = e.getOpen() * phaseY;
+            final float close = e.getClose() * phaseY;
+            final float high = e.getHigh() * phaseY;
+            final float low = e.getLow() * phaseY;
+
+            index = mLineOffsets[direction] + k * lineStride;
+
+            if (mShowCandleBar) {
+
+                // the shadows from the high to the top of the body and from the low to the bottom
+                float top = direction == DECREASING ? open : close;
+                float bottom = direction == DECREASING ? close : open;
+
+                if (direction == NEUTRAL)
+                    bottom = top;
+
+                addLine(x, high, x, top);
+                addLine(x, low, x, bottom);
+
+                index = mBodyOffsets[direction] + k * bodyStride;
+
+                addLine(x - 0.5f + mBarSpace, close, x + 0.5f - mBarSpace, open);
+
+            } else {
+
+                addLine(x, high, x, low);
+                addLine(x - 0.5f + mBarSpace, open, x, open);
+                addLine(x + 0.5f - mBarSpace, close, x, close);
+            }
+        }
+
+        reset();
+    }
+
+    protected void addLine(float x1, float y1, float x2, float y2) {
+
+        buffer[index++] = x1;
+        buffer[index++] = y1;
+        buffer[index++] = x2;
+        buffer[index++] = y2;
+    }
+}
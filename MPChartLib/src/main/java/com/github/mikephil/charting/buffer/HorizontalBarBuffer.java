@@ -16,6 +16,8 @@ public class HorizontalBarBuffer extends BarBuffer {
         float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
+        ensureCapacity((int) Math.ceil(size) * 4 * (mContainsStacks ? data.getStackSize() : 1));
+
         for (int i = 0; i < size; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
@@ -89,6 +91,7 @@ public class HorizontalBarBuffer extends BarBuffer {
             }
         }
 
+        mSize = index;
         reset();
     }
 }
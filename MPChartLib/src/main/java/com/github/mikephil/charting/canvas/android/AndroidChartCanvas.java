@@ -0,0 +1,123 @@
+package com.github.mikephil.charting.canvas.android;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import com.github.mikephil.charting.canvas.ChartCanvas;
+import com.github.mikephil.charting.canvas.ChartPaint;
+import com.github.mikephil.charting.canvas.ChartPath;
+
+/**
+ * ChartCanvas that passes everything through to an android.graphics.Canvas. The wrapped canvas
+ * can be exchanged, so renderers can keep one instance and set the canvas of each draw call.
+ */
+public class AndroidChartCanvas implements ChartCanvas {
+
+    private Canvas mCanvas;
+
+    public AndroidChartCanvas() {
+    }
+
+    public AndroidChartCanvas(Canvas canvas) {
+        this.mCanvas = canvas;
+    }
+
+    /**
+     * Sets the canvas all calls are passed through to.
+     *
+     * @param canvas
+     */
+    public void setCanvas(Canvas canvas) {
+        this.mCanvas = canvas;
+    }
+
+    public Canvas getCanvas() {
+        return mCanvas;
+    }
+
+    @Override
+    public int getWidth() {
+        return mCanvas.getWidth();
+    }
+
+    @Override
+    public int getHeight() {
+        return mCanvas.getHeight();
+    }
+
+    @Override
+    public ChartPaint createPaint() {
+        return new AndroidChartPaint(new Paint());
+    }
+
+    @Override
+    public ChartPath createPath() {
+        return new AndroidChartPath(new Path());
+    }
+
+    @Override
+    public int save() {
+        return mCanvas.save();
+    }
+
+    @Override
+    public void restoreToCount(int saveCount) {
+        mCanvas.restoreToCount(saveCount);
+    }
+
+    @Override
+    public void translate(float dx, float dy) {
+        mCanvas.translate(dx, dy);
+    }
+
+    @Override
+    public void scale(float sx, float sy) {
+        mCanvas.scale(sx, sy);
+    }
+
+    @Override
+    public void rotate(float degrees) {
+        mCanvas.rotate(degrees);
+    }
+
+    @Override
+    public void clipRect(float left, float top, float right, float bottom) {
+        mCanvas.clipRect(left, top, right, bottom);
+    }
+
+    @Override
+    public void drawColor(int color) {
+        mCanvas.drawColor(color);
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY, ChartPaint paint) {
+        mCanvas.drawLine(startX, startY, stopX, stopY, ((AndroidChartPaint) paint).getPaint());
+    }
+
+    @Override
+    public void drawLines(float[] pts, int offset, int count, ChartPaint paint) {
+        mCanvas.drawLines(pts, offset, count, ((AndroidChartPaint) paint).getPaint());
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, ChartPaint paint) {
+        mCanvas.drawRect(left, top, right, bottom, ((AndroidChartPaint) paint).getPaint());
+    }
+
+    @Override
+    public void drawCircle(float cx, float cy, float radius, ChartPaint paint) {
+        mCanvas.drawCircle(cx, cy, radius, ((AndroidChartPaint) paint).getPaint());
+    }
+
+    @Override
+    public void drawPath(ChartPath path, ChartPaint paint) {
+        mCanvas.drawPath(((AndroidChartPath) path).getPath(), ((AndroidChartPaint) paint).getPaint());
+    }
+
+    @Override
+    public void drawText(String text, float x, float y, ChartPaint paint) {
+        mCanvas.drawText(text, x, y, ((AndroidChartPaint) paint).getPaint());
+    }
+}
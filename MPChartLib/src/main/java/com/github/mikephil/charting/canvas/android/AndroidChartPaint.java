@@ -0,0 +1,152 @@
+package com.github.mikephil.charting.canvas.android;
+
+import android.graphics.DashPathEffect;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.canvas.ChartPaint;
+
+/**
+ * ChartPaint that passes everything through to an android.graphics.Paint. The wrapped paint can
+ * be exchanged, so one instance can be reused for the paints of a renderer.
+ */
+public class AndroidChartPaint implements ChartPaint {
+
+    private Paint mPaint;
+
+    /**
+     * Creates a wrapper without a paint, setPaint(...) has to be called before it is used.
+     */
+    public AndroidChartPaint() {
+    }
+
+    public AndroidChartPaint(Paint paint) {
+        this.mPaint = paint;
+    }
+
+    /**
+     * Sets the paint all calls are passed through to.
+     *
+     * @param paint
+     */
+    public void setPaint(Paint paint) {
+        this.mPaint = paint;
+    }
+
+    public Paint getPaint() {
+        return mPaint;
+    }
+
+    @Override
+    public void setColor(int color) {
+        mPaint.setColor(color);
+    }
+
+    @Override
+    public int getColor() {
+        return mPaint.getColor();
+    }
+
+    @Override
+    public void setStyle(Style style) {
+        switch (style) {
+            case STROKE:
+                mPaint.setStyle(Paint.Style.STROKE);
+                break;
+            case FILL_AND_STROKE:
+                mPaint.setStyle(Paint.Style.FILL_AND_STROKE);
+                break;
+            default:
+                mPaint.setStyle(Paint.Style.FILL);
+                break;
+        }
+    }
+
+    @Override
+    public Style getStyle() {
+        switch (mPaint.getStyle()) {
+            case STROKE:
+                return Style.STROKE;
+            case FILL_AND_STROKE:
+                return Style.FILL_AND_STROKE;
+            default:
+                return Style.FILL;
+        }
+    }
+
+    @Override
+    public void setStrokeWidth(float width) {
+        mPaint.setStrokeWidth(width);
+    }
+
+    @Override
+    public float getStrokeWidth() {
+        return mPaint.getStrokeWidth();
+    }
+
+    @Override
+    public void setAntiAlias(boolean enabled) {
+        mPaint.setAntiAlias(enabled);
+    }
+
+    @Override
+    public boolean isAntiAlias() {
+        return mPaint.isAntiAlias();
+    }
+
+    @Override
+    public void setDash(float[] intervals, float phase) {
+        mPaint.setPathEffect(intervals == null ? null : new DashPathEffect(intervals, phase));
+    }
+
+    @Override
+    public void setTextSize(float size) {
+        mPaint.setTextSize(size);
+    }
+
+    @Override
+    public float getTextSize() {
+        return mPaint.getTextSize();
+    }
+
+    @Override
+    public void setTextAlign(Align align) {
+        switch (align) {
+            case CENTER:
+                mPaint.setTextAlign(Paint.Align.CENTER);
+                break;
+            case RIGHT:
+                mPaint.setTextAlign(Paint.Align.RIGHT);
+                break;
+            default:
+                mPaint.setTextAlign(Paint.Align.LEFT);
+                break;
+        }
+    }
+
+    @Override
+    public Align getTextAlign() {
+        switch (mPaint.getTextAlign()) {
+            case CENTER:
+                return Align.CENTER;
+            case RIGHT:
+                return Align.RIGHT;
+            default:
+                return Align.LEFT;
+        }
+    }
+
+    @Override
+    public float measureText(String text) {
+        return mPaint.measureText(text);
+    }
+
+    @Override
+    public float ascent() {
+        return mPaint.ascent();
+    }
+
+    @Override
+    public float descent() {
+        return mPaint.descent();
+    }
+}
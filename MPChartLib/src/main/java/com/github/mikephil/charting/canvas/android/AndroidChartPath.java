@@ -0,0 +1,61 @@
+package com.github.mikephil.charting.canvas.android;
+
+import android.graphics.Path;
+
+import com.github.mikephil.charting.canvas.ChartPath;
+
+/**
+ * ChartPath that passes everything through to an android.graphics.Path.
+ */
+public class AndroidChartPath implements ChartPath {
+
+    private Path mPath;
+
+    /**
+     * Creates a wrapper without a path, setPath(...) has to be called before it is used.
+     */
+    public AndroidChartPath() {
+    }
+
+    public AndroidChartPath(Path path) {
+        this.mPath = path;
+    }
+
+    public void setPath(Path path) {
+        this.mPath = path;
+    }
+
+    public Path getPath() {
+        return mPath;
+    }
+
+    @Override
+    public void reset() {
+        mPath.reset();
+    }
+
+    @Override
+    public void moveTo(float x, float y) {
+        mPath.moveTo(x, y);
+    }
+
+    @Override
+    public void lineTo(float x, float y) {
+        mPath.lineTo(x, y);
+    }
+
+    @Override
+    public void quadTo(float x1, float y1, float x2, float y2) {
+        mPath.quadTo(x1, y1, x2, y2);
+    }
+
+    @Override
+    public void cubicTo(float x1, float y1, float x2, float y2, float x3, float y3) {
+        mPath.cubicTo(x1, y1, x2, y2, x3, y3);
+    }
+
+    @Override
+    public void close() {
+        mPath.close();
+    }
+}
@@ -56,7 +56,9 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
 
         mRenderer = new BarChartRenderer(this, mAnimator, mViewPortHandler);
 
-        setHighlighter(new BarHighlighter(this));
+        BarHighlighter highlighter = new BarHighlighter(this);
+        highlighter.setPooledLookup(true);
+        setHighlighter(highlighter);
 
         getXAxis().setSpaceMin(0.5f);
         getXAxis().setSpaceMax(0.5f);
@@ -103,6 +105,26 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
         }
     }
 
+    @Override
+    public boolean getHighlightByTouchPoint(float x, float y, Highlight outHighlight) {
+
+        if (mData == null) {
+            Log.e(LOG_TAG, "Can't select by touch. No data set.");
+            return false;
+        } else {
+            if (!getHighlighter().getHighlight(x, y, outHighlight))
+                return false;
+
+            // For isHighlightFullBarEnabled, remove stackIndex
+            if (isHighlightFullBarEnabled())
+                outHighlight.set(outHighlight.getX(), outHighlight.getY(),
+                        outHighlight.getXPx(), outHighlight.getYPx(),
+                        outHighlight.getDataSetIndex(), -1, outHighlight.getAxis());
+
+            return true;
+        }
+    }
+
     /**
      * Returns the bounding box of the specified Entry in the specified DataSet. Returns null if the Entry could not be
      * found in the charts data.  Performance-intensive code should use void getBarBounds(BarEntry, RectF) instead.
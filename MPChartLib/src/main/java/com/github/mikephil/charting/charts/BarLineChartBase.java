@@ -14,6 +14,7 @@ import android.util.AttributeSet;
 import android.util.Log;
 import android.view.MotionEvent;
 
+import com.github.mikephil.charting.components.AxisBase;
 import com.github.mikephil.charting.components.XAxis.XAxisPosition;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
@@ -57,6 +58,27 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     protected boolean mAutoScaleMinMaxEnabled = false;
 
+    /**
+     * changes of the visible y-extents below this number of pixels don't rescale the axes
+     */
+    private float mAutoScaleHysteresis = 0f;
+
+    /**
+     * the extents of the x-, left and right axis applied by the last auto scaling, four values
+     * per axis: the data minimum and maximum, and the resulting axis minimum and maximum
+     */
+    private float[] mAutoScaleExtents = new float[12];
+
+    /**
+     * if true, the next auto scaling recalculates all axes
+     */
+    private boolean mAutoScaleInvalidated = true;
+
+    /**
+     * the group this chart shares its x-viewport with, null if none
+     */
+    private ChartGroup mChartGroup;
+
     /**
      * flag that indicates if pinch-zoom is enabled. if true, both x and y axis
      * can be scaled with 2 fingers, if false, x and y axis can be scaled
@@ -165,7 +187,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         mXAxisRenderer = new XAxisRenderer(mViewPortHandler, mXAxis, mLeftAxisTransformer);
 
-        setHighlighter(new ChartHighlighter(this));
+        ChartHighlighter<BarLineChartBase<T>> highlighter = new ChartHighlighter<>(this);
+        highlighter.setPooledLookup(true);
+        setHighlighter(highlighter);
 
         mChartTouchListener = new BarLineChartTouchListener(this, mViewPortHandler.getMatrixTouch(), 3f);
 
@@ -194,6 +218,55 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         long starttime = System.currentTimeMillis();
 
+        int dirtyLayers = consumeDirtyLayers();
+
+        if (mLayerCacheEnabled && getWidth() > 0 && getHeight() > 0) {
+
+            // only redraw the cached layers if something besides the highlight changed
+            Canvas cacheCanvas = prepareLayerCache(dirtyLayers);
+
+            if (cacheCanvas != null)
+                drawChartLayers(cacheCanvas, false);
+
+            drawLayerCache(canvas);
+
+            if (valuesToHighlight()) {
+
+                int clipRestoreCount = canvas.save();
+
+                if (isClipDataToContentEnabled())
+                    canvas.clipRect(mViewPortHandler.getContentRect());
+
+                mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+
+                canvas.restoreToCount(clipRestoreCount);
+            }
+        } else {
+            drawChartLayers(canvas, true);
+        }
+
+        drawMarkers(canvas);
+
+        if (mLogEnabled) {
+            long drawtime = (System.currentTimeMillis() - starttime);
+            totalTime += drawtime;
+            drawCycles += 1;
+            long average = totalTime / drawCycles;
+            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
+                    + drawCycles);
+        }
+    }
+
+    /**
+     * Draws everything except the markers: axes, grid, limit lines, data, values, legend and
+     * description.
+     *
+     * @param canvas
+     * @param drawHighlights false to leave out the highlights, e.g. when drawing into the layer
+     *                       cache
+     */
+    protected void drawChartLayers(Canvas canvas, boolean drawHighlights) {
+
         // execute all drawing commands
         drawGridBackground(canvas);
 
@@ -251,7 +324,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mAxisRendererRight.renderGridLines(canvas);
 
         // if highlighting is enabled
-        if (valuesToHighlight())
+        if (drawHighlights && valuesToHighlight())
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
         // Removes clipping rectangle
@@ -286,17 +359,6 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mLegendRenderer.renderLegend(canvas);
 
         drawDescription(canvas);
-
-        drawMarkers(canvas);
-
-        if (mLogEnabled) {
-            long drawtime = (System.currentTimeMillis() - starttime);
-            totalTime += drawtime;
-            drawCycles += 1;
-            long average = totalTime / drawCycles;
-            Log.i(LOG_TAG, "Drawtime: " + drawtime + " ms, average: " + average + " ms, cycles: "
-                    + drawCycles);
-        }
     }
 
     /**
@@ -346,6 +408,11 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         calcMinMax();
 
+        // formatters may have changed their output
+        mAxisRendererLeft.clearLabelLayouts();
+        mAxisRendererRight.clearLabelLayouts();
+        mXAxisRenderer.clearLabelLayouts();
+
         mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
         mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum, mAxisRight.isInverted());
         mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
@@ -353,11 +420,15 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mLegend != null)
             mLegendRenderer.computeLegend(mData);
 
+        invalidateAutoScale();
+
         calculateOffsets();
     }
 
     /**
      * Performs auto scaling of the axis by recalculating the minimum and maximum y-values based on the entries currently in view.
+     * Axes whose visible extents did not change are not recalculated, and the offsets are only
+     * recalculated if any axis changed.
      */
     protected void autoScale() {
 
@@ -366,19 +437,110 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         mData.calcMinMaxY(fromX, toX);
 
-        mXAxis.calculate(mData.getXMin(), mData.getXMax());
+        boolean changed = false;
+
+        if (isAutoScaleExtentChanged(0, mData.getXMin(), mData.getXMax(), 0f, mXAxis)) {
+            mXAxis.calculate(mData.getXMin(), mData.getXMax());
+            setAutoScaleExtent(0, mData.getXMin(), mData.getXMax(), mXAxis);
+            changed = true;
+        }
 
         // calculate axis range (min / max) according to provided data
 
-        if (mAxisLeft.isEnabled())
-            mAxisLeft.calculate(mData.getYMin(AxisDependency.LEFT),
-                    mData.getYMax(AxisDependency.LEFT));
+        if (mAxisLeft.isEnabled()) {
 
-        if (mAxisRight.isEnabled())
-            mAxisRight.calculate(mData.getYMin(AxisDependency.RIGHT),
-                    mData.getYMax(AxisDependency.RIGHT));
+            float min = mData.getYMin(AxisDependency.LEFT);
+            float max = mData.getYMax(AxisDependency.LEFT);
 
-        calculateOffsets();
+            if (isAutoScaleExtentChanged(1, min, max, getAutoScaleTolerance(mAxisLeft), mAxisLeft)) {
+                mAxisLeft.calculate(min, max);
+                setAutoScaleExtent(1, min, max, mAxisLeft);
+                changed = true;
+            }
+        }
+
+        if (mAxisRight.isEnabled()) {
+
+            float min = mData.getYMin(AxisDependency.RIGHT);
+            float max = mData.getYMax(AxisDependency.RIGHT);
+
+            if (isAutoScaleExtentChanged(2, min, max, getAutoScaleTolerance(mAxisRight), mAxisRight)) {
+                mAxisRight.calculate(min, max);
+                setAutoScaleExtent(2, min, max, mAxisRight);
+                changed = true;
+            }
+        }
+
+        mAutoScaleInvalidated = false;
+
+        if (changed)
+            calculateOffsets();
+    }
+
+    /**
+     * Returns true if the given data extent differs from the one applied by the last auto scaling
+     * by more than the tolerance, or if the range of the axis was changed elsewhere since.
+     *
+     * @param index     0 for the x-axis, 1 for the left and 2 for the right axis
+     * @param min
+     * @param max
+     * @param tolerance
+     * @param axis
+     * @return
+     */
+    private boolean isAutoScaleExtentChanged(int index, float min, float max, float tolerance, AxisBase axis) {
+
+        if (mAutoScaleInvalidated)
+            return true;
+
+        final int i = index * 4;
+
+        if (axis.mAxisMinimum != mAutoScaleExtents[i + 2] || axis.mAxisMaximum != mAutoScaleExtents[i + 3])
+            return true;
+
+        return Math.abs(min - mAutoScaleExtents[i]) > tolerance
+                || Math.abs(max - mAutoScaleExtents[i + 1]) > tolerance;
+    }
+
+    private void setAutoScaleExtent(int index, float min, float max, AxisBase axis) {
+
+        final int i = index * 4;
+
+        mAutoScaleExtents[i] = min;
+        mAutoScaleExtents[i + 1] = max;
+        mAutoScaleExtents[i + 2] = axis.mAxisMinimum;
+        mAutoScaleExtents[i + 3] = axis.mAxisMaximum;
+    }
+
+    /**
+     * Returns the change of the data extent of the given axis, in values, below which auto
+     * scaling keeps the current axis range.
+     *
+     * @param axis
+     * @return
+     */
+    protected float getAutoScaleTolerance(YAxis axis) {
+
+        float length = mViewPortHandler.contentHeight() * mViewPortHandler.getScaleY();
+
+        if (mAutoScaleHysteresis <= 0f || length <= 0f)
+            return 0f;
+
+        return mAutoScaleHysteresis * axis.mAxisRange / length;
+    }
+
+    /**
+     * Makes the next auto scaling recalculate all axes, the visible extents of all DataSets and the
+     * offsets. Call this after changing values of entries while auto scale caching of the data is
+     * enabled (see ChartData.setAutoScaleCaching(...)), or properties of the axes that affect
+     * their range (e.g. setSpaceTop(...)), without calling notifyDataSetChanged() while auto
+     * scaling is enabled.
+     */
+    public void invalidateAutoScale() {
+        mAutoScaleInvalidated = true;
+
+        if (mData != null)
+            mData.invalidateMinMaxY();
     }
 
     @Override
@@ -535,6 +697,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         prepareOffsetMatrix();
         prepareValuePxMatrix();
+
+        if (mChartGroup != null)
+            mChartGroup.onOffsetsChanged(this);
     }
 
     /**
@@ -584,7 +749,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
     @Override
     public void computeScroll() {
 
-        if (mChartTouchListener instanceof BarLineChartTouchListener)
+        if (mChartGroup != null)
+            mChartGroup.computeScroll();
+        else if (mChartTouchListener instanceof BarLineChartTouchListener)
             ((BarLineChartTouchListener) mChartTouchListener).computeScroll();
     }
 
@@ -1610,6 +1777,43 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     public void setAutoScaleMinMaxEnabled(boolean enabled) {
         mAutoScaleMinMaxEnabled = enabled;
+        invalidateAutoScale();
+    }
+
+    /**
+     * Sets the number of pixels the visible y-extents need to change by before auto scaling
+     * rescales the axes, to avoid recalculating the axes and offsets for changes that are not
+     * visible. Values may be drawn outside of the content rect by up to this number of pixels.
+     * Default: 0, every change rescales the axes.
+     *
+     * @param pixels
+     */
+    public void setAutoScaleHysteresis(float pixels) {
+        mAutoScaleHysteresis = Math.max(0f, pixels);
+    }
+
+    /**
+     * Returns the number of pixels the visible y-extents need to change by before auto scaling
+     * rescales the axes.
+     *
+     * @return
+     */
+    public float getAutoScaleHysteresis() {
+        return mAutoScaleHysteresis;
+    }
+
+    /**
+     * Returns the group this chart shares its x-viewport with, or null. Use ChartGroup.addChart(...)
+     * to link charts.
+     *
+     * @return
+     */
+    public ChartGroup getChartGroup() {
+        return mChartGroup;
+    }
+
+    void setChartGroup(ChartGroup group) {
+        mChartGroup = group;
     }
 
     /**
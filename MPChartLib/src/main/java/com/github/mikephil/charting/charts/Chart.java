@@ -3,6 +3,7 @@ package com.github.mikephil.charting.charts;
 
 import android.animation.ValueAnimator;
 import android.animation.ValueAnimator.AnimatorUpdateListener;
+import android.annotation.TargetApi;
 import android.content.ContentValues;
 import android.content.Context;
 import android.graphics.Bitmap;
@@ -561,7 +562,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         setLastHighlighted(highs);
 
         // redraw the chart
-        invalidate();
+        invalidateLayers(LAYER_HIGHLIGHT | LAYER_MARKER);
     }
 
     /**
@@ -720,7 +721,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         }
 
         // redraw the chart
-        invalidate();
+        invalidateLayers(LAYER_HIGHLIGHT | LAYER_MARKER);
     }
 
     /**
@@ -741,6 +742,25 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             return getHighlighter().getHighlight(x, y);
     }
 
+    /**
+     * Same as getHighlightByTouchPoint(float, float), but writes the result into the given
+     * Highlight instead of allocating a new one. Returns false if nothing could be selected at
+     * the given touch point.
+     *
+     * @param x
+     * @param y
+     * @param outHighlight
+     * @return
+     */
+    public boolean getHighlightByTouchPoint(float x, float y, Highlight outHighlight) {
+
+        if (mData == null) {
+            Log.e(LOG_TAG, "Can't select by touch. No data set.");
+            return false;
+        } else
+            return getHighlighter().getHighlight(x, y, outHighlight);
+    }
+
     /**
      * Set a new (e.g. custom) ChartTouchListener NOTE: make sure to
      * setTouchEnabled(true); if you need touch gestures on the chart
@@ -760,6 +780,172 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         return mChartTouchListener;
     }
 
+    /**
+     * ################ ################ ################ ################
+     */
+    /** BELOW CODE IS FOR THE LAYER CACHE */
+
+    /**
+     * layer flags for invalidateLayers(...), describing which parts of the chart a state change
+     * affects. LAYER_CONTENT covers everything that is cached (axes, data, values, legend and
+     * description), it is drawn again as a whole when it changes.
+     */
+    public static final int LAYER_CONTENT = 1;
+    public static final int LAYER_HIGHLIGHT = 1 << 1;
+    public static final int LAYER_MARKER = 1 << 2;
+    public static final int LAYER_ALL = LAYER_CONTENT | LAYER_HIGHLIGHT | LAYER_MARKER;
+
+    /**
+     * the layers that are drawn on top of the cached layers in every frame
+     */
+    protected static final int LAYERS_OVERLAY = LAYER_HIGHLIGHT | LAYER_MARKER;
+
+    /**
+     * the layers that changed since the last draw
+     */
+    private int mDirtyLayers = LAYER_ALL;
+
+    /**
+     * if true, everything but the overlay layers is rendered into a bitmap that is reused as
+     * long as only overlay layers are invalidated
+     */
+    protected boolean mLayerCacheEnabled = false;
+
+    private Bitmap mLayerCacheBitmap;
+
+    private Canvas mLayerCacheCanvas;
+
+    /**
+     * Redraws the chart, marking only the given layers (LAYER_... flags) as changed. If the
+     * layer cache is enabled and only overlay layers (highlight, marker) are affected, the cached
+     * axes, data, values, legend and description are reused.
+     *
+     * @param layers
+     */
+    public void invalidateLayers(int layers) {
+        mDirtyLayers |= layers;
+        super.invalidate();
+    }
+
+    @Override
+    public void invalidate() {
+        mDirtyLayers = LAYER_ALL;
+        super.invalidate();
+    }
+
+    @Override
+    public void postInvalidate() {
+        mDirtyLayers = LAYER_ALL;
+        super.postInvalidate();
+    }
+
+    @Override
+    public void postInvalidateDelayed(long delayMilliseconds) {
+        mDirtyLayers = LAYER_ALL;
+        super.postInvalidateDelayed(delayMilliseconds);
+    }
+
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    @Override
+    public void postInvalidateOnAnimation() {
+        mDirtyLayers = LAYER_ALL;
+        super.postInvalidateOnAnimation();
+    }
+
+    /**
+     * Returns the layers that changed since the last call and resets them.
+     *
+     * @return
+     */
+    protected int consumeDirtyLayers() {
+        int layers = mDirtyLayers;
+        mDirtyLayers = 0;
+        return layers;
+    }
+
+    /**
+     * Makes sure the layer cache matches the size of the chart. Returns the cleared canvas of
+     * the cache if the cached layers need to be drawn again, or null if the cache can be reused.
+     *
+     * @param dirtyLayers the layers that changed since the last draw
+     * @return
+     */
+    protected Canvas prepareLayerCache(int dirtyLayers) {
+
+        int width = getWidth();
+        int height = getHeight();
+
+        if (mLayerCacheBitmap == null
+                || mLayerCacheBitmap.getWidth() != width
+                || mLayerCacheBitmap.getHeight() != height) {
+
+            releaseLayerCache();
+
+            mLayerCacheBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            mLayerCacheCanvas = new Canvas(mLayerCacheBitmap);
+
+        } else if ((dirtyLayers & ~LAYERS_OVERLAY) == 0) {
+            return null;
+        } else {
+            mLayerCacheBitmap.eraseColor(Color.TRANSPARENT);
+        }
+
+        return mLayerCacheCanvas;
+    }
+
+    /**
+     * Draws the cached layers onto the given canvas.
+     *
+     * @param canvas
+     */
+    protected void drawLayerCache(Canvas canvas) {
+        if (mLayerCacheBitmap != null)
+            canvas.drawBitmap(mLayerCacheBitmap, 0, 0, null);
+    }
+
+    /**
+     * Releases the bitmap of the layer cache.
+     */
+    protected void releaseLayerCache() {
+
+        if (mLayerCacheCanvas != null) {
+            mLayerCacheCanvas.setBitmap(null);
+            mLayerCacheCanvas = null;
+        }
+
+        if (mLayerCacheBitmap != null) {
+            mLayerCacheBitmap.recycle();
+            mLayerCacheBitmap = null;
+        }
+    }
+
+    /**
+     * Set this to true to render everything but the highlight and the markers into an offscreen
+     * bitmap that is reused as long as only the highlight changes. This makes highlighting by
+     * tap or drag very cheap, at the cost of one chart-sized ARGB_8888 bitmap and of drawing
+     * highlights above the value labels. Only supported by the charts with x- and y-axes.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setLayerCacheEnabled(boolean enabled) {
+        mLayerCacheEnabled = enabled;
+
+        if (!enabled)
+            releaseLayerCache();
+
+        invalidate();
+    }
+
+    /**
+     * Returns true if the layer cache is enabled.
+     *
+     * @return
+     */
+    public boolean isLayerCacheEnabled() {
+        return mLayerCacheEnabled;
+    }
+
     /**
      * ################ ################ ################ ################
      */
@@ -1780,6 +1966,8 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 
         //Log.i(LOG_TAG, "Detaching...");
 
+        releaseLayerCache();
+
         if (mUnbind)
             unbindDrawables(this);
     }
@@ -0,0 +1,266 @@
+package com.github.mikephil.charting.charts;
+
+import android.graphics.Matrix;
+import android.view.View;
+import android.view.animation.AnimationUtils;
+
+import com.github.mikephil.charting.listener.BarLineChartTouchListener;
+import com.github.mikephil.charting.listener.ChartTouchListener;
+import com.github.mikephil.charting.listener.OnViewPortChangedListener;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Links the x-viewport of several charts, e.g. a price chart with a volume and an indicator chart
+ * below it. Dragging, zooming or flinging any member changes the x-scale and x-translation of all
+ * members at once, and all members are invalidated together so that they are drawn in the same
+ * frame. Each member keeps its own y-axis, y-scale and auto scaling. The members should show the
+ * same x-range; the translation is shared relative to the content width, so the members may have
+ * y-axes of different widths.
+ */
+public class ChartGroup implements OnViewPortChangedListener {
+
+    protected final List<BarLineChartBase> mCharts = new ArrayList<>();
+
+    /**
+     * the shared x-scale
+     */
+    protected float mScaleX = 1f;
+
+    /**
+     * the shared x-translation, relative to the content width
+     */
+    protected float mTransX = 0f;
+
+    /**
+     * true while the shared viewport is applied to the members
+     */
+    private boolean mSyncing = false;
+
+    /**
+     * the animation time of the last fling step
+     */
+    private long mLastScrollTime = -1;
+
+    private final Matrix mSyncMatrix = new Matrix();
+    private final float[] mMatrixBuffer = new float[9];
+
+    public ChartGroup() {
+    }
+
+    public ChartGroup(BarLineChartBase... charts) {
+
+        for (BarLineChartBase chart : charts)
+            addChart(chart);
+    }
+
+    /**
+     * Adds the given chart to the group. The first chart determines the initial viewport of the
+     * group, the charts added later are moved to it.
+     *
+     * @param chart
+     */
+    public void addChart(BarLineChartBase chart) {
+
+        if (mCharts.contains(chart))
+            return;
+
+        if (chart.getChartGroup() != null)
+            chart.getChartGroup().removeChart(chart);
+
+        ViewPortHandler handler = chart.getViewPortHandler();
+
+        if (mCharts.isEmpty())
+            readViewPort(handler);
+        else
+            applyViewPort(chart);
+
+        mCharts.add(chart);
+        chart.setChartGroup(this);
+        handler.setOnViewPortChangedListener(this);
+    }
+
+    /**
+     * Removes the given chart from the group, it keeps its current viewport.
+     *
+     * @param chart
+     */
+    public void removeChart(BarLineChartBase chart) {
+
+        if (!mCharts.remove(chart))
+            return;
+
+        chart.setChartGroup(null);
+
+        ViewPortHandler handler = chart.getViewPortHandler();
+
+        if (handler.getOnViewPortChangedListener() == this)
+            handler.setOnViewPortChangedListener(null);
+    }
+
+    public List<BarLineChartBase> getCharts() {
+        return mCharts;
+    }
+
+    /**
+     * Returns the shared x-scale of the members.
+     *
+     * @return
+     */
+    public float getScaleX() {
+        return mScaleX;
+    }
+
+    @Override
+    public void onViewPortChanged(ViewPortHandler viewPortHandler, View chart, boolean invalidate) {
+
+        // a member moved to the shared viewport
+        if (mSyncing)
+            return;
+
+        if (!readViewPort(viewPortHandler)) {
+
+            if (invalidate)
+                chart.invalidate();
+
+            return;
+        }
+
+        mSyncing = true;
+
+        for (int i = 0; i < mCharts.size(); i++) {
+
+            BarLineChartBase member = mCharts.get(i);
+
+            if (member == chart)
+                continue;
+
+            // the member that was touched last leads, any other fling stops
+            stopDeceleration(member);
+
+            applyViewPort(member);
+        }
+
+        mSyncing = false;
+
+        invalidate(invalidate ? null : chart);
+    }
+
+    /**
+     * Invalidates all members, except the given one.
+     *
+     * @param except may be null
+     */
+    protected void invalidate(View except) {
+
+        for (int i = 0; i < mCharts.size(); i++) {
+
+            BarLineChartBase member = mCharts.get(i);
+
+            if (member != except)
+                member.invalidate();
+        }
+    }
+
+    /**
+     * Invalidates all members.
+     */
+    public void invalidate() {
+        invalidate(null);
+    }
+
+    /**
+     * Called by the members when their content rect changed, moves the member to the shared
+     * viewport again.
+     *
+     * @param chart
+     */
+    public void onOffsetsChanged(BarLineChartBase chart) {
+
+        if (mSyncing)
+            return;
+
+        mSyncing = true;
+        applyViewPort(chart);
+        mSyncing = false;
+    }
+
+    /**
+     * Called by the members when they are drawn. Advances the fling of the members once per frame,
+     * from the first member that is drawn, so the others are drawn with the new viewport in the
+     * same frame.
+     */
+    public void computeScroll() {
+
+        long time = AnimationUtils.currentAnimationTimeMillis();
+
+        if (time == mLastScrollTime)
+            return;
+
+        mLastScrollTime = time;
+
+        for (int i = 0; i < mCharts.size(); i++) {
+
+            ChartTouchListener listener = mCharts.get(i).getOnTouchListener();
+
+            if (listener instanceof BarLineChartTouchListener)
+                ((BarLineChartTouchListener) listener).computeScroll();
+        }
+    }
+
+    /**
+     * Reads the shared viewport from the given handler, returns false if it did not change.
+     */
+    private boolean readViewPort(ViewPortHandler handler) {
+
+        float width = handler.contentWidth();
+
+        if (width <= 0f)
+            return false;
+
+        float scaleX = handler.getScaleX();
+        float transX = handler.getTransX() / width;
+
+        if (scaleX == mScaleX && transX == mTransX)
+            return false;
+
+        mScaleX = scaleX;
+        mTransX = transX;
+
+        return true;
+    }
+
+    /**
+     * Moves the x-viewport of the given chart to the shared one, keeping its y-viewport.
+     */
+    private void applyViewPort(BarLineChartBase chart) {
+
+        ViewPortHandler handler = chart.getViewPortHandler();
+
+        float width = handler.contentWidth();
+
+        if (width <= 0f)
+            return;
+
+        Matrix matrix = mSyncMatrix;
+        matrix.set(handler.getMatrixTouch());
+        matrix.getValues(mMatrixBuffer);
+
+        mMatrixBuffer[Matrix.MSCALE_X] = mScaleX;
+        mMatrixBuffer[Matrix.MTRANS_X] = mTransX * width;
+
+        matrix.setValues(mMatrixBuffer);
+
+        handler.refresh(matrix, chart, false);
+    }
+
+    private static void stopDeceleration(BarLineChartBase chart) {
+
+        ChartTouchListener listener = chart.getOnTouchListener();
+
+        if (listener instanceof BarLineChartTouchListener)
+            ((BarLineChartTouchListener) listener).stopDeceleration();
+    }
+}
@@ -76,7 +76,9 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Com
                 DrawOrder.BAR, DrawOrder.BUBBLE, DrawOrder.LINE, DrawOrder.CANDLE, DrawOrder.SCATTER
         };
 
-        setHighlighter(new CombinedHighlighter(this, this));
+        CombinedHighlighter highlighter = new CombinedHighlighter(this, this);
+        highlighter.setPooledLookup(true);
+        setHighlighter(highlighter);
 
         // Old default behaviour
         setHighlightFullBarEnabled(true);
@@ -92,7 +94,9 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Com
     @Override
     public void setData(CombinedData data) {
         super.setData(data);
-        setHighlighter(new CombinedHighlighter(this, this));
+        CombinedHighlighter highlighter = new CombinedHighlighter(this, this);
+        highlighter.setPooledLookup(true);
+        setHighlighter(highlighter);
         ((CombinedChartRenderer)mRenderer).createRenderers();
         mRenderer.initBuffers();
     }
@@ -123,6 +127,26 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Com
         }
     }
 
+    @Override
+    public boolean getHighlightByTouchPoint(float x, float y, Highlight outHighlight) {
+
+        if (mData == null) {
+            Log.e(LOG_TAG, "Can't select by touch. No data set.");
+            return false;
+        } else {
+            if (!getHighlighter().getHighlight(x, y, outHighlight))
+                return false;
+
+            // For isHighlightFullBarEnabled, remove stackIndex
+            if (isHighlightFullBarEnabled())
+                outHighlight.set(outHighlight.getX(), outHighlight.getY(),
+                        outHighlight.getXPx(), outHighlight.getYPx(),
+                        outHighlight.getDataSetIndex(), -1, outHighlight.getAxis());
+
+            return true;
+        }
+    }
+
     @Override
     public LineData getLineData() {
         if (mData == null)
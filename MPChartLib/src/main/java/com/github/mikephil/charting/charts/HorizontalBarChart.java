@@ -6,6 +6,7 @@ import android.util.AttributeSet;
 import android.util.Log;
 
 import com.github.mikephil.charting.components.XAxis.XAxisPosition;
+import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.Entry;
@@ -51,7 +52,9 @@ public class HorizontalBarChart extends BarChart {
         mRightAxisTransformer = new TransformerHorizontalBarChart(mViewPortHandler);
 
         mRenderer = new HorizontalBarChartRenderer(this, mAnimator, mViewPortHandler);
-        setHighlighter(new HorizontalBarHighlighter(this));
+        HorizontalBarHighlighter highlighter = new HorizontalBarHighlighter(this);
+        highlighter.setPooledLookup(true);
+        setHighlighter(highlighter);
 
         mAxisRendererLeft = new YAxisRendererHorizontalBarChart(mViewPortHandler, mAxisLeft, mLeftAxisTransformer);
         mAxisRendererRight = new YAxisRendererHorizontalBarChart(mViewPortHandler, mAxisRight, mRightAxisTransformer);
@@ -203,6 +206,18 @@ public class HorizontalBarChart extends BarChart {
         prepareValuePxMatrix();
     }
 
+    @Override
+    protected float getAutoScaleTolerance(YAxis axis) {
+
+        // the y-axes are horizontal
+        float length = mViewPortHandler.contentWidth() * mViewPortHandler.getScaleX();
+
+        if (getAutoScaleHysteresis() <= 0f || length <= 0f)
+            return 0f;
+
+        return getAutoScaleHysteresis() * axis.mAxisRange / length;
+    }
+
     @Override
     protected void prepareValuePxMatrix() {
         mRightAxisTransformer.prepareMatrixValuePx(mAxisRight.mAxisMinimum, mAxisRight.mAxisRange, mXAxis.mAxisRange,
@@ -286,6 +301,17 @@ public class HorizontalBarChart extends BarChart {
             return getHighlighter().getHighlight(y, x); // switch x and y
     }
 
+    @Override
+    public boolean getHighlightByTouchPoint(float x, float y, Highlight outHighlight) {
+
+        if (mData == null) {
+            if (mLogEnabled)
+                Log.e(LOG_TAG, "Can't select by touch. No data set.");
+            return false;
+        } else
+            return getHighlighter().getHighlight(y, x, outHighlight); // switch x and y
+    }
+
     @Override
     public float getLowestVisibleX() {
         getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(mViewPortHandler.contentLeft(),
@@ -19,6 +19,7 @@ import com.github.mikephil.charting.data.ChartData;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.listener.PieRadarChartTouchListener;
+import com.github.mikephil.charting.math.PolarTable;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 
@@ -384,6 +385,41 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends IDataSet<?
         return mRotationAngle;
     }
 
+    /**
+     * the cached unit vectors of the chart axes, two tables so that the axes and the animated
+     * DataSets do not replace each other's table every frame
+     */
+    private PolarTable[] mPolarTables = new PolarTable[]{new PolarTable(), new PolarTable()};
+    private int mLastPolarTable = 0;
+
+    /**
+     * Returns the unit vectors of at least count directions that are stepAngle degrees apart,
+     * starting at the current rotation angle. The sines and cosines are cached and only
+     * recomputed when the count or step angle change, rotating the chart is cheap.
+     *
+     * @param count
+     * @param stepAngle
+     * @return
+     */
+    public PolarTable getPolarTable(int count, float stepAngle) {
+
+        int index = 1 - mLastPolarTable;
+
+        for (int i = 0; i < mPolarTables.length; i++) {
+            if (mPolarTables[i].covers(count, stepAngle)) {
+                index = i;
+                break;
+            }
+        }
+
+        PolarTable table = mPolarTables[index];
+        table.update(count, stepAngle, getRotationAngle());
+
+        mLastPolarTable = index;
+
+        return table;
+    }
+
     /**
      * Set this to true to enable the rotation / spinning of the chart by touch.
      * Set it to false to disable it. Default: true
@@ -45,6 +45,15 @@ public class ScatterChart extends BarLineChartBase<ScatterData> implements Scatt
         return mData;
     }
 
+    @Override
+    protected void onDetachedFromWindow() {
+        // releases the sprite bitmap in the renderer to avoid oom error
+        if (mRenderer != null && mRenderer instanceof ScatterChartRenderer) {
+            ((ScatterChartRenderer) mRenderer).releaseBitmap();
+        }
+        super.onDetachedFromWindow();
+    }
+
     /**
      * Predefined ScatterShapes that allow the specification of a shape a ScatterDataSet should be drawn with.
      * If a ScatterShape is specified for a ScatterDataSet, the required renderer is set.
@@ -7,6 +7,7 @@ import android.util.Log;
 
 import com.github.mikephil.charting.formatter.DefaultAxisValueFormatter;
 import com.github.mikephil.charting.formatter.IAxisValueFormatter;
+import com.github.mikephil.charting.formatter.ICacheableAxisValueFormatter;
 import com.github.mikephil.charting.utils.Utils;
 
 import java.util.ArrayList;
@@ -52,6 +53,16 @@ public abstract class AxisBase extends ComponentBase {
      */
     public int mDecimals;
 
+    /**
+     * the formatted and measured labels of the entries, set by the axis renderer
+     */
+    protected AxisLabelLayout mLabelLayout;
+
+    /**
+     * changed whenever the labels change for the same label positions and formatter
+     */
+    private int mLabelVersion = 0;
+
     /**
      * the number of label entries the axis should have, default 6
      */
@@ -502,6 +513,11 @@ public abstract class AxisBase extends ComponentBase {
      */
     public String getLongestLabel() {
 
+        AxisLabelLayout layout = getLabelLayout();
+
+        if (layout != null)
+            return layout.getLongestLabel();
+
         String longest = "";
 
         for (int i = 0; i < mEntries.length; i++) {
@@ -518,8 +534,79 @@ public abstract class AxisBase extends ComponentBase {
 
         if (index < 0 || index >= mEntries.length)
             return "";
-        else
-            return getValueFormatter().getFormattedValue(mEntries[index], this);
+
+        IAxisValueFormatter formatter = getValueFormatter();
+
+        // labels laid out before don't need to be formatted again
+        if (mLabelLayout != null
+                && mLabelLayout.hasLabel(index, mEntries[index], formatter, getLabelVersion(formatter)))
+            return mLabelLayout.getLabel(index);
+
+        return formatter.getFormattedValue(mEntries[index], this);
+    }
+
+    /**
+     * Sets the formatted and measured labels of the entries, done by the axis renderer whenever
+     * it computes the entries.
+     *
+     * @param layout
+     */
+    public void setLabelLayout(AxisLabelLayout layout) {
+        mLabelLayout = layout;
+    }
+
+    /**
+     * Returns the formatted and measured labels of the entries, or null if there is no layout or
+     * it doesn't match the current entries and formatter.
+     *
+     * @return
+     */
+    public AxisLabelLayout getLabelLayout() {
+
+        IAxisValueFormatter formatter = getValueFormatter();
+
+        if (mLabelLayout == null
+                || !mLabelLayout.matches(mEntries, mEntryCount, mDecimals, formatter,
+                getLabelVersion(formatter)))
+            return null;
+
+        return mLabelLayout;
+    }
+
+    /**
+     * Returns true if the labels of this axis can be cached, which is the case if the formatter
+     * implements ICacheableAxisValueFormatter.
+     *
+     * @return
+     */
+    public boolean isLabelLayoutCacheable() {
+        return getValueFormatter() instanceof ICacheableAxisValueFormatter;
+    }
+
+    /**
+     * Returns a number that changes whenever the labels of this axis change for the same label
+     * positions, combined from the label version of the axis and the format version of the given
+     * formatter.
+     *
+     * @param formatter
+     * @return
+     */
+    public long getLabelVersion(IAxisValueFormatter formatter) {
+
+        int formatVersion = formatter instanceof ICacheableAxisValueFormatter
+                ? ((ICacheableAxisValueFormatter) formatter).getFormatVersion()
+                : 0;
+
+        return ((long) mLabelVersion << 32) | (formatVersion & 0xffffffffL);
+    }
+
+    /**
+     * Makes the labels be formatted again, e.g. after a setting changed that the formatter
+     * depends on. Cached labels are not used anymore.
+     */
+    public void invalidateLabels() {
+        mLabelVersion++;
+        mLabelLayout = null;
     }
 
     /**
@@ -537,6 +624,8 @@ public abstract class AxisBase extends ComponentBase {
             mAxisValueFormatter = new DefaultAxisValueFormatter(mDecimals);
         else
             mAxisValueFormatter = f;
+
+        invalidateLabels();
     }
 
     /**
@@ -0,0 +1,244 @@
+package com.github.mikephil.charting.components;
+
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+
+import com.github.mikephil.charting.formatter.DefaultAxisValueFormatter;
+import com.github.mikephil.charting.formatter.IAxisValueFormatter;
+
+/**
+ * Immutable snapshot of the labels of an axis: the label positions, the formatted labels and
+ * their measured widths. The axis renderers cache these by label positions, so panning and
+ * zooming over label positions that were laid out before neither formats nor measures labels.
+ * A layout does not change once created and can be built on any thread that owns the given
+ * paint, as long as the formatter is thread safe.
+ */
+public final class AxisLabelLayout {
+
+    private final float[] mEntries;
+
+    private final int mEntryCount;
+
+    private final int mDecimals;
+
+    private final IAxisValueFormatter mFormatter;
+
+    /**
+     * the label version of the axis and formatter, see AxisBase.getLabelVersion(...)
+     */
+    private final long mVersion;
+
+    private final float mTextSize;
+
+    private final Typeface mTypeface;
+
+    private final String[] mLabels;
+
+    /**
+     * the widths of the labels as returned by Utils.calcTextWidth(...)
+     */
+    private final float[] mLabelWidths;
+
+    /**
+     * index of the label with the most characters, -1 if there are no labels
+     */
+    private final int mLongestLabelIndex;
+
+    /**
+     * the size of the bounds of the longest label, as returned by Utils.calcTextSize(...)
+     */
+    private final float mLongestLabelBoundsWidth;
+    private final float mLongestLabelBoundsHeight;
+
+    /**
+     * Formats and measures the labels at the given positions.
+     *
+     * @param entries    the label positions, the array is copied
+     * @param entryCount the number of valid label positions
+     * @param decimals   the decimals of the axis at the time the labels are formatted
+     * @param formatter  the formatter of the axis
+     * @param axis       the axis passed to the formatter
+     * @param paint      the paint to measure the labels with, text size and typeface must be set
+     */
+    public AxisLabelLayout(float[] entries, int entryCount, int decimals, IAxisValueFormatter formatter,
+                           AxisBase axis, Paint paint) {
+
+        mEntries = new float[entryCount];
+        System.arraycopy(entries, 0, mEntries, 0, entryCount);
+
+        mEntryCount = entryCount;
+        mDecimals = decimals;
+        mFormatter = formatter;
+        mVersion = axis.getLabelVersion(formatter);
+        mTextSize = paint.getTextSize();
+        mTypeface = paint.getTypeface();
+
+        mLabels = new String[entryCount];
+        mLabelWidths = new float[entryCount];
+
+        int longest = -1;
+
+        for (int i = 0; i < entryCount; i++) {
+
+            String label = formatter.getFormattedValue(mEntries[i], axis);
+
+            if (label == null)
+                label = "";
+
+            mLabels[i] = label;
+            mLabelWidths[i] = (int) paint.measureText(label);
+
+            if (longest < 0 || mLabels[longest].length() < label.length())
+                longest = i;
+        }
+
+        mLongestLabelIndex = longest;
+
+        if (longest >= 0) {
+            Rect bounds = new Rect();
+            paint.getTextBounds(mLabels[longest], 0, mLabels[longest].length(), bounds);
+            mLongestLabelBoundsWidth = bounds.width();
+            mLongestLabelBoundsHeight = bounds.height();
+        } else {
+            mLongestLabelBoundsWidth = 0f;
+            mLongestLabelBoundsHeight = 0f;
+        }
+    }
+
+    /**
+     * Returns true if this layout was built for the given label positions, formatter and label
+     * version.
+     *
+     * @param entries
+     * @param entryCount
+     * @param decimals
+     * @param formatter
+     * @param version
+     * @return
+     */
+    public boolean matches(float[] entries, int entryCount, int decimals, IAxisValueFormatter formatter,
+                           long version) {
+
+        if (entryCount != mEntryCount || decimals != mDecimals || version != mVersion
+                || !isSameFormatter(formatter, mFormatter) || entries.length < entryCount)
+            return false;
+
+        for (int i = 0; i < entryCount; i++) {
+            if (Float.floatToIntBits(entries[i]) != Float.floatToIntBits(mEntries[i]))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns true if the label at the given index was formatted for the given position with the
+     * given formatter and label version.
+     *
+     * @param index
+     * @param entry
+     * @param formatter
+     * @param version
+     * @return
+     */
+    public boolean hasLabel(int index, float entry, IAxisValueFormatter formatter, long version) {
+        return version == mVersion && isSameFormatter(formatter, mFormatter)
+                && index >= 0 && index < mEntryCount
+                && Float.floatToIntBits(entry) == Float.floatToIntBits(mEntries[index]);
+    }
+
+    /**
+     * Returns true if the widths of this layout were measured with the text size and typeface of
+     * the given paint.
+     *
+     * @param paint
+     * @return
+     */
+    public boolean isMeasuredWith(Paint paint) {
+        return paint.getTextSize() == mTextSize && paint.getTypeface() == mTypeface;
+    }
+
+    /**
+     * Returns true if both formatters produce the same labels: if they are the same object, or
+     * both are DefaultAxisValueFormatters with the same number of digits. The axis replaces its
+     * default formatter whenever its decimals change.
+     *
+     * @param a
+     * @param b
+     * @return
+     */
+    public static boolean isSameFormatter(IAxisValueFormatter a, IAxisValueFormatter b) {
+
+        if (a == b)
+            return true;
+
+        return a != null && b != null
+                && a.getClass() == DefaultAxisValueFormatter.class
+                && b.getClass() == DefaultAxisValueFormatter.class
+                && ((DefaultAxisValueFormatter) a).getDecimalDigits()
+                == ((DefaultAxisValueFormatter) b).getDecimalDigits();
+    }
+
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    public float getEntry(int index) {
+        return mEntries[index];
+    }
+
+    public int getDecimals() {
+        return mDecimals;
+    }
+
+    public IAxisValueFormatter getFormatter() {
+        return mFormatter;
+    }
+
+    public long getVersion() {
+        return mVersion;
+    }
+
+    public float getTextSize() {
+        return mTextSize;
+    }
+
+    public Typeface getTypeface() {
+        return mTypeface;
+    }
+
+    public String getLabel(int index) {
+        return mLabels[index];
+    }
+
+    public float getLabelWidth(int index) {
+        return mLabelWidths[index];
+    }
+
+    /**
+     * Returns the label with the most characters, an empty string if there are no labels.
+     *
+     * @return
+     */
+    public String getLongestLabel() {
+        return mLongestLabelIndex < 0 ? "" : mLabels[mLongestLabelIndex];
+    }
+
+    /**
+     * Returns the width of the label with the most characters.
+     *
+     * @return
+     */
+    public float getLongestLabelWidth() {
+        return mLongestLabelIndex < 0 ? 0f : mLabelWidths[mLongestLabelIndex];
+    }
+
+    public float getLongestLabelBoundsWidth() {
+        return mLongestLabelBoundsWidth;
+    }
+
+    public float getLongestLabelBoundsHeight() {
+        return mLongestLabelBoundsHeight;
+    }
+}
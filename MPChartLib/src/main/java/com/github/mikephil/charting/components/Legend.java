@@ -2,6 +2,7 @@ package com.github.mikephil.charting.components;
 
 import android.graphics.DashPathEffect;
 import android.graphics.Paint;
+import android.graphics.Typeface;
 
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.FSize;
@@ -9,6 +10,7 @@ import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -203,7 +205,7 @@ public class Legend extends ComponentBase {
             String label = entry.label;
             if (label == null) continue;
 
-            float length = (float) Utils.calcTextWidth(p, label);
+            float length = measureLabel(p, label)[0];
 
             if (length > max)
                 max = length;
@@ -226,7 +228,7 @@ public class Legend extends ComponentBase {
             String label = entry.label;
             if (label == null) continue;
 
-            float length = (float) Utils.calcTextHeight(p, label);
+            float length = measureLabel(p, label)[2];
 
             if (length > max)
                 max = length;
@@ -642,6 +644,75 @@ public class Legend extends ComponentBase {
         return mCalculatedLineSizes;
     }
 
+    /**
+     * the number of cached measurements of labels that are no longer used before the cache is
+     * cleared
+     */
+    private static final int MAX_UNUSED_MEASUREMENTS = 64;
+
+    /**
+     * cached measurements of the labels: the text width, the width and the height of the text
+     * bounds. Only valid for mMeasuredTextSize and mMeasuredTypeface.
+     */
+    private HashMap<String, float[]> mLabelMeasurements = new HashMap<>();
+    private float mMeasuredTextSize = Float.NaN;
+    private Typeface mMeasuredTypeface;
+
+    private FSize mMeasureBuffer = FSize.getInstance(0.f, 0.f);
+
+    /**
+     * Returns the measurements of the given label, they are only taken once per label.
+     *
+     * @param paint
+     * @param label
+     * @return the text width, the width and the height of the text bounds
+     */
+    private float[] measureLabel(Paint paint, String label) {
+
+        float[] size = mLabelMeasurements.get(label);
+
+        if (size == null || paint.getTextSize() != mMeasuredTextSize
+                || paint.getTypeface() != mMeasuredTypeface) {
+
+            Utils.calcTextSize(paint, label, mMeasureBuffer);
+
+            size = new float[]{
+                    Utils.calcTextWidth(paint, label),
+                    mMeasureBuffer.width,
+                    mMeasureBuffer.height
+            };
+
+            if (paint.getTextSize() == mMeasuredTextSize && paint.getTypeface() == mMeasuredTypeface)
+                mLabelMeasurements.put(label, size);
+        }
+
+        return size;
+    }
+
+    /**
+     * Sets the size at the given index, the FSize at that index is reused if there is one.
+     */
+    private static void setSize(List<FSize> sizes, int index, float width, float height) {
+
+        if (index < sizes.size()) {
+            FSize size = sizes.get(index);
+            size.width = width;
+            size.height = height;
+        } else {
+            sizes.add(FSize.getInstance(width, height));
+        }
+    }
+
+    /**
+     * Removes the sizes after the given count and returns them to the pool.
+     */
+    private static void trimSizes(List<FSize> sizes, int count) {
+
+        for (int i = sizes.size() - 1; i >= count; i--) {
+            FSize.recycleInstance(sizes.remove(i));
+        }
+    }
+
     /**
      * Calculates the dimensions of the Legend. This includes the maximum width
      * and height of a single entry, as well as the total width and height of
@@ -660,6 +731,15 @@ public class Legend extends ComponentBase {
         LegendEntry[] entries = mEntries;
         int entryCount = entries.length;
 
+        // measurements are only valid for the text style they were made with
+        if (labelpaint.getTextSize() != mMeasuredTextSize
+                || labelpaint.getTypeface() != mMeasuredTypeface
+                || mLabelMeasurements.size() > entryCount + MAX_UNUSED_MEASUREMENTS) {
+            mLabelMeasurements.clear();
+            mMeasuredTextSize = labelpaint.getTextSize();
+            mMeasuredTypeface = labelpaint.getTypeface();
+        }
+
         mTextWidthMax = getMaximumEntryWidth(labelpaint);
         mTextHeightMax = getMaximumEntryHeight(labelpaint);
 
@@ -701,7 +781,7 @@ public class Legend extends ComponentBase {
                             wasStacked = false;
                         }
 
-                        width += Utils.calcTextWidth(labelpaint, label);
+                        width += measureLabel(labelpaint, label)[0];
 
                         maxHeight += labelLineHeight + yEntrySpace;
                     } else {
@@ -731,9 +811,10 @@ public class Legend extends ComponentBase {
                 float requiredWidth = 0.f;
                 int stackedStartIndex = -1;
 
+                // the FSize instances of the previous calculation are reused
+                int lineCount = 0;
+
                 mCalculatedLabelBreakPoints.clear();
-                mCalculatedLabelSizes.clear();
-                mCalculatedLineSizes.clear();
 
                 for (int i = 0; i < entryCount; i++) {
 
@@ -758,12 +839,13 @@ public class Legend extends ComponentBase {
                     // grouped forms have null labels
                     if (label != null) {
 
-                        mCalculatedLabelSizes.add(Utils.calcTextSize(labelpaint, label));
+                        float[] size = measureLabel(labelpaint, label);
+                        setSize(mCalculatedLabelSizes, i, size[1], size[2]);
                         requiredWidth += drawingForm ? formToTextSpace + formSize : 0.f;
-                        requiredWidth += mCalculatedLabelSizes.get(i).width;
+                        requiredWidth += size[1];
                     } else {
 
-                        mCalculatedLabelSizes.add(FSize.getInstance(0.f, 0.f));
+                        setSize(mCalculatedLabelSizes, i, 0.f, 0.f);
                         requiredWidth += drawingForm ? formSize : 0.f;
 
                         if (stackedStartIndex == -1) {
@@ -787,7 +869,7 @@ public class Legend extends ComponentBase {
                         } else { // It doesn't fit, we need to wrap a line
 
                             // Add current line size to array
-                            mCalculatedLineSizes.add(FSize.getInstance(currentLineWidth, labelLineHeight));
+                            setSize(mCalculatedLineSizes, lineCount++, currentLineWidth, labelLineHeight);
                             maxLineWidth = Math.max(maxLineWidth, currentLineWidth);
 
                             // Start a new line
@@ -799,7 +881,7 @@ public class Legend extends ComponentBase {
 
                         if (i == entryCount - 1) {
                             // Add last line size to array
-                            mCalculatedLineSizes.add(FSize.getInstance(currentLineWidth, labelLineHeight));
+                            setSize(mCalculatedLineSizes, lineCount++, currentLineWidth, labelLineHeight);
                             maxLineWidth = Math.max(maxLineWidth, currentLineWidth);
                         }
                     }
@@ -807,6 +889,9 @@ public class Legend extends ComponentBase {
                     stackedStartIndex = label != null ? -1 : stackedStartIndex;
                 }
 
+                trimSizes(mCalculatedLabelSizes, entryCount);
+                trimSizes(mCalculatedLineSizes, lineCount);
+
                 mNeededWidth = maxLineWidth;
                 mNeededHeight = labelLineHeight
                         * (float) (mCalculatedLineSizes.size())
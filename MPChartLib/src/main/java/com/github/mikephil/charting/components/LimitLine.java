@@ -202,6 +202,7 @@ public class LimitLine extends ComponentBase {
      */
     public void setLabel(String label) {
         mLabel = label;
+        mLabelHeight = -1;
     }
 
     /**
@@ -212,4 +213,37 @@ public class LimitLine extends ComponentBase {
     public String getLabel() {
         return mLabel;
     }
+
+    /**
+     * cached height of the label, -1 if it has not been measured yet
+     */
+    private int mLabelHeight = -1;
+
+    /**
+     * text size and typeface the cached label height was measured with
+     */
+    private float mLabelHeightTextSize;
+    private Typeface mLabelHeightTypeface;
+
+    /**
+     * Returns the height of the label when drawn with the given paint. The
+     * measurement is cached until the label, the text size or the typeface of
+     * the paint changes.
+     *
+     * @param paint
+     * @return
+     */
+    public int getLabelHeight(Paint paint) {
+
+        if (mLabelHeight < 0
+                || mLabelHeightTextSize != paint.getTextSize()
+                || mLabelHeightTypeface != paint.getTypeface()) {
+
+            mLabelHeight = Utils.calcTextHeight(paint, mLabel);
+            mLabelHeightTextSize = paint.getTextSize();
+            mLabelHeightTypeface = paint.getTypeface();
+        }
+
+        return mLabelHeight;
+    }
 }
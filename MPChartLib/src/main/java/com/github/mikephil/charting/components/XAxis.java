@@ -1,6 +1,10 @@
 
 package com.github.mikephil.charting.components;
 
+import com.github.mikephil.charting.data.TimeScale;
+import com.github.mikephil.charting.formatter.DefaultAxisValueFormatter;
+import com.github.mikephil.charting.formatter.TimeAxisValueFormatter;
+import com.github.mikephil.charting.math.TimeTicks;
 import com.github.mikephil.charting.utils.Utils;
 
 /**
@@ -52,6 +56,17 @@ public class XAxis extends AxisBase {
      */
     private XAxisPosition mPosition = XAxisPosition.TOP;
 
+    /**
+     * maps the x-values to timestamps, null if this is not a time axis
+     */
+    private TimeScale mTimeScale = null;
+
+    /**
+     * the unit of the interval between the labels of a time axis, e.g. TimeTicks.HOUR, set by
+     * the renderer
+     */
+    public int mTimeUnit = TimeTicks.MILLISECOND;
+
     /**
      * enum for the position of the x-labels relative to the chart
      */
@@ -115,4 +130,44 @@ public class XAxis extends AxisBase {
     public boolean isAvoidFirstLastClippingEnabled() {
         return mAvoidFirstLastClipping;
     }
+
+    /**
+     * Turns this axis into a time axis: the x-values are mapped to timestamps with the given
+     * scale, the labels are placed at calendar aligned steps (e.g. every 15 minutes, every day,
+     * every month) and formatted as dates. If no custom formatter is set, a
+     * TimeAxisValueFormatter is used. Set null to use a plain numeric axis again.
+     *
+     * @param scale
+     */
+    public void setTimeScale(TimeScale scale) {
+
+        mTimeScale = scale;
+
+        if (scale != null && (mAxisValueFormatter == null
+                || mAxisValueFormatter.getClass() == DefaultAxisValueFormatter.class))
+            mAxisValueFormatter = new TimeAxisValueFormatter();
+        else if (scale == null && mAxisValueFormatter instanceof TimeAxisValueFormatter)
+            mAxisValueFormatter = null;
+
+        // the labels of the same positions map to other timestamps
+        invalidateLabels();
+    }
+
+    /**
+     * Returns the scale that maps the x-values to timestamps, null if this is not a time axis.
+     *
+     * @return
+     */
+    public TimeScale getTimeScale() {
+        return mTimeScale;
+    }
+
+    /**
+     * Returns true if the labels of this axis are placed at calendar aligned timestamps.
+     *
+     * @return
+     */
+    public boolean isTimeAxis() {
+        return mTimeScale != null;
+    }
 }
@@ -344,8 +344,16 @@ public class YAxis extends AxisBase {
 
         p.setTextSize(mTextSize);
 
-        String label = getLongestLabel();
-        float width = (float) Utils.calcTextWidth(p, label) + getXOffset() * 2f;
+        AxisLabelLayout layout = getLabelLayout();
+
+        float width;
+
+        if (layout != null && layout.isMeasuredWith(p)) {
+            width = layout.getLongestLabelWidth() + getXOffset() * 2f;
+        } else {
+            String label = getLongestLabel();
+            width = (float) Utils.calcTextWidth(p, label) + getXOffset() * 2f;
+        }
 
         float minWidth = getMinWidth();
         float maxWidth = getMaxWidth();
@@ -11,6 +11,11 @@ import java.util.List;
 
 public class BarDataSet extends BarLineScatterCandleBubbleDataSet<BarEntry> implements IBarDataSet {
 
+    /**
+     * the number of floats per stack value in the stack bounds: value, from, to
+     */
+    public static final int STACK_SEGMENT_SIZE = 3;
+
     /**
      * the maximum number of bars that are stacked upon each other, this value
      * is calculated from the Entries that are added to the DataSet
@@ -43,6 +48,21 @@ public class BarDataSet extends BarLineScatterCandleBubbleDataSet<BarEntry> impl
 
     protected List<Fill> mFills = null;
 
+    /**
+     * the stack values of all entries and their cumulative bounds in one flat array, see getStackBounds()
+     */
+    private float[] mStackBounds = new float[0];
+
+    /**
+     * the maximum number of stack values per entry in the stack bounds
+     */
+    private int mStackSegments = 0;
+
+    /**
+     * the number of entries the stack bounds are calculated for
+     */
+    private int mStackBoundsCount = 0;
+
     public BarDataSet(List<BarEntry> yVals, String label) {
         super(yVals, label);
 
@@ -167,6 +187,174 @@ public class BarDataSet extends BarLineScatterCandleBubbleDataSet<BarEntry> impl
         }
     }
 
+    @Override
+    public void calcMinMax() {
+        mStackBoundsCount = 0;
+        super.calcMinMax();
+    }
+
+    @Override
+    public void addEntryOrdered(BarEntry e) {
+        super.addEntryOrdered(e);
+
+        // inserted in between, the stack bounds of the following entries moved
+        if (e != null && mEntries.get(mEntries.size() - 1) != e)
+            mStackBoundsCount = 0;
+    }
+
+    /**
+     * Returns the stack values of all stacked entries and their cumulative bounds in one flat array.
+     * The entry at index i starts at offset i * getStackBoundsStride() with the number of its stack
+     * values, followed by STACK_SEGMENT_SIZE floats per stack value: the value itself and the from
+     * and to bounds of its Range. Bounds of appended entries are calculated on demand, everything else is
+     * recalculated after notifyDataSetChanged(). Use getStackBoundsOffset(int) to get the offset
+     * of an entry whose stack values might have been changed without notifying.
+     *
+     * @return
+     */
+    public float[] getStackBounds() {
+        ensureStackBounds();
+        return mStackBounds;
+    }
+
+    /**
+     * Returns the number of floats per entry in the stack bounds.
+     *
+     * @return
+     */
+    public int getStackBoundsStride() {
+        ensureStackBounds();
+        return getStackBoundsStride(mStackSegments);
+    }
+
+    private static int getStackBoundsStride(int segments) {
+        return 1 + segments * STACK_SEGMENT_SIZE;
+    }
+
+    /**
+     * Returns the offset of the entry at the given index in the stack bounds, or -1 if the entry is
+     * not stacked. Recalculates the bounds of the entry if its stack values changed.
+     *
+     * @param index
+     * @return
+     */
+    public int getStackBoundsOffset(int index) {
+
+        BarEntry e = getEntryForIndex(index);
+        float[] vals = e.getYVals();
+
+        if (vals == null)
+            return -1;
+
+        ensureStackBounds();
+
+        if (vals.length > mStackSegments) {
+            mStackBoundsCount = 0;
+            ensureStackBounds();
+        }
+
+        int offset = index * getStackBoundsStride(mStackSegments);
+
+        if (mStackBounds[offset] != vals.length) {
+            calcStackBounds(offset, e);
+            return offset;
+        }
+
+        for (int k = 0; k < vals.length; k++) {
+
+            if (mStackBounds[offset + 1 + k * STACK_SEGMENT_SIZE] != vals[k]) {
+                calcStackBounds(offset, e);
+                break;
+            }
+        }
+
+        return offset;
+    }
+
+    /**
+     * Calculates the stack bounds of the entries that were added since the last calculation.
+     */
+    private void ensureStackBounds() {
+
+        int count = getEntryCount();
+
+        // entries were removed without notifying
+        if (mStackBoundsCount > count)
+            mStackBoundsCount = 0;
+
+        if (mStackBoundsCount == count)
+            return;
+
+        int segments = mStackSegments;
+
+        for (int i = mStackBoundsCount; i < count; i++) {
+
+            float[] vals = mEntries.get(i).getYVals();
+
+            if (vals != null && vals.length > segments)
+                segments = vals.length;
+        }
+
+        if (segments != mStackSegments) {
+            mStackSegments = segments;
+            mStackBoundsCount = 0;
+        }
+
+        int stride = getStackBoundsStride(segments);
+
+        if (mStackBounds.length < count * stride) {
+
+            float[] bounds = new float[Math.max(count * stride, mStackBounds.length * 3 / 2)];
+            System.arraycopy(mStackBounds, 0, bounds, 0, mStackBoundsCount * stride);
+            mStackBounds = bounds;
+        }
+
+        for (int i = mStackBoundsCount; i < count; i++)
+            calcStackBounds(i * stride, mEntries.get(i));
+
+        mStackBoundsCount = count;
+    }
+
+    /**
+     * Writes the stack values and bounds of the given entry at the given offset, the bounds are
+     * calculated the same way as the Ranges of the entry.
+     *
+     * @param offset
+     * @param e
+     */
+    private void calcStackBounds(int offset, BarEntry e) {
+
+        float[] vals = e.getYVals();
+
+        if (vals == null) {
+            mStackBounds[offset] = 0;
+            return;
+        }
+
+        mStackBounds[offset] = vals.length;
+
+        float negRemain = -e.getNegativeSum();
+        float posRemain = 0f;
+
+        for (int k = 0; k < vals.length; k++) {
+
+            float value = vals[k];
+            int i = offset + 1 + k * STACK_SEGMENT_SIZE;
+
+            mStackBounds[i] = value;
+
+            if (value < 0) {
+                mStackBounds[i + 1] = negRemain;
+                mStackBounds[i + 2] = negRemain - value;
+                negRemain -= value;
+            } else {
+                mStackBounds[i + 1] = posRemain;
+                mStackBounds[i + 2] = posRemain + value;
+                posRemain += value;
+            }
+        }
+    }
+
     @Override
     protected void calcMinMax(BarEntry e) {
 
@@ -19,7 +19,7 @@ public class BarEntry extends Entry {
     private float[] mYVals;
 
     /**
-     * the ranges for the individual stack values - automatically calculated
+     * the ranges for the individual stack values - calculated when they are first requested
      */
     private Range[] mRanges;
 
@@ -88,7 +88,6 @@ public class BarEntry extends Entry {
 
         this.mYVals = vals;
         calcPosNegSum();
-        calcRanges();
     }
 
     /**
@@ -103,7 +102,6 @@ public class BarEntry extends Entry {
 
         this.mYVals = vals;
         calcPosNegSum();
-        calcRanges();
     }
 
     /**
@@ -118,7 +116,6 @@ public class BarEntry extends Entry {
 
         this.mYVals = vals;
         calcPosNegSum();
-        calcRanges();
     }
 
     /**
@@ -134,7 +131,6 @@ public class BarEntry extends Entry {
 
         this.mYVals = vals;
         calcPosNegSum();
-        calcRanges();
     }
 
     /**
@@ -166,7 +162,7 @@ public class BarEntry extends Entry {
         setY(calcSum(vals));
         mYVals = vals;
         calcPosNegSum();
-        calcRanges();
+        mRanges = null;
     }
 
     /**
@@ -181,10 +177,16 @@ public class BarEntry extends Entry {
 
     /**
      * Returns the ranges of the individual stack-entries. Will return null if this entry is not stacked.
+     * The ranges are only created when they are requested, the renderers and highlighters of a BarDataSet
+     * use its flat stack bounds instead.
      *
      * @return
      */
     public Range[] getRanges() {
+
+        if (mRanges == null)
+            calcRanges();
+
         return mRanges;
     }
 
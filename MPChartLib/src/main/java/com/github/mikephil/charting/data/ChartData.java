@@ -54,6 +54,21 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      */
     protected List<T> mDataSets;
 
+    /**
+     * the x-range of the last calcMinMaxY(...), and the DataSets and their modification counts at
+     * that time
+     */
+    private float mMinMaxYFromX;
+    private float mMinMaxYToX;
+    private Object[] mMinMaxYSets = new Object[0];
+    private int[] mMinMaxYCounts = new int[0];
+    private boolean mMinMaxYValid = false;
+
+    /**
+     * if true, calcMinMaxY(...) only recalculates DataSets that changed since the last call
+     */
+    private boolean mAutoScaleCaching = false;
+
     /**
      * Default constructor.
      */
@@ -104,24 +119,84 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
      * the contained data has changed.
      */
     public void notifyDataChanged() {
+        invalidateMinMaxY();
         calcMinMax();
     }
 
     /**
      * Calc minimum and maximum y-values over all DataSets.
      * Tell DataSets to recalculate their min and max y-values, this is only needed for autoScaleMinMax.
+     * If auto scale caching is enabled and the x-range is the same as in the last call, only
+     * DataSets whose entries were added or removed since then are recalculated, and nothing is
+     * done if there are none.
      *
      * @param fromX the x-value to start the calculation from
      * @param toX   the x-value to which the calculation should be performed
      */
     public void calcMinMaxY(float fromX, float toX) {
 
-        for (T set : mDataSets) {
-            set.calcMinMaxY(fromX, toX);
+        int count = mDataSets.size();
+
+        boolean all = !mAutoScaleCaching || !mMinMaxYValid || fromX != mMinMaxYFromX || toX != mMinMaxYToX
+                || mMinMaxYSets.length != count;
+
+        if (all) {
+            mMinMaxYSets = new Object[count];
+            mMinMaxYCounts = new int[count];
         }
 
+        boolean changed = all;
+
+        for (int i = 0; i < count; i++) {
+
+            T set = mDataSets.get(i);
+
+            // -1 if unknown
+            int modCount = set instanceof DataSet ? ((DataSet) set).getModificationCount() : -1;
+
+            if (all || modCount < 0 || set != mMinMaxYSets[i] || modCount != mMinMaxYCounts[i]) {
+
+                set.calcMinMaxY(fromX, toX);
+                changed = true;
+
+                mMinMaxYSets[i] = set;
+                mMinMaxYCounts[i] = modCount;
+            }
+        }
+
+        mMinMaxYFromX = fromX;
+        mMinMaxYToX = toX;
+        mMinMaxYValid = true;
+
         // apply the new data
-        calcMinMax();
+        if (changed)
+            calcMinMax();
+    }
+
+    /**
+     * Makes the next calcMinMaxY(...) recalculate all DataSets. Call this after changing the
+     * values of entries without adding or removing them, e.g. entry.setY(...), if the chart is
+     * auto scaling. notifyDataChanged() does this as well.
+     */
+    public void invalidateMinMaxY() {
+        mMinMaxYValid = false;
+    }
+
+    /**
+     * If enabled, calcMinMaxY(...) only recalculates the DataSets whose entries were added or
+     * removed since the last call for the same x-range. Values of entries that are changed in
+     * place (e.g. entry.setY(...)) are then only picked up after invalidateMinMaxY() or
+     * notifyDataChanged(). Default: false, all DataSets are recalculated on every call.
+     *
+     * @param enabled
+     */
+    public void setAutoScaleCaching(boolean enabled) {
+        mAutoScaleCaching = enabled;
+        mMinMaxYValid = false;
+    }
+
+    public boolean isAutoScaleCaching() {
+        return mAutoScaleCaching;
     }
 
     /**
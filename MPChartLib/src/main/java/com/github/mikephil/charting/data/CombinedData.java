@@ -6,6 +6,7 @@ import android.util.Log;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -174,9 +175,50 @@ public class CombinedData extends BarLineScatterCandleBubbleData<IBarLineScatter
         if (mBubbleData != null)
             mBubbleData.notifyDataChanged();
 
+        invalidateMinMaxY();
         calcMinMax(); // recalculate everything
     }
 
+    /**
+     * Adds the given Entry to the DataSet at the given index of all DataSets, and also adjusts the
+     * minimum and maximum values of the data object that holds the DataSet, so that they are up to
+     * date without recalculating them over all DataSets.
+     *
+     * @param e
+     * @param dataSetIndex
+     */
+    @Override
+    public void addEntry(Entry e, int dataSetIndex) {
+
+        if (mDataSets == null || dataSetIndex < 0 || dataSetIndex >= mDataSets.size()) {
+            Log.e("addEntry", "Cannot add Entry because dataSetIndex too high or too low.");
+            return;
+        }
+
+        IBarLineScatterCandleBubbleDataSet<? extends Entry> set = mDataSets.get(dataSetIndex);
+
+        // the entry must be of the entry type of the DataSet, as for ChartData.addEntry(...)
+        @SuppressWarnings("unchecked")
+        IDataSet<Entry> entrySet = (IDataSet<Entry>) set;
+
+        if (!entrySet.addEntry(e))
+            return;
+
+        calcMinMax(e, set.getAxisDependency());
+
+        List<BarLineScatterCandleBubbleData> allData = getAllData();
+
+        for (int i = 0; i < allData.size(); i++) {
+
+            BarLineScatterCandleBubbleData data = allData.get(i);
+
+            if (data.getDataSets().contains(set)) {
+                data.calcMinMax(e, set.getAxisDependency());
+                break;
+            }
+        }
+    }
+
     /**
      * Get the Entry for a corresponding highlight object
      *
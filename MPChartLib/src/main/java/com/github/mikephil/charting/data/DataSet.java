@@ -1,6 +1,9 @@
 
 package com.github.mikephil.charting.data;
 
+import com.github.mikephil.charting.math.SeriesSearch;
+import com.github.mikephil.charting.math.XYSeries;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -39,6 +42,32 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected float mXMin = Float.MAX_VALUE;
 
+    /**
+     * incremented whenever entries are added or removed, or the min and max values are recalculated
+     */
+    private int mModificationCount = 0;
+
+    /**
+     * view on the entries for the search functions of the core module
+     */
+    private final XYSeries mSeries = new XYSeries() {
+
+        @Override
+        public int getPointCount() {
+            return mEntries == null ? 0 : mEntries.size();
+        }
+
+        @Override
+        public float getPointX(int index) {
+            return mEntries.get(index).getX();
+        }
+
+        @Override
+        public float getPointY(int index) {
+            return mEntries.get(index).getY();
+        }
+    };
+
 
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a
@@ -61,6 +90,8 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     @Override
     public void calcMinMax() {
 
+        mModificationCount++;
+
         mYMax = -Float.MAX_VALUE;
         mYMin = Float.MAX_VALUE;
         mXMax = -Float.MAX_VALUE;
@@ -241,6 +272,8 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
             mEntries = new ArrayList<T>();
         }
 
+        mModificationCount++;
+
         calcMinMax(e);
 
         if (mEntries.size() > 0 && mEntries.get(mEntries.size() - 1).getX() > e.getX()) {
@@ -268,6 +301,8 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
             values = new ArrayList<>();
         }
 
+        mModificationCount++;
+
         calcMinMax(e);
 
         // add the entry
@@ -287,12 +322,61 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         boolean removed = mEntries.remove(e);
 
         if (removed) {
-            calcMinMax();
+
+            // the min and max values only change if the entry was one of them
+            if (isInsideMinMax(e))
+                mModificationCount++;
+            else
+                calcMinMax();
         }
 
         return removed;
     }
 
+    /**
+     * Returns true if the values of the given entry lie strictly inside the current min and max
+     * values of this DataSet, so that removing the entry does not change them. Uses calcMinMax(T)
+     * to get the values of the entry, the way subclasses account for it.
+     *
+     * @param e
+     * @return
+     */
+    private boolean isInsideMinMax(T e) {
+
+        float yMin = mYMin;
+        float yMax = mYMax;
+        float xMin = mXMin;
+        float xMax = mXMax;
+
+        mYMin = Float.MAX_VALUE;
+        mYMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+
+        calcMinMax(e);
+
+        boolean inside = mYMin > yMin && mYMax < yMax && mXMin > xMin && mXMax < xMax;
+
+        mYMin = yMin;
+        mYMax = yMax;
+        mXMin = xMin;
+        mXMax = xMax;
+
+        return inside;
+    }
+
+    /**
+     * Returns a counter that changes whenever entries are added or removed through this DataSet,
+     * or its min and max values are recalculated, e.g. by notifyDataSetChanged(). Used to tell if
+     * cached values derived from the entries are still valid. Returns -1 if the entries can change
+     * in other ways, then nothing should be cached.
+     *
+     * @return
+     */
+    public int getModificationCount() {
+        return mModificationCount;
+    }
+
     @Override
     public int getEntryIndex(Entry e) {
         return mEntries.indexOf(e);
@@ -323,124 +407,41 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mEntries == null || mEntries.isEmpty())
             return -1;
 
-        int low = 0;
-        int high = mEntries.size() - 1;
-        int closest = high;
-
-        while (low < high) {
-            int m = (low + high) / 2;
-
-            final float d1 = mEntries.get(m).getX() - xValue,
-                    d2 = mEntries.get(m + 1).getX() - xValue,
-                    ad1 = Math.abs(d1), ad2 = Math.abs(d2);
-
-            if (ad2 < ad1) {
-                // [m + 1] is closer to xValue
-                // Search in an higher place
-                low = m + 1;
-            } else if (ad1 < ad2) {
-                // [m] is closer to xValue
-                // Search in a lower place
-                high = m;
-            } else {
-                // We have multiple sequential x-value with same distance
-
-                if (d1 >= 0.0) {
-                    // Search in a lower place
-                    high = m;
-                } else if (d1 < 0.0) {
-                    // Search in an higher place
-                    low = m + 1;
-                }
-            }
-
-            closest = high;
-        }
-
-        if (closest != -1) {
-            float closestXValue = mEntries.get(closest).getX();
-            if (rounding == Rounding.UP) {
-                // If rounding up, and found x-value is lower than specified x, and we can go upper...
-                if (closestXValue < xValue && closest < mEntries.size() - 1) {
-                    ++closest;
-                }
-            } else if (rounding == Rounding.DOWN) {
-                // If rounding down, and found x-value is upper than specified x, and we can go lower...
-                if (closestXValue > xValue && closest > 0) {
-                    --closest;
-                }
-            }
-
-            // Search by closest to y-value
-            if (!Float.isNaN(closestToY)) {
-                while (closest > 0 && mEntries.get(closest - 1).getX() == closestXValue)
-                    closest -= 1;
-
-                float closestYValue = mEntries.get(closest).getY();
-                int closestYIndex = closest;
-
-                while (true) {
-                    closest += 1;
-                    if (closest >= mEntries.size())
-                        break;
-
-                    final Entry value = mEntries.get(closest);
-
-                    if (value.getX() != closestXValue)
-                        break;
-
-                    if (Math.abs(value.getY() - closestToY) <= Math.abs(closestYValue - closestToY)) {
-                        closestYValue = closestToY;
-                        closestYIndex = closest;
-                    }
-                }
-
-                closest = closestYIndex;
-            }
-        }
-
-        return closest;
+        return SeriesSearch.getIndex(mSeries, xValue, closestToY, toSeriesRounding(rounding));
     }
 
     @Override
     public List<T> getEntriesForXValue(float xValue) {
 
         List<T> entries = new ArrayList<T>();
+        getEntriesForXValue(xValue, entries);
+        return entries;
+    }
 
-        int low = 0;
-        int high = mEntries.size() - 1;
+    @Override
+    public void getEntriesForXValue(float xValue, List<T> outEntries) {
 
-        while (low <= high) {
-            int m = (high + low) / 2;
-            T entry = mEntries.get(m);
+        outEntries.clear();
+
+        if (mEntries == null || mEntries.isEmpty())
+            return;
 
-            // if we have a match
-            if (xValue == entry.getX()) {
-                while (m > 0 && mEntries.get(m - 1).getX() == xValue)
-                    m--;
+        int m = SeriesSearch.getFirstIndexOf(mSeries, xValue);
 
-                high = mEntries.size();
+        if (m < 0)
+            return;
 
-                // loop over all "equal" entries
-                for (; m < high; m++) {
-                    entry = mEntries.get(m);
-                    if (entry.getX() == xValue) {
-                        entries.add(entry);
-                    } else {
-                        break;
-                    }
-                }
+        int high = mEntries.size();
 
-                break;
+        // loop over all "equal" entries
+        for (; m < high; m++) {
+            T entry = mEntries.get(m);
+            if (entry.getX() == xValue) {
+                outEntries.add(entry);
             } else {
-                if (xValue > entry.getX())
-                    low = m + 1;
-                else
-                    high = m - 1;
+                break;
             }
         }
-
-        return entries;
     }
 
     /**
@@ -453,4 +454,15 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         DOWN,
         CLOSEST,
     }
+
+    private static SeriesSearch.Rounding toSeriesRounding(Rounding rounding) {
+        switch (rounding) {
+            case UP:
+                return SeriesSearch.Rounding.UP;
+            case DOWN:
+                return SeriesSearch.Rounding.DOWN;
+            default:
+                return SeriesSearch.Rounding.CLOSEST;
+        }
+    }
 }
\ No newline at end of file
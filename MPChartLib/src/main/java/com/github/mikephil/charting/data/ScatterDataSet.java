@@ -41,6 +41,11 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
      */
     private int mScatterShapeHoleColor = ColorTemplate.COLOR_NONE;
 
+    /**
+     * if true, the shapes are drawn from pre-rendered bitmaps, default: false
+     */
+    private boolean mSpriteRenderingEnabled = false;
+
     public ScatterDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
     }
@@ -62,6 +67,7 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
         scatterDataSet.mShapeRenderer = mShapeRenderer;
         scatterDataSet.mScatterShapeHoleRadius = mScatterShapeHoleRadius;
         scatterDataSet.mScatterShapeHoleColor = mScatterShapeHoleColor;
+        scatterDataSet.mSpriteRenderingEnabled = mSpriteRenderingEnabled;
     }
 
     /**
@@ -133,6 +139,23 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
         return mScatterShapeHoleColor;
     }
 
+    /**
+     * If set to true, every shape is drawn once per color into a bitmap and then copied to the
+     * chart for each entry, which is a lot faster for DataSets with many entries. Custom
+     * IShapeRenderers must draw within a square of the shape size around the given position for
+     * this to work. Default: false
+     *
+     * @param enabled
+     */
+    public void setSpriteRenderingEnabled(boolean enabled) {
+        mSpriteRenderingEnabled = enabled;
+    }
+
+    @Override
+    public boolean isSpriteRenderingEnabled() {
+        return mSpriteRenderingEnabled;
+    }
+
     public static IShapeRenderer getRendererForShape(ScatterChart.ScatterShape shape) {
 
         switch (shape) {
@@ -0,0 +1,85 @@
+package com.github.mikephil.charting.data.paging;
+
+/**
+ * Precomputed description of one chunk of a DataSource: the x-range the chunk covers, the
+ * y-extents of its entries and the number of entries it holds. This is everything the paged
+ * DataSet needs to know about a chunk without loading it.
+ */
+public final class ChunkInfo {
+
+    private final float mXMin;
+    private final float mXMax;
+    private final float mYMin;
+    private final float mYMax;
+    private final int mEntryCount;
+
+    public ChunkInfo(float xMin, float xMax, float yMin, float yMax, int entryCount) {
+        this.mXMin = xMin;
+        this.mXMax = xMax;
+        this.mYMin = yMin;
+        this.mYMax = yMax;
+        this.mEntryCount = entryCount;
+    }
+
+    /**
+     * Returns the smallest x-value of the chunk.
+     *
+     * @return
+     */
+    public float getXMin() {
+        return mXMin;
+    }
+
+    /**
+     * Returns the largest x-value of the chunk.
+     *
+     * @return
+     */
+    public float getXMax() {
+        return mXMax;
+    }
+
+    /**
+     * Returns the smallest y-value of the chunk.
+     *
+     * @return
+     */
+    public float getYMin() {
+        return mYMin;
+    }
+
+    /**
+     * Returns the largest y-value of the chunk.
+     *
+     * @return
+     */
+    public float getYMax() {
+        return mYMax;
+    }
+
+    /**
+     * Returns the number of entries in the chunk.
+     *
+     * @return
+     */
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    /**
+     * Returns true if the chunk overlaps the given x-range.
+     *
+     * @param fromX
+     * @param toX
+     * @return
+     */
+    public boolean overlaps(float fromX, float toX) {
+        return mXMax >= fromX && mXMin <= toX;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkInfo, x: " + mXMin + " - " + mXMax + ", y: " + mYMin + " - " + mYMax
+                + ", entries: " + mEntryCount;
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.mikephil.charting.data.paging;
+
+import com.github.mikephil.charting.data.Entry;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Backing store for a paged DataSet. The source splits its entries into chunks that are
+ * ordered by x-value and do not overlap. Chunk metadata must be cheap to query, loading a
+ * chunk may block and is always called off the UI thread.
+ *
+ * @param <T>
+ */
+public interface DataSource<T extends Entry> {
+
+    /**
+     * Returns the number of chunks this source is split into.
+     *
+     * @return
+     */
+    int getChunkCount();
+
+    /**
+     * Returns the precomputed x- and y-extents of the chunk at the given index. This is called on
+     * the UI thread and must not touch the underlying storage.
+     *
+     * @param chunk
+     * @return
+     */
+    ChunkInfo getChunkInfo(int chunk);
+
+    /**
+     * Loads all entries of the chunk at the given index, sorted by x-value. This is called on a
+     * background thread.
+     *
+     * @param chunk
+     * @return
+     * @throws IOException
+     */
+    List<T> loadChunk(int chunk) throws IOException;
+}
@@ -0,0 +1,547 @@
+package com.github.mikephil.charting.data.paging;
+
+import android.util.Log;
+
+import com.github.mikephil.charting.data.Entry;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Keeps the chunks of a DataSource that are needed for the currently visible x-range in
+ * memory. Chunks are loaded on a background Executor and evicted in least-recently-used order
+ * once the number of resident entries exceeds the configured budget. The chunks overlapping the
+ * visible range (plus a number of prefetched neighbours) are never evicted.
+ * <p/>
+ * All methods except the loading itself must be called from the UI thread.
+ *
+ * @param <T>
+ */
+public class EntryPager<T extends Entry> {
+
+    private static final String LOG_TAG = "MPAndroidChart";
+
+    /**
+     * Listener that is notified each time a chunk finished loading.
+     */
+    public interface OnChunkLoadedListener {
+
+        /**
+         * Called on the loading thread once the chunk at the given index is available. The new
+         * entries become visible with the next draw, implementations usually call
+         * View.postInvalidate() here.
+         *
+         * @param chunk
+         */
+        void onChunkLoaded(int chunk);
+    }
+
+    private static ExecutorService mDefaultExecutor;
+
+    /**
+     * Returns the single-threaded executor shared by all pagers that were created without an
+     * explicit executor.
+     *
+     * @return
+     */
+    public static synchronized Executor getDefaultExecutor() {
+
+        if (mDefaultExecutor == null) {
+            mDefaultExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "MPChart-Pager");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
+        return mDefaultExecutor;
+    }
+
+    private final DataSource<T> mSource;
+
+    private final Executor mExecutor;
+
+    /**
+     * the maximum number of entries that are kept in memory (if possible)
+     */
+    private int mMaxResidentEntries;
+
+    /**
+     * the number of chunks loaded in advance on each side of the visible range
+     */
+    private int mPrefetchChunks = 1;
+
+    private OnChunkLoadedListener mListener;
+
+    /**
+     * resident chunks in access order, the eldest entry is the least recently used one
+     */
+    private final LinkedHashMap<Integer, List<T>> mResident = new LinkedHashMap<>(16, 0.75f, true);
+
+    private int mResidentEntryCount = 0;
+
+    /**
+     * chunks that are currently being loaded
+     */
+    private final Set<Integer> mPending = new HashSet<>();
+
+    /**
+     * chunks handed over from the loading thread that were not yet merged into mResident
+     */
+    private final ConcurrentLinkedQueue<LoadedChunk<T>> mLoaded = new ConcurrentLinkedQueue<>();
+
+    /**
+     * incremented on invalidate() so that loads started before are discarded
+     */
+    private volatile int mGeneration = 0;
+
+    private float mFromX = Float.NaN;
+    private float mToX = Float.NaN;
+
+    /**
+     * first and last chunk index of the current window, -1 if there is no window
+     */
+    private int mFirstChunk = -1;
+    private int mLastChunk = -1;
+
+    private float mXMin = Float.MAX_VALUE;
+    private float mXMax = -Float.MAX_VALUE;
+    private float mYMin = Float.MAX_VALUE;
+    private float mYMax = -Float.MAX_VALUE;
+    private int mTotalEntryCount = 0;
+
+    public EntryPager(DataSource<T> source, Executor executor, int maxResidentEntries) {
+        this.mSource = source;
+        this.mExecutor = executor == null ? getDefaultExecutor() : executor;
+        this.mMaxResidentEntries = maxResidentEntries;
+
+        calcMinMax();
+    }
+
+    /**
+     * Calculates the extents of the whole source from the chunk metadata, without loading any
+     * chunk.
+     */
+    public void calcMinMax() {
+
+        mXMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mYMax = -Float.MAX_VALUE;
+        mTotalEntryCount = 0;
+
+        for (int i = 0; i < mSource.getChunkCount(); i++) {
+
+            ChunkInfo info = mSource.getChunkInfo(i);
+
+            if (info.getEntryCount() == 0)
+                continue;
+
+            mXMin = Math.min(mXMin, info.getXMin());
+            mXMax = Math.max(mXMax, info.getXMax());
+            mYMin = Math.min(mYMin, info.getYMin());
+            mYMax = Math.max(mYMax, info.getYMax());
+            mTotalEntryCount += info.getEntryCount();
+        }
+    }
+
+    /**
+     * Calculates the y-extents of all entries between fromX and toX. Chunks that lie completely
+     * inside the range, or that are not resident, contribute their precomputed extents. Only
+     * resident chunks at the borders of the range are scanned.
+     *
+     * @param fromX
+     * @param toX
+     */
+    public void calcMinMaxY(float fromX, float toX) {
+
+        mYMin = Float.MAX_VALUE;
+        mYMax = -Float.MAX_VALUE;
+
+        if (mSource.getChunkCount() == 0)
+            return;
+
+        int first = getChunkIndexForX(fromX);
+        int last = getChunkIndexForX(toX);
+
+        for (int i = first; i <= last; i++) {
+
+            ChunkInfo info = mSource.getChunkInfo(i);
+
+            if (info.getEntryCount() == 0 || !info.overlaps(fromX, toX))
+                continue;
+
+            boolean inside = info.getXMin() >= fromX && info.getXMax() <= toX;
+            List<T> entries = inside ? null : mResident.get(i);
+
+            if (entries == null) {
+                mYMin = Math.min(mYMin, info.getYMin());
+                mYMax = Math.max(mYMax, info.getYMax());
+                continue;
+            }
+
+            for (int j = 0; j < entries.size(); j++) {
+
+                T e = entries.get(j);
+
+                if (e.getX() < fromX)
+                    continue;
+
+                if (e.getX() > toX)
+                    break;
+
+                if (e.getY() < mYMin)
+                    mYMin = e.getY();
+
+                if (e.getY() > mYMax)
+                    mYMax = e.getY();
+            }
+        }
+    }
+
+    /**
+     * Tells the pager which x-range is currently visible. Merges chunks that finished loading,
+     * requests missing chunks of the new window and evicts chunks outside of it if the memory
+     * budget is exceeded. Returns true if the content of the window changed and fillWindow(...)
+     * needs to be called.
+     *
+     * @param fromX
+     * @param toX
+     * @return
+     */
+    public boolean setVisibleRange(float fromX, float toX) {
+
+        boolean changed = mergeLoaded();
+
+        if (fromX == mFromX && toX == mToX && !changed)
+            return false;
+
+        mFromX = fromX;
+        mToX = toX;
+
+        int count = mSource.getChunkCount();
+
+        if (count == 0) {
+            changed |= mFirstChunk != -1;
+            mFirstChunk = mLastChunk = -1;
+            return changed;
+        }
+
+        int first = Math.max(0, getChunkIndexForX(fromX) - mPrefetchChunks);
+        int last = Math.min(count - 1, getChunkIndexForX(toX) + mPrefetchChunks);
+
+        if (first != mFirstChunk || last != mLastChunk) {
+            mFirstChunk = first;
+            mLastChunk = last;
+            changed = true;
+        }
+
+        for (int i = first; i <= last; i++) {
+
+            // touch resident chunks so that they become the most recently used ones
+            if (mResident.get(i) == null && !mPending.contains(i))
+                load(i);
+        }
+
+        // picks up chunks that were loaded synchronously by a direct executor
+        changed |= mergeLoaded();
+
+        evict();
+
+        return changed;
+    }
+
+    /**
+     * Requests the chunks of the given x-range that are neither resident nor loading, e.g. for the
+     * range that will be visible at the end of a fling. The current window is not changed.
+     *
+     * @param fromX
+     * @param toX
+     */
+    public void prefetchRange(float fromX, float toX) {
+
+        int count = mSource.getChunkCount();
+
+        if (count == 0)
+            return;
+
+        int first = Math.max(0, getChunkIndexForX(fromX) - mPrefetchChunks);
+        int last = Math.min(count - 1, getChunkIndexForX(toX) + mPrefetchChunks);
+
+        for (int i = first; i <= last; i++) {
+
+            if (mResident.get(i) == null && !mPending.contains(i))
+                load(i);
+        }
+    }
+
+    /**
+     * Replaces the content of the given list with the resident entries of the current window,
+     * sorted by x-value.
+     *
+     * @param out
+     */
+    public void fillWindow(List<T> out) {
+
+        out.clear();
+
+        if (mFirstChunk < 0)
+            return;
+
+        for (int i = mFirstChunk; i <= mLastChunk; i++) {
+
+            List<T> entries = mResident.get(i);
+
+            if (entries != null)
+                out.addAll(entries);
+        }
+    }
+
+    /**
+     * Drops all resident chunks and re-reads the chunk metadata, call this if the content of the
+     * DataSource changed. Loads that are still running are discarded once they finish.
+     */
+    public void invalidate() {
+
+        mGeneration++;
+
+        mResident.clear();
+        mPending.clear();
+        mLoaded.clear();
+        mResidentEntryCount = 0;
+
+        mFromX = mToX = Float.NaN;
+        mFirstChunk = mLastChunk = -1;
+
+        calcMinMax();
+    }
+
+    /**
+     * Returns the index of the chunk containing the given x-value, or the closest chunk if the
+     * value falls in between two chunks or outside of the source.
+     *
+     * @param x
+     * @return
+     */
+    public int getChunkIndexForX(float x) {
+
+        int low = 0;
+        int high = mSource.getChunkCount() - 1;
+
+        // find the first chunk that ends at or after x
+        while (low < high) {
+            int m = (low + high) / 2;
+
+            if (mSource.getChunkInfo(m).getXMax() < x)
+                low = m + 1;
+            else
+                high = m;
+        }
+
+        return high;
+    }
+
+    /**
+     * Returns the entries of the chunk at the given index, or null if it is not resident.
+     *
+     * @param chunk
+     * @return
+     */
+    public List<T> getResidentChunk(int chunk) {
+        return mResident.get(chunk);
+    }
+
+    /**
+     * Returns true if the chunk at the given index is loaded.
+     *
+     * @param chunk
+     * @return
+     */
+    public boolean isResident(int chunk) {
+        return mResident.containsKey(chunk);
+    }
+
+    /**
+     * Returns the number of entries that are currently held in memory.
+     *
+     * @return
+     */
+    public int getResidentEntryCount() {
+        return mResidentEntryCount;
+    }
+
+    /**
+     * Returns the number of entries of the whole source.
+     *
+     * @return
+     */
+    public int getTotalEntryCount() {
+        return mTotalEntryCount;
+    }
+
+    public float getXMin() {
+        return mXMin;
+    }
+
+    public float getXMax() {
+        return mXMax;
+    }
+
+    public float getYMin() {
+        return mYMin;
+    }
+
+    public float getYMax() {
+        return mYMax;
+    }
+
+    public DataSource<T> getSource() {
+        return mSource;
+    }
+
+    public Executor getExecutor() {
+        return mExecutor;
+    }
+
+    /**
+     * Sets the maximum number of entries that should be kept in memory. The chunks of the
+     * current window are always kept, even if they exceed this budget.
+     *
+     * @param maxResidentEntries
+     */
+    public void setMaxResidentEntries(int maxResidentEntries) {
+        mMaxResidentEntries = maxResidentEntries;
+        evict();
+    }
+
+    public int getMaxResidentEntries() {
+        return mMaxResidentEntries;
+    }
+
+    /**
+     * Sets the number of chunks that are loaded in advance on each side of the visible range.
+     * Default: 1
+     *
+     * @param chunks
+     */
+    public void setPrefetchChunks(int chunks) {
+        mPrefetchChunks = Math.max(0, chunks);
+        mFromX = mToX = Float.NaN;
+    }
+
+    public int getPrefetchChunks() {
+        return mPrefetchChunks;
+    }
+
+    public void setOnChunkLoadedListener(OnChunkLoadedListener listener) {
+        mListener = listener;
+    }
+
+    private void load(final int chunk) {
+
+        mPending.add(chunk);
+
+        final int generation = mGeneration;
+
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+
+                List<T> entries = null;
+
+                try {
+                    entries = mSource.loadChunk(chunk);
+                } catch (IOException e) {
+                    Log.e(LOG_TAG, "Loading chunk " + chunk + " failed: " + e.toString());
+                }
+
+                if (generation != mGeneration)
+                    return;
+
+                mLoaded.add(new LoadedChunk<>(chunk, generation, entries));
+
+                if (entries != null && mListener != null)
+                    mListener.onChunkLoaded(chunk);
+            }
+        });
+    }
+
+    /**
+     * Moves all chunks handed over by the loading thread into the resident set. Returns true if
+     * one of them belongs to the current window.
+     *
+     * @return
+     */
+    private boolean mergeLoaded() {
+
+        boolean changed = false;
+
+        LoadedChunk<T> loaded;
+
+        while ((loaded = mLoaded.poll()) != null) {
+
+            if (loaded.generation != mGeneration)
+                continue;
+
+            mPending.remove(loaded.chunk);
+
+            // failed loads are retried with the next range change
+            if (loaded.entries == null || mResident.containsKey(loaded.chunk))
+                continue;
+
+            mResident.put(loaded.chunk, loaded.entries);
+            mResidentEntryCount += loaded.entries.size();
+
+            if (loaded.chunk >= mFirstChunk && loaded.chunk <= mLastChunk)
+                changed = true;
+        }
+
+        if (changed)
+            evict();
+
+        return changed;
+    }
+
+    private void evict() {
+
+        Iterator<Map.Entry<Integer, List<T>>> it = mResident.entrySet().iterator();
+
+        while (mResidentEntryCount > mMaxResidentEntries && it.hasNext()) {
+
+            Map.Entry<Integer, List<T>> eldest = it.next();
+            int chunk = eldest.getKey();
+
+            if (chunk >= mFirstChunk && chunk <= mLastChunk)
+                continue;
+
+            mResidentEntryCount -= eldest.getValue().size();
+            it.remove();
+        }
+    }
+
+    private static class LoadedChunk<T> {
+
+        final int chunk;
+        final int generation;
+        final List<T> entries;
+
+        LoadedChunk(int chunk, int generation, List<T> entries) {
+            this.chunk = chunk;
+            this.generation = generation;
+            this.entries = entries;
+        }
+    }
+}
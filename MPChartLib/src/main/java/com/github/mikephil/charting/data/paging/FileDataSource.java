@@ -0,0 +1,148 @@
+package com.github.mikephil.charting.data.paging;
+
+import com.github.mikephil.charting.data.Entry;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource that reads entries from a binary file of consecutive (x, y) float pairs sorted by
+ * x-value. The file is split into chunks of a fixed number of entries. The chunk metadata is
+ * computed by scanning the file once when the source is created, afterwards chunks are read
+ * with random access.
+ */
+public class FileDataSource implements DataSource<Entry> {
+
+    /**
+     * number of bytes one (x, y) pair occupies in the file
+     */
+    public static final int BYTES_PER_ENTRY = 8;
+
+    private final File mFile;
+
+    private final int mChunkSize;
+
+    private final ChunkInfo[] mChunks;
+
+    /**
+     * Creates a source for the given file, splitting it into chunks of chunkSize entries.
+     *
+     * @param file
+     * @param chunkSize
+     * @throws IOException
+     */
+    public FileDataSource(File file, int chunkSize) throws IOException {
+
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("chunkSize must be at least 1");
+
+        this.mFile = file;
+        this.mChunkSize = chunkSize;
+
+        long entryCount = file.length() / BYTES_PER_ENTRY;
+        int chunkCount = (int) ((entryCount + chunkSize - 1) / chunkSize);
+
+        mChunks = new ChunkInfo[chunkCount];
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+
+        try {
+            for (int i = 0; i < chunkCount; i++) {
+
+                int size = (int) Math.min(chunkSize, entryCount - (long) i * chunkSize);
+
+                float xMin = Float.MAX_VALUE, xMax = -Float.MAX_VALUE;
+                float yMin = Float.MAX_VALUE, yMax = -Float.MAX_VALUE;
+
+                for (int j = 0; j < size; j++) {
+
+                    float x = in.readFloat();
+                    float y = in.readFloat();
+
+                    xMin = Math.min(xMin, x);
+                    xMax = Math.max(xMax, x);
+                    yMin = Math.min(yMin, y);
+                    yMax = Math.max(yMax, y);
+                }
+
+                mChunks[i] = new ChunkInfo(xMin, xMax, yMin, yMax, size);
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    @Override
+    public int getChunkCount() {
+        return mChunks.length;
+    }
+
+    @Override
+    public ChunkInfo getChunkInfo(int chunk) {
+        return mChunks[chunk];
+    }
+
+    @Override
+    public List<Entry> loadChunk(int chunk) throws IOException {
+
+        int size = mChunks[chunk].getEntryCount();
+        byte[] bytes = new byte[size * BYTES_PER_ENTRY];
+
+        RandomAccessFile raf = new RandomAccessFile(mFile, "r");
+
+        try {
+            raf.seek((long) chunk * mChunkSize * BYTES_PER_ENTRY);
+            raf.readFully(bytes);
+        } catch (EOFException e) {
+            throw new IOException("File " + mFile + " was truncated while loading chunk " + chunk);
+        } finally {
+            raf.close();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        List<Entry> entries = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            entries.add(new Entry(buffer.getFloat(), buffer.getFloat()));
+        }
+
+        return entries;
+    }
+
+    public int getChunkSize() {
+        return mChunkSize;
+    }
+
+    /**
+     * Writes the given entries (sorted by x-value) to a file in the format read by this source.
+     *
+     * @param file
+     * @param entries
+     * @throws IOException
+     */
+    public static void write(File file, List<? extends Entry> entries) throws IOException {
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+
+        try {
+            for (int i = 0; i < entries.size(); i++) {
+                Entry e = entries.get(i);
+                out.writeFloat(e.getX());
+                out.writeFloat(e.getY());
+            }
+        } finally {
+            out.close();
+        }
+    }
+}
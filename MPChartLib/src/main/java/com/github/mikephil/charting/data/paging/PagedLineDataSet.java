@@ -0,0 +1,156 @@
+package com.github.mikephil.charting.data.paging;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IPagedDataSet;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * LineDataSet whose entries are provided by a DataSource in chunks. Only the chunks around the
+ * visible x-range are held in memory, the x- and y-extents of the whole DataSet are taken from
+ * the precomputed chunk metadata. The entries of this DataSet cannot be modified directly, change
+ * the DataSource and call notifyDataSetChanged() instead.
+ * <p/>
+ * Set an OnChunkLoadedListener that invalidates the chart, otherwise newly loaded chunks only
+ * show up with the next redraw.
+ */
+public class PagedLineDataSet extends LineDataSet implements IPagedDataSet<Entry> {
+
+    /**
+     * default number of entries kept in memory
+     */
+    public static final int DEFAULT_MAX_RESIDENT_ENTRIES = 200000;
+
+    protected EntryPager<Entry> mPager;
+
+    public PagedLineDataSet(DataSource<Entry> source, String label) {
+        this(source, label, null, DEFAULT_MAX_RESIDENT_ENTRIES);
+    }
+
+    /**
+     * @param source             the source providing the entries
+     * @param label
+     * @param executor           executor the chunks are loaded on, null to use a shared
+     *                           background thread
+     * @param maxResidentEntries the number of entries to keep in memory
+     */
+    public PagedLineDataSet(DataSource<Entry> source, String label, Executor executor, int maxResidentEntries) {
+        super(new ArrayList<Entry>(), label);
+
+        mPager = new EntryPager<>(source, executor, maxResidentEntries);
+
+        calcMinMax();
+    }
+
+    @Override
+    public void setVisibleXRange(float fromX, float toX) {
+
+        if (mPager.setVisibleRange(fromX, toX))
+            mPager.fillWindow(mEntries);
+    }
+
+    @Override
+    public void prefetchXRange(float fromX, float toX) {
+        mPager.prefetchRange(fromX, toX);
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        // called by the super constructor before the pager exists
+        if (mPager == null) {
+            super.calcMinMax();
+            return;
+        }
+
+        mXMin = mPager.getXMin();
+        mXMax = mPager.getXMax();
+        mYMin = mPager.getYMin();
+        mYMax = mPager.getYMax();
+    }
+
+    /**
+     * The entries change whenever loaded chunks are swapped in.
+     */
+    @Override
+    public int getModificationCount() {
+        return -1;
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+
+        mPager.calcMinMaxY(fromX, toX);
+
+        mYMin = mPager.getYMin();
+        mYMax = mPager.getYMax();
+    }
+
+    /**
+     * Drops all loaded entries and re-reads the chunk metadata of the DataSource.
+     */
+    @Override
+    public void notifyDataSetChanged() {
+
+        if (mPager != null) {
+            mPager.invalidate();
+            mEntries.clear();
+        }
+
+        calcMinMax();
+    }
+
+    @Override
+    public void clear() {
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public boolean addEntry(Entry e) {
+        throw new UnsupportedOperationException("Entries of a PagedLineDataSet are provided by its DataSource.");
+    }
+
+    @Override
+    public void addEntryOrdered(Entry e) {
+        throw new UnsupportedOperationException("Entries of a PagedLineDataSet are provided by its DataSource.");
+    }
+
+    @Override
+    public boolean removeEntry(Entry e) {
+        throw new UnsupportedOperationException("Entries of a PagedLineDataSet are provided by its DataSource.");
+    }
+
+    /**
+     * Returns the number of entries of the whole DataSource, getEntryCount() only returns the
+     * number of entries currently in memory.
+     *
+     * @return
+     */
+    public int getTotalEntryCount() {
+        return mPager.getTotalEntryCount();
+    }
+
+    public EntryPager<Entry> getPager() {
+        return mPager;
+    }
+
+    /**
+     * Sets a listener that is called (on the loading thread) each time a chunk finished loading.
+     *
+     * @param listener
+     */
+    public void setOnChunkLoadedListener(EntryPager.OnChunkLoadedListener listener) {
+        mPager.setOnChunkLoadedListener(listener);
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        PagedLineDataSet copied = new PagedLineDataSet(mPager.getSource(), getLabel(), mPager.getExecutor(),
+                mPager.getMaxResidentEntries());
+        copy(copied);
+        return copied;
+    }
+}
@@ -0,0 +1,362 @@
+package com.github.mikephil.charting.export;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.os.Looper;
+import android.view.View;
+
+import com.github.mikephil.charting.charts.Chart;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Renders charts off the UI thread without attaching them to a window, e.g. for share images,
+ * thumbnails or file exports. The chart is created and configured by a ChartBuilder on a render
+ * thread, laid out at the requested size and drawn into a bitmap. Encoding runs on a separate
+ * thread so the next chart can be rendered while the previous one is written.
+ * <p>
+ * Charts are laid out at a logical size and drawn with a scale factor, so the output can have any
+ * resolution without changing text sizes and line widths relative to the chart.
+ */
+public class ChartExporter {
+
+    /**
+     * Creates and configures the chart to render. Called on the render thread, the chart must not
+     * be shared with a chart that is shown on screen.
+     */
+    public interface ChartBuilder {
+
+        /**
+         * Creates the chart, sets its data and applies all styling.
+         *
+         * @param context
+         * @return
+         */
+        Chart<?> build(Context context);
+    }
+
+    /**
+     * Receives the tiles of a tiled export. The tile bitmap is reused for the next tile, so it has
+     * to be consumed before returning.
+     */
+    public interface TileListener {
+
+        /**
+         * Called on the render thread for each rendered tile, row by row.
+         *
+         * @param tile   bitmap holding the tile, only the top left width x height pixels are valid
+         * @param left   position of the tile in the output image
+         * @param top    position of the tile in the output image
+         * @param width  width of the valid part of the tile
+         * @param height height of the valid part of the tile
+         * @throws IOException
+         */
+        void onTile(Bitmap tile, int left, int top, int width, int height) throws IOException;
+    }
+
+    private final Context mContext;
+
+    private final Executor mRenderExecutor;
+
+    private final Executor mEncodeExecutor;
+
+    /**
+     * Creates an exporter with one render and one encoding thread.
+     *
+     * @param context
+     */
+    public ChartExporter(Context context) {
+        this(context, newSingleThreadExecutor("MPChart-Render"),
+                newSingleThreadExecutor("MPChart-Encode"));
+    }
+
+    /**
+     * Creates an exporter that renders and encodes on the given executors. Threads of the render
+     * executor are given a Looper if they don't have one, because the chart's touch handling
+     * requires it.
+     *
+     * @param context
+     * @param renderExecutor
+     * @param encodeExecutor
+     */
+    public ChartExporter(Context context, Executor renderExecutor, Executor encodeExecutor) {
+        this.mContext = context;
+        this.mRenderExecutor = renderExecutor;
+        this.mEncodeExecutor = encodeExecutor;
+    }
+
+    /**
+     * Renders the chart into the given bitmap, laid out at the size of the bitmap.
+     *
+     * @param builder
+     * @param target
+     * @return
+     */
+    public Future<Bitmap> render(ChartBuilder builder, Bitmap target) {
+        return render(builder, target.getWidth(), target.getHeight(), target);
+    }
+
+    /**
+     * Renders the chart into the given bitmap. The chart is laid out at width x height and scaled
+     * to fill the bitmap.
+     *
+     * @param builder
+     * @param width   logical width of the chart
+     * @param height  logical height of the chart
+     * @param target
+     * @return
+     */
+    public Future<Bitmap> render(final ChartBuilder builder, final int width, final int height,
+                                 final Bitmap target) {
+
+        FutureTask<Bitmap> task = new FutureTask<>(new Callable<Bitmap>() {
+            @Override
+            public Bitmap call() {
+
+                Chart<?> chart = createChart(builder, width, height);
+
+                Canvas canvas = new Canvas(target);
+                canvas.scale(target.getWidth() / (float) width, target.getHeight() / (float) height);
+
+                drawChart(chart, canvas);
+
+                return target;
+            }
+        });
+
+        mRenderExecutor.execute(task);
+        return task;
+    }
+
+    /**
+     * Renders the chart laid out at width x height, scaled by the given factor, and writes it to
+     * the given stream in the given format. The stream is flushed but not closed. The returned
+     * future completes once the image has been written.
+     *
+     * @param builder
+     * @param width
+     * @param height
+     * @param scale
+     * @param format
+     * @param quality
+     * @param out
+     * @return
+     */
+    public Future<Void> export(final ChartBuilder builder, final int width, final int height,
+                               final float scale, final Bitmap.CompressFormat format,
+                               final int quality, final OutputStream out) {
+
+        final ExportTask encodeTask = new ExportTask();
+
+        mRenderExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+
+                try {
+                    Chart<?> chart = createChart(builder, width, height);
+
+                    final Bitmap bitmap = Bitmap.createBitmap(scaledSize(width, scale),
+                            scaledSize(height, scale), Bitmap.Config.ARGB_8888);
+
+                    Canvas canvas = new Canvas(bitmap);
+                    canvas.scale(scale, scale);
+
+                    drawChart(chart, canvas);
+
+                    encodeTask.setBitmap(bitmap, format, quality, out);
+                    mEncodeExecutor.execute(encodeTask);
+
+                } catch (Throwable t) {
+                    encodeTask.fail(t);
+                }
+            }
+        });
+
+        return encodeTask;
+    }
+
+    /**
+     * Renders the chart laid out at width x height, scaled by the given factor, tile by tile. Only
+     * one tile sized bitmap is allocated, so very large images can be produced with bounded
+     * memory.
+     *
+     * @param builder
+     * @param width
+     * @param height
+     * @param scale
+     * @param tileSize
+     * @param listener
+     * @return
+     */
+    public Future<Void> renderTiled(final ChartBuilder builder, final int width, final int height,
+                                    final float scale, final int tileSize,
+                                    final TileListener listener) {
+
+        if (tileSize < 1)
+            throw new IllegalArgumentException("tileSize must be at least 1");
+
+        FutureTask<Void> task = new FutureTask<>(new Callable<Void>() {
+            @Override
+            public Void call() throws IOException {
+
+                Chart<?> chart = createChart(builder, width, height);
+
+                int outWidth = scaledSize(width, scale);
+                int outHeight = scaledSize(height, scale);
+
+                Bitmap tile = Bitmap.createBitmap(Math.min(tileSize, outWidth),
+                        Math.min(tileSize, outHeight), Bitmap.Config.ARGB_8888);
+                Canvas canvas = new Canvas(tile);
+
+                try {
+                    for (int top = 0; top < outHeight; top += tileSize) {
+                        for (int left = 0; left < outWidth; left += tileSize) {
+
+                            tile.eraseColor(Color.TRANSPARENT);
+
+                            int save = canvas.save();
+                            canvas.translate(-left, -top);
+                            canvas.scale(scale, scale);
+
+                            drawChart(chart, canvas);
+
+                            canvas.restoreToCount(save);
+
+                            listener.onTile(tile, left, top,
+                                    Math.min(tileSize, outWidth - left),
+                                    Math.min(tileSize, outHeight - top));
+                        }
+                    }
+                } finally {
+                    tile.recycle();
+                }
+
+                return null;
+            }
+        });
+
+        mRenderExecutor.execute(task);
+        return task;
+    }
+
+    /**
+     * Creates the chart with the given builder and lays it out at the given size.
+     *
+     * @param builder
+     * @param width
+     * @param height
+     * @return
+     */
+    protected Chart<?> createChart(ChartBuilder builder, int width, int height) {
+
+        // the chart's gesture detectors need a looper on the creating thread
+        if (Looper.myLooper() == null)
+            Looper.prepare();
+
+        Chart<?> chart = builder.build(mContext);
+
+        chart.measure(View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY));
+        chart.layout(0, 0, width, height);
+
+        return chart;
+    }
+
+    /**
+     * Draws the chart on the given canvas, on a white background if the chart has none.
+     *
+     * @param chart
+     * @param canvas
+     */
+    protected void drawChart(Chart<?> chart, Canvas canvas) {
+
+        if (chart.getBackground() == null)
+            canvas.drawColor(Color.WHITE);
+
+        chart.draw(canvas);
+    }
+
+    private static int scaledSize(int size, float scale) {
+        return Math.max(1, (int) Math.ceil(size * scale));
+    }
+
+    private static Executor newSingleThreadExecutor(final String name) {
+        return Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Encodes a rendered bitmap, it can also be completed with the failure of the render step.
+     */
+    private static class ExportTask extends FutureTask<Void> {
+
+        private Bitmap mBitmap;
+        private Bitmap.CompressFormat mFormat;
+        private int mQuality;
+        private OutputStream mOut;
+
+        ExportTask() {
+            super(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    return null;
+                }
+            });
+        }
+
+        void setBitmap(Bitmap bitmap, Bitmap.CompressFormat format, int quality, OutputStream out) {
+            mBitmap = bitmap;
+            mFormat = format;
+            mQuality = quality;
+            mOut = out;
+        }
+
+        void fail(Throwable t) {
+            setException(t);
+        }
+
+        @Override
+        public void run() {
+
+            // cancelled or failed before encoding, the bitmap is not needed anymore
+            if (isDone()) {
+
+                if (mBitmap != null) {
+                    mBitmap.recycle();
+                    mBitmap = null;
+                }
+
+                return;
+            }
+
+            try {
+                if (!mBitmap.compress(mFormat, mQuality, mOut))
+                    throw new IOException("Bitmap could not be encoded as " + mFormat);
+
+                mOut.flush();
+                set(null);
+
+            } catch (Throwable t) {
+                setException(t);
+            } finally {
+                mBitmap.recycle();
+                mBitmap = null;
+            }
+        }
+    }
+}
@@ -7,7 +7,7 @@ import java.text.DecimalFormat;
 /**
  * Created by philipp on 02/06/16.
  */
-public class DefaultAxisValueFormatter implements IAxisValueFormatter
+public class DefaultAxisValueFormatter implements ICacheableAxisValueFormatter
 {
 
     /**
@@ -45,6 +45,11 @@ public class DefaultAxisValueFormatter implements IAxisValueFormatter
         return mFormat.format(value);
     }
 
+    @Override
+    public int getFormatVersion() {
+        return 0;
+    }
+
     /**
      * Returns the number of decimal digits this formatter uses or -1, if unspecified.
      *
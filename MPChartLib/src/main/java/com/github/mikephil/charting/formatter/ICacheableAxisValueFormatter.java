@@ -0,0 +1,20 @@
+package com.github.mikephil.charting.formatter;
+
+/**
+ * Axis value formatter whose labels can be cached by the axis renderers. The label of a value
+ * may only depend on the value, the decimals of the axis and the state of the formatter itself,
+ * not on other state of the chart such as the visible range. Formatters that don't implement
+ * this interface are called for every label that is drawn.
+ */
+public interface ICacheableAxisValueFormatter extends IAxisValueFormatter
+{
+
+    /**
+     * Returns a number that changes whenever the formatter changes the labels it returns for the
+     * same values, e.g. after a pattern was changed. Cached labels of other versions are not
+     * used.
+     *
+     * @return
+     */
+    int getFormatVersion();
+}
@@ -0,0 +1,112 @@
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.components.XAxis;
+import com.github.mikephil.charting.data.TimeScale;
+import com.github.mikephil.charting.math.TimeTicks;
+import com.github.mikephil.charting.utils.DateFormatPool;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Formats the labels of a time axis as dates. The x-values are mapped to timestamps with the
+ * TimeScale of the XAxis, and the date pattern depends on the interval between the labels, e.g.
+ * "HH:mm" for labels every 15 minutes and "MMM yyyy" for labels every month. The DateFormats are
+ * kept in a pool, formatting a label does not create one.
+ */
+public class TimeAxisValueFormatter implements ICacheableAxisValueFormatter {
+
+    /**
+     * the date patterns per unit of the interval between the labels, indexed by TimeTicks.MILLISECOND ...
+     * TimeTicks.YEAR
+     */
+    protected String[] mPatterns = new String[]{
+            "HH:mm:ss.SSS",
+            "HH:mm:ss",
+            "HH:mm",
+            "HH:mm",
+            "dd MMM",
+            "MMM yyyy",
+            "yyyy"
+    };
+
+    protected DateFormatPool mFormats;
+
+    /**
+     * scale used if the axis has none
+     */
+    protected TimeScale mTimeScale;
+
+    /**
+     * changed whenever a pattern is changed
+     */
+    private int mFormatVersion = 0;
+
+    public TimeAxisValueFormatter() {
+        this(Locale.getDefault());
+    }
+
+    public TimeAxisValueFormatter(Locale locale) {
+        this(locale, null);
+    }
+
+    /**
+     * @param locale    the locale of the formatted dates
+     * @param timeScale the scale used to map the values to timestamps if the axis has none, e.g.
+     *                  when formatting values of entries. If null, values are milliseconds.
+     */
+    public TimeAxisValueFormatter(Locale locale, TimeScale timeScale) {
+        mTimeScale = timeScale;
+        mFormats = new DateFormatPool(locale,
+                timeScale != null ? timeScale.getTimeZone() : TimeZone.getDefault());
+    }
+
+    /**
+     * Sets the date pattern used for labels with the given interval unit.
+     *
+     * @param unit    e.g. TimeTicks.HOUR
+     * @param pattern a SimpleDateFormat pattern
+     */
+    public void setPattern(int unit, String pattern) {
+        mPatterns[unit] = pattern;
+        mFormatVersion++;
+    }
+
+    @Override
+    public int getFormatVersion() {
+        return mFormatVersion;
+    }
+
+    public String getPattern(int unit) {
+        return mPatterns[unit];
+    }
+
+    @Override
+    public String getFormattedValue(float value, AxisBase axis) {
+
+        TimeScale scale = mTimeScale;
+        int unit = TimeTicks.MINUTE;
+
+        if (axis instanceof XAxis) {
+
+            XAxis xAxis = (XAxis) axis;
+
+            if (xAxis.getTimeScale() != null) {
+                scale = xAxis.getTimeScale();
+                unit = xAxis.mTimeUnit;
+            }
+        }
+
+        long millis;
+
+        if (scale != null) {
+            mFormats.setTimeZone(scale.getTimeZone());
+            millis = scale.toMillis(value);
+        } else {
+            millis = (long) value;
+        }
+
+        return mFormats.format(mPatterns[unit], millis);
+    }
+}
@@ -1,8 +1,10 @@
 package com.github.mikephil.charting.highlight;
 
 import com.github.mikephil.charting.data.BarData;
+import com.github.mikephil.charting.data.BarDataSet;
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
@@ -17,8 +19,8 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
     }
 
     @Override
-    public Highlight getHighlight(float x, float y) {
-        Highlight high = super.getHighlight(x, y);
+    protected Highlight findHighlight(float x, float y) {
+        Highlight high = super.findHighlight(x, y);
 
         if(high == null) {
             return null;
@@ -31,10 +33,17 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
         IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
         if (set.isStacked()) {
 
-            return getStackedHighlight(high,
-                    set,
-                    (float) pos.x,
-                    (float) pos.y);
+            if (mPooledLookup)
+                high = getStackedHighlight(high,
+                        set,
+                        (float) pos.x,
+                        (float) pos.y,
+                        obtainHighlight());
+            else
+                high = getStackedHighlight(high,
+                        set,
+                        (float) pos.x,
+                        (float) pos.y);
         }
 
         MPPointD.recycleInstance(pos);
@@ -51,8 +60,32 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
      * @param xVal
      * @param yVal
      * @return
+     * @deprecated allocates a Highlight, use getStackedHighlight(Highlight, IBarDataSet, float,
+     * float, Highlight) and setPooledLookup(true) instead. Only used for looking up highlights
+     * while the pooled lookup is disabled.
      */
+    @Deprecated
     public Highlight getStackedHighlight(Highlight high, IBarDataSet set, float xVal, float yVal) {
+        return getStackedHighlight(high, set, xVal, yVal, new Highlight());
+    }
+
+    /**
+     * Same as getStackedHighlight(Highlight, IBarDataSet, float, float), but writes the stacked
+     * Highlight into the given object instead of allocating one. Returns the given high if the
+     * entry is not stacked, outHighlight if it is, or null.
+     *
+     * @param high         the Highlight to work with looking for stacked values
+     * @param set
+     * @param xVal
+     * @param yVal
+     * @param outHighlight
+     * @return
+     */
+    protected Highlight getStackedHighlight(Highlight high, IBarDataSet set, float xVal, float yVal,
+                                            Highlight outHighlight) {
+
+        if (set instanceof BarDataSet)
+            return getStackedHighlight(high, (BarDataSet) set, xVal, yVal, outHighlight);
 
         BarEntry entry = set.getEntryForXValue(xVal, yVal);
 
@@ -70,7 +103,7 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
                 MPPointD pixels = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(high.getX(), ranges[stackIndex].to);
 
-                Highlight stackedHigh = new Highlight(
+                outHighlight.set(
                         entry.getX(),
                         entry.getY(),
                         (float) pixels.x,
@@ -82,13 +115,95 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
 
                 MPPointD.recycleInstance(pixels);
 
-                return stackedHigh;
+                return outHighlight;
             }
         }
 
         return null;
     }
 
+    /**
+     * Same as getStackedHighlight(Highlight, IBarDataSet, float, float, Highlight), but reads the stack from
+     * the flat stack bounds of the dataset instead of the Ranges of the entry.
+     *
+     * @param high
+     * @param set
+     * @param xVal
+     * @param yVal
+     * @param outHighlight
+     * @return
+     */
+    protected Highlight getStackedHighlight(Highlight high, BarDataSet set, float xVal, float yVal,
+                                            Highlight outHighlight) {
+
+        int index = set.getEntryIndex(xVal, yVal, DataSet.Rounding.CLOSEST);
+
+        if (index < 0)
+            return null;
+
+        BarEntry entry = set.getEntryForIndex(index);
+
+        if (entry == null)
+            return null;
+
+        // not stacked
+        if (entry.getYVals() == null)
+            return high;
+
+        int offset = set.getStackBoundsOffset(index);
+        float[] bounds = set.getStackBounds();
+
+        int stackCount = (int) bounds[offset];
+
+        if (stackCount == 0)
+            return null;
+
+        int stackIndex = getClosestStackIndex(bounds, offset + 1, stackCount, yVal);
+        float to = bounds[offset + 1 + stackIndex * BarDataSet.STACK_SEGMENT_SIZE + 2];
+
+        MPPointD pixels = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(high.getX(), to);
+
+        outHighlight.set(
+                entry.getX(),
+                entry.getY(),
+                (float) pixels.x,
+                (float) pixels.y,
+                high.getDataSetIndex(),
+                stackIndex,
+                high.getAxis()
+        );
+
+        MPPointD.recycleInstance(pixels);
+
+        return outHighlight;
+    }
+
+    /**
+     * Same as getClosestStackIndex(Range[], float), for stack values in the flat stack bounds of a
+     * BarDataSet.
+     *
+     * @param bounds     the stack bounds
+     * @param offset     the offset of the first stack value
+     * @param stackCount the number of stack values
+     * @param value
+     * @return
+     */
+    protected int getClosestStackIndex(float[] bounds, int offset, int stackCount, float value) {
+
+        for (int k = 0; k < stackCount; k++) {
+
+            int i = offset + k * BarDataSet.STACK_SEGMENT_SIZE;
+
+            // same as Range.contains(value)
+            if (value > bounds[i + 1] && value <= bounds[i + 2])
+                return k;
+        }
+
+        int last = offset + (stackCount - 1) * BarDataSet.STACK_SEGMENT_SIZE;
+
+        return (value > bounds[last + 2]) ? stackCount - 1 : 0;
+    }
+
     /**
      * Returns the index of the closest value inside the values array / ranges (stacked barchart) to the value
      * given as
@@ -7,6 +7,7 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -27,6 +28,27 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      */
     protected List<Highlight> mHighlightBuffer = new ArrayList<Highlight>();
 
+    /**
+     * Highlight objects handed out during a single lookup, reused by the next lookup
+     */
+    private List<Highlight> mHighlightPool = new ArrayList<Highlight>();
+
+    /**
+     * the number of Highlight objects of the pool in use by the current lookup
+     */
+    private int mHighlightPoolIndex = 0;
+
+    /**
+     * buffer for the entries at a single x-value
+     */
+    protected List<Entry> mEntryBuffer = new ArrayList<Entry>();
+
+    /**
+     * if true, highlights are looked up with the pooled hooks, otherwise with the deprecated
+     * allocating hooks
+     */
+    protected boolean mPooledLookup = false;
+
     public ChartHighlighter(T chart) {
         this.mChart = chart;
     }
@@ -34,6 +56,39 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
     @Override
     public Highlight getHighlight(float x, float y) {
 
+        Highlight high = findHighlight(x, y);
+
+        if (high == null)
+            return null;
+
+        Highlight result = new Highlight();
+        result.set(high);
+        return result;
+    }
+
+    @Override
+    public boolean getHighlight(float x, float y, Highlight outHighlight) {
+
+        Highlight high = findHighlight(x, y);
+
+        if (high == null)
+            return false;
+
+        outHighlight.set(high);
+        return true;
+    }
+
+    /**
+     * Returns the Highlight for the given x- and y- touch positions in pixels, or null. The
+     * returned object belongs to the pool of this highlighter and is only valid until the next
+     * lookup, it must be copied before it is handed out.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    protected Highlight findHighlight(float x, float y) {
+
         MPPointD pos = getValsForTouch(x, y);
         float xVal = (float) pos.x;
         MPPointD.recycleInstance(pos);
@@ -42,6 +97,48 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
         return high;
     }
 
+    /**
+     * If set to true, highlights are looked up with the hooks that reuse the Highlight objects of
+     * the pool of this highlighter, e.g. buildHighlights(IDataSet, int, float, DataSet.Rounding,
+     * List). Default: false, the deprecated hooks that allocate are used so that subclasses
+     * overriding them keep working. The highlighters created by the charts enable this.
+     *
+     * @param enabled
+     */
+    public void setPooledLookup(boolean enabled) {
+        mPooledLookup = enabled;
+    }
+
+    /**
+     * Returns true if highlights are looked up with the pooled hooks.
+     *
+     * @return
+     */
+    public boolean isPooledLookup() {
+        return mPooledLookup;
+    }
+
+    /**
+     * Returns a Highlight object of the pool, it stays valid until resetHighlightPool() is
+     * called at the start of the next lookup.
+     *
+     * @return
+     */
+    protected Highlight obtainHighlight() {
+
+        if (mHighlightPoolIndex == mHighlightPool.size())
+            mHighlightPool.add(new Highlight());
+
+        return mHighlightPool.get(mHighlightPoolIndex++);
+    }
+
+    /**
+     * Hands all Highlight objects back to the pool, called at the start of every lookup.
+     */
+    protected void resetHighlightPool() {
+        mHighlightPoolIndex = 0;
+    }
+
     /**
      * Returns a recyclable MPPointD instance.
      * Returns the corresponding xPos for a given touch-position in pixels.
@@ -128,6 +225,7 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
     protected List<Highlight> getHighlightsAtXValue(float xVal, float x, float y) {
 
         mHighlightBuffer.clear();
+        resetHighlightPool();
 
         BarLineScatterCandleBubbleData data = getData();
 
@@ -142,12 +240,33 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
             if (!dataSet.isHighlightEnabled())
                 continue;
 
-            mHighlightBuffer.addAll(buildHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST));
+            addHighlights(dataSet, i, xVal, DataSet.Rounding.CLOSEST, mHighlightBuffer);
         }
 
         return mHighlightBuffer;
     }
 
+    /**
+     * Adds the `Highlight` objects corresponding to the selected xValue and dataSetIndex to the
+     * given list. Uses buildHighlights(IDataSet, int, float, DataSet.Rounding, List) if
+     * setPooledLookup(true) was set, the deprecated buildHighlights(IDataSet, int, float,
+     * DataSet.Rounding) otherwise.
+     *
+     * @param set
+     * @param dataSetIndex
+     * @param xVal
+     * @param rounding
+     * @param outHighlights
+     */
+    protected void addHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding,
+                                 List<Highlight> outHighlights) {
+
+        if (mPooledLookup)
+            buildHighlights(set, dataSetIndex, xVal, rounding, outHighlights);
+        else
+            outHighlights.addAll(buildHighlights(set, dataSetIndex, xVal, rounding));
+    }
+
     /**
      * An array of `Highlight` objects corresponding to the selected xValue and dataSetIndex.
      *
@@ -156,37 +275,80 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
      * @param xVal
      * @param rounding
      * @return
+     * @deprecated allocates a list and a Highlight per entry, use
+     * buildHighlights(IDataSet, int, float, DataSet.Rounding, List) and setPooledLookup(true)
+     * instead. Only used for looking up highlights while the pooled lookup is disabled.
      */
+    @Deprecated
     protected List<Highlight> buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding) {
 
         ArrayList<Highlight> highlights = new ArrayList<>();
 
+        int poolIndex = mHighlightPoolIndex;
+
+        buildHighlights(set, dataSetIndex, xVal, rounding, highlights);
+
+        // hand out copies, the pooled objects are reused by the next lookup
+        for (int i = 0; i < highlights.size(); i++) {
+            Highlight high = new Highlight();
+            high.set(highlights.get(i));
+            highlights.set(i, high);
+        }
+
+        mHighlightPoolIndex = poolIndex;
+
+        return highlights;
+    }
+
+    /**
+     * Adds the `Highlight` objects corresponding to the selected xValue and dataSetIndex to the
+     * given list. The added objects are taken from the pool of this highlighter.
+     *
+     * @param set
+     * @param dataSetIndex
+     * @param xVal
+     * @param rounding
+     * @param outHighlights
+     */
+    protected void buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding,
+                                   List<Highlight> outHighlights) {
+
+        List<Entry> entries = mEntryBuffer;
+
         //noinspection unchecked
-        List<Entry> entries = set.getEntriesForXValue(xVal);
+        set.getEntriesForXValue(xVal, entries);
         if (entries.size() == 0) {
             // Try to find closest x-value and take all entries for that x-value
             final Entry closest = set.getEntryForXValue(xVal, Float.NaN, rounding);
             if (closest != null)
             {
                 //noinspection unchecked
-                entries = set.getEntriesForXValue(closest.getX());
+                set.getEntriesForXValue(closest.getX(), entries);
             }
         }
 
         if (entries.size() == 0)
-            return highlights;
+            return;
 
-        for (Entry e : entries) {
-            MPPointD pixels = mChart.getTransformer(
-                    set.getAxisDependency()).getPixelForValues(e.getX(), e.getY());
+        Transformer trans = mChart.getTransformer(set.getAxisDependency());
 
-            highlights.add(new Highlight(
-                    e.getX(), e.getY(),
+        for (int i = 0; i < entries.size(); i++) {
+
+            Entry e = entries.get(i);
+
+            MPPointD pixels = trans.getPixelForValues(e.getX(), e.getY());
+
+            Highlight high = obtainHighlight();
+            high.set(e.getX(), e.getY(),
                     (float) pixels.x, (float) pixels.y,
-                    dataSetIndex, set.getAxisDependency()));
+                    dataSetIndex, -1, set.getAxisDependency());
+            outHighlights.add(high);
+
+            MPPointD.recycleInstance(pixels);
         }
 
-        return highlights;
+        // don't hold on to the entries
+        entries.clear();
     }
 
     /**
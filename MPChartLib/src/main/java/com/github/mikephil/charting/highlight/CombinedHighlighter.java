@@ -28,10 +28,19 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
         barHighlighter = barChart.getBarData() == null ? null : new BarHighlighter(barChart);
     }
 
+    @Override
+    public void setPooledLookup(boolean enabled) {
+        super.setPooledLookup(enabled);
+
+        if (barHighlighter != null)
+            barHighlighter.setPooledLookup(enabled);
+    }
+
     @Override
     protected List<Highlight> getHighlightsAtXValue(float xVal, float x, float y) {
 
         mHighlightBuffer.clear();
+        resetHighlightPool();
 
         List<BarLineScatterCandleBubbleData> dataObjects = mChart.getCombinedData().getAllData();
 
@@ -41,9 +50,9 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
 
             // in case of BarData, let the BarHighlighter take over
             if (barHighlighter != null && dataObject instanceof BarData) {
-                Highlight high = barHighlighter.getHighlight(x, y);
+                Highlight high = obtainHighlight();
 
-                if (high != null) {
+                if (barHighlighter.getHighlight(x, y, high)) {
                     high.setDataIndex(i);
                     mHighlightBuffer.add(high);
                 }
@@ -57,12 +66,12 @@ public class CombinedHighlighter extends ChartHighlighter<CombinedDataProvider>
                     if (!dataSet.isHighlightEnabled())
                         continue;
 
-                    List<Highlight> highs = buildHighlights(dataSet, j, xVal, DataSet.Rounding.CLOSEST);
-                    for (Highlight high : highs)
-                    {
-                        high.setDataIndex(i);
-                        mHighlightBuffer.add(high);
-                    }
+                    int start = mHighlightBuffer.size();
+
+                    addHighlights(dataSet, j, xVal, DataSet.Rounding.CLOSEST, mHighlightBuffer);
+
+                    for (int k = start; k < mHighlightBuffer.size(); k++)
+                        mHighlightBuffer.get(k).setDataIndex(i);
                 }
             }
         }
@@ -60,6 +60,14 @@ public class Highlight {
      */
     private float mDrawY;
 
+    /**
+     * Creates an empty Highlight that is filled later on with set(...), e.g. as a reusable
+     * buffer for IHighlighter.getHighlight(float, float, Highlight).
+     */
+    public Highlight() {
+        this.mDataSetIndex = -1;
+    }
+
     public Highlight(float x, float y, int dataSetIndex, int dataIndex) {
         this.mX = x;
         this.mY = y;
@@ -109,6 +117,50 @@ public class Highlight {
         this.mStackIndex = stackIndex;
     }
 
+    /**
+     * Sets all values of this Highlight, so that it can be reused instead of allocating a new
+     * one. The data index and the draw position are reset.
+     *
+     * @param x            the x-value of the highlighted value
+     * @param y            the y-value of the highlighted value
+     * @param xPx          the x-position of the highlight in pixels
+     * @param yPx          the y-position of the highlight in pixels
+     * @param dataSetIndex the index of the DataSet the highlighted value belongs to
+     * @param stackIndex   the selected value of a stacked BarEntry, -1 if not stacked
+     * @param axis         the axis the highlighted value belongs to
+     */
+    public void set(float x, float y, float xPx, float yPx, int dataSetIndex, int stackIndex,
+                    YAxis.AxisDependency axis) {
+        this.mX = x;
+        this.mY = y;
+        this.mXPx = xPx;
+        this.mYPx = yPx;
+        this.mDataIndex = -1;
+        this.mDataSetIndex = dataSetIndex;
+        this.mStackIndex = stackIndex;
+        this.axis = axis;
+        this.mDrawX = 0f;
+        this.mDrawY = 0f;
+    }
+
+    /**
+     * Copies all values of the given Highlight into this one.
+     *
+     * @param h
+     */
+    public void set(Highlight h) {
+        this.mX = h.mX;
+        this.mY = h.mY;
+        this.mXPx = h.mXPx;
+        this.mYPx = h.mYPx;
+        this.mDataIndex = h.mDataIndex;
+        this.mDataSetIndex = h.mDataSetIndex;
+        this.mStackIndex = h.mStackIndex;
+        this.axis = h.axis;
+        this.mDrawX = h.mDrawX;
+        this.mDrawY = h.mDrawY;
+    }
+
     /**
      * returns the x-value of the highlighted value
      *
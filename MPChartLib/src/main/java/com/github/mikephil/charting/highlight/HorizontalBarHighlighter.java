@@ -7,8 +7,8 @@ import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -20,24 +20,34 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 		super(chart);
 	}
 
+	@SuppressWarnings("deprecation")
 	@Override
-	public Highlight getHighlight(float x, float y) {
+	protected Highlight findHighlight(float x, float y) {
 
 		BarData barData = mChart.getBarData();
 
 		MPPointD pos = getValsForTouch(y, x);
 
 		Highlight high = getHighlightForX((float) pos.y, y, x);
-		if (high == null)
+		if (high == null) {
+			MPPointD.recycleInstance(pos);
 			return null;
+		}
 
 		IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
 		if (set.isStacked()) {
 
-			return getStackedHighlight(high,
-					set,
-					(float) pos.y,
-					(float) pos.x);
+			if (mPooledLookup)
+				high = getStackedHighlight(high,
+						set,
+						(float) pos.y,
+						(float) pos.x,
+						obtainHighlight());
+			else
+				high = getStackedHighlight(high,
+						set,
+						(float) pos.y,
+						(float) pos.x);
 		}
 
 		MPPointD.recycleInstance(pos);
@@ -46,36 +56,45 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 	}
 
 	@Override
-	protected List<Highlight> buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding) {
+	protected void buildHighlights(IDataSet set, int dataSetIndex, float xVal, DataSet.Rounding rounding,
+								   List<Highlight> outHighlights) {
 
-		ArrayList<Highlight> highlights = new ArrayList<>();
+		List<Entry> entries = mEntryBuffer;
 
 		//noinspection unchecked
-		List<Entry> entries = set.getEntriesForXValue(xVal);
+		set.getEntriesForXValue(xVal, entries);
 		if (entries.size() == 0) {
 			// Try to find closest x-value and take all entries for that x-value
 			final Entry closest = set.getEntryForXValue(xVal, Float.NaN, rounding);
 			if (closest != null)
 			{
 				//noinspection unchecked
-				entries = set.getEntriesForXValue(closest.getX());
+				set.getEntriesForXValue(closest.getX(), entries);
 			}
 		}
 
 		if (entries.size() == 0)
-			return highlights;
+			return;
+
+		Transformer trans = mChart.getTransformer(set.getAxisDependency());
+
+		for (int i = 0; i < entries.size(); i++) {
 
-		for (Entry e : entries) {
-			MPPointD pixels = mChart.getTransformer(
-					set.getAxisDependency()).getPixelForValues(e.getY(), e.getX());
+			Entry e = entries.get(i);
 
-			highlights.add(new Highlight(
-					e.getX(), e.getY(),
+			MPPointD pixels = trans.getPixelForValues(e.getY(), e.getX());
+
+			Highlight high = obtainHighlight();
+			high.set(e.getX(), e.getY(),
 					(float) pixels.x, (float) pixels.y,
-					dataSetIndex, set.getAxisDependency()));
+					dataSetIndex, -1, set.getAxisDependency());
+			outHighlights.add(high);
+
+			MPPointD.recycleInstance(pixels);
 		}
 
-		return highlights;
+		// don't hold on to the entries
+		entries.clear();
 	}
 
 	@Override
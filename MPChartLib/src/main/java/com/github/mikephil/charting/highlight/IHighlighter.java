@@ -14,4 +14,16 @@ public interface IHighlighter
      * @return
      */
     Highlight getHighlight(float x, float y);
+
+    /**
+     * Writes the Highlight corresponding to the given x- and y- touch positions in pixels into
+     * the given Highlight instead of allocating a new one. Returns false if nothing is
+     * highlighted at the given position, outHighlight is left untouched in that case.
+     *
+     * @param x
+     * @param y
+     * @param outHighlight
+     * @return
+     */
+    boolean getHighlight(float x, float y, Highlight outHighlight);
 }
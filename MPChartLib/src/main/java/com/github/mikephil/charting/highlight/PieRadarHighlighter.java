@@ -54,6 +54,18 @@ public abstract class PieRadarHighlighter<T extends PieRadarChartBase> implement
         }
     }
 
+    @Override
+    public boolean getHighlight(float x, float y, Highlight outHighlight) {
+
+        Highlight high = getHighlight(x, y);
+
+        if (high == null)
+            return false;
+
+        outHighlight.set(high);
+        return true;
+    }
+
     /**
      * Returns the closest Highlight object of the given objects based on the touch position inside the chart.
      *
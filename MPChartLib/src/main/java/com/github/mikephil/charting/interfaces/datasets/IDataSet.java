@@ -114,6 +114,16 @@ public interface IDataSet<T extends Entry> {
      */
     List<T> getEntriesForXValue(float xValue);
 
+    /**
+     * Clears the given list and fills it with all Entry objects found at the given x-value,
+     * without allocating. Use this instead of getEntriesForXValue(float) in performance
+     * critical situations, e.g. while highlighting on touch.
+     *
+     * @param xValue
+     * @param outEntries the list the entries are written to
+     */
+    void getEntriesForXValue(float xValue, List<T> outEntries);
+
     /**
      * Returns the Entry object found at the given index (NOT xIndex) in the values array.
      *
@@ -0,0 +1,29 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+import com.github.mikephil.charting.data.Entry;
+
+/**
+ * Interface for DataSets that only keep the entries around the visible x-range in memory and
+ * load the rest on demand.
+ */
+public interface IPagedDataSet<T extends Entry> extends IDataSet<T> {
+
+    /**
+     * Called by the renderers each time the visible x-range is evaluated. Implementations request
+     * the data needed for this range and swap in entries that finished loading, so the DataSet
+     * must only be mutated from within this call.
+     *
+     * @param fromX lowest visible x-value
+     * @param toX   highest visible x-value
+     */
+    void setVisibleXRange(float fromX, float toX);
+
+    /**
+     * Requests the data of the given x-range ahead of time, e.g. for the range that will be visible
+     * at the end of a fling. Must not mutate the DataSet.
+     *
+     * @param fromX
+     * @param toX
+     */
+    void prefetchXRange(float fromX, float toX);
+}
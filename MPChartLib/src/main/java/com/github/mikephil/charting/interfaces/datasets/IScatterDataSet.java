@@ -35,4 +35,12 @@ public interface IScatterDataSet extends ILineScatterCandleRadarDataSet<Entry> {
      * @return
      */
     IShapeRenderer getShapeRenderer();
+
+    /**
+     * Returns true if the shapes of this DataSet are drawn from pre-rendered bitmaps instead of
+     * being drawn one by one.
+     *
+     * @return
+     */
+    boolean isSpriteRenderingEnabled();
 }
@@ -11,12 +11,18 @@ import android.view.animation.AnimationUtils;
 
 import com.github.mikephil.charting.charts.BarLineChartBase;
 import com.github.mikephil.charting.charts.HorizontalBarChart;
+import com.github.mikephil.charting.components.XAxis;
+import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IPagedDataSet;
+import com.github.mikephil.charting.math.FlingDecay;
+import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -60,9 +66,19 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
      */
     private VelocityTracker mVelocityTracker;
 
-    private long mDecelerationLastTime = 0;
+    /**
+     * the deceleration after a fling, computed from the time since the fling started
+     */
+    private FlingDecay mFling = new FlingDecay();
+
+    private MPPointF mDecelerationStartPoint = MPPointF.getInstance(0,0);
     private MPPointF mDecelerationCurrentPoint = MPPointF.getInstance(0,0);
-    private MPPointF mDecelerationVelocity = MPPointF.getInstance(0,0);
+
+    /**
+     * the drag distances of the last fling step
+     */
+    private float mLastFlingDistanceX;
+    private float mLastFlingDistanceY;
 
     /**
      * the distance of movement that will be counted as a drag
@@ -74,6 +90,11 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
      */
     private float mMinScalePointerDistance;
 
+    /**
+     * buffer for the highlight lookups while dragging
+     */
+    private Highlight mDragHighlight = new Highlight();
+
     /**
      * Constructor with initialization parameters.
      *
@@ -233,13 +254,22 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
 
                         stopDeceleration();
 
-                        mDecelerationLastTime = AnimationUtils.currentAnimationTimeMillis();
+                        mDecelerationStartPoint.x = event.getX();
+                        mDecelerationStartPoint.y = event.getY();
+
+                        // the fling starts from the current viewport, which might have been
+                        // dragged beyond the bounds of the data
+                        mSavedMatrix.set(mMatrix);
+                        mTouchStartPoint.x = event.getX();
+                        mTouchStartPoint.y = event.getY();
+
+                        mLastFlingDistanceX = 0f;
+                        mLastFlingDistanceY = 0f;
 
-                        mDecelerationCurrentPoint.x = event.getX();
-                        mDecelerationCurrentPoint.y = event.getY();
+                        mFling.start(velocityX, velocityY, mChart.getDragDecelerationFrictionCoef(),
+                                AnimationUtils.currentAnimationTimeMillis());
 
-                        mDecelerationVelocity.x = velocityX;
-                        mDecelerationVelocity.y = velocityY;
+                        prefetchFlingEnd();
 
                         Utils.postInvalidateOnAnimation(mChart); // This causes computeScroll to fire, recommended for this by
                         // Google
@@ -441,9 +471,13 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
      */
     private void performHighlightDrag(MotionEvent e) {
 
-        Highlight h = mChart.getHighlightByTouchPoint(e.getX(), e.getY());
+        // look up into a reused buffer, only allocate once the highlight changes
+        if (mChart.getHighlightByTouchPoint(e.getX(), e.getY(), mDragHighlight)
+                && !mDragHighlight.equalTo(mLastHighlighted)) {
+
+            Highlight h = new Highlight();
+            h.set(mDragHighlight);
 
-        if (h != null && !h.equalTo(mLastHighlighted)) {
             mLastHighlighted = h;
             mChart.highlightValue(h, true);
         }
@@ -648,27 +682,69 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
     }
 
     public void stopDeceleration() {
-        mDecelerationVelocity.x = 0;
-        mDecelerationVelocity.y = 0;
+        mFling.abort();
     }
 
-    public void computeScroll() {
+    /**
+     * Lays out the x-axis labels and requests the data of paged datasets for the x-range that will
+     * be visible at the end of the current fling.
+     */
+    protected void prefetchFlingEnd() {
 
-        if (mDecelerationVelocity.x == 0.f && mDecelerationVelocity.y == 0.f)
-            return; // There's no deceleration in progress
+        if (mFling.isFinished())
+            return;
 
-        final long currentTime = AnimationUtils.currentAnimationTimeMillis();
+        float dx = mChart.isDragXEnabled() ? mFling.getFinalOffsetX() : 0f;
+        float dy = mChart.isDragYEnabled() ? mFling.getFinalOffsetY() : 0f;
+
+        ViewPortHandler h = mChart.getViewPortHandler();
+        Transformer trans = mChart.getTransformer(YAxis.AxisDependency.LEFT);
+
+        // the values that will be at the edges of the content rect after moving by dx, dy
+        MPPointD from = trans.getValuesByTouchPoint(h.contentLeft() - dx, h.contentBottom() - dy);
+        MPPointD to = trans.getValuesByTouchPoint(h.contentRight() - dx, h.contentTop() - dy);
+
+        boolean horizontal = mChart instanceof HorizontalBarChart;
 
-        mDecelerationVelocity.x *= mChart.getDragDecelerationFrictionCoef();
-        mDecelerationVelocity.y *= mChart.getDragDecelerationFrictionCoef();
+        float fromX = (float) (horizontal ? Math.min(from.y, to.y) : Math.min(from.x, to.x));
+        float toX = (float) (horizontal ? Math.max(from.y, to.y) : Math.max(from.x, to.x));
 
-        final float timeInterval = (float) (currentTime - mDecelerationLastTime) / 1000.f;
+        MPPointD.recycleInstance(from);
+        MPPointD.recycleInstance(to);
 
-        float distanceX = mDecelerationVelocity.x * timeInterval;
-        float distanceY = mDecelerationVelocity.y * timeInterval;
+        XAxis xAxis = mChart.getXAxis();
 
-        mDecelerationCurrentPoint.x += distanceX;
-        mDecelerationCurrentPoint.y += distanceY;
+        fromX = Math.max(fromX, xAxis.mAxisMinimum);
+        toX = Math.min(toX, xAxis.mAxisMaximum);
+
+        if (fromX >= toX)
+            return;
+
+        mChart.getRendererXAxis().prefetchAxis(fromX, toX);
+
+        BarLineScatterCandleBubbleData<?> data = mChart.getData();
+
+        if (data == null)
+            return;
+
+        for (int i = 0; i < data.getDataSetCount(); i++) {
+
+            IDataSet set = data.getDataSetByIndex(i);
+
+            if (set instanceof IPagedDataSet)
+                ((IPagedDataSet) set).prefetchXRange(fromX, toX);
+        }
+    }
+
+    public void computeScroll() {
+
+        final long currentTime = AnimationUtils.currentAnimationTimeMillis();
+
+        if (!mFling.computeOffset(currentTime))
+            return; // There's no deceleration in progress
+
+        mDecelerationCurrentPoint.x = mDecelerationStartPoint.x + mFling.getOffsetX();
+        mDecelerationCurrentPoint.y = mDecelerationStartPoint.y + mFling.getOffsetY();
 
         MotionEvent event = MotionEvent.obtain(currentTime, currentTime, MotionEvent.ACTION_MOVE, mDecelerationCurrentPoint.x,
                 mDecelerationCurrentPoint.y, 0);
@@ -679,11 +755,22 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
         performDrag(event, dragDistanceX, dragDistanceY);
 
         event.recycle();
-        mMatrix = mChart.getViewPortHandler().refresh(mMatrix, mChart, false);
 
-        mDecelerationLastTime = currentTime;
+        ViewPortHandler h = mChart.getViewPortHandler();
+
+        float transX = h.getTransX();
+        float transY = h.getTransY();
+
+        mMatrix = h.refresh(mMatrix, mChart, false);
+
+        // the viewport stopped at the bounds of the data
+        boolean clamped = transX == h.getTransX() && transY == h.getTransY()
+                && (dragDistanceX != mLastFlingDistanceX || dragDistanceY != mLastFlingDistanceY);
+
+        mLastFlingDistanceX = dragDistanceX;
+        mLastFlingDistanceY = dragDistanceY;
 
-        if (Math.abs(mDecelerationVelocity.x) >= 0.01 || Math.abs(mDecelerationVelocity.y) >= 0.01)
+        if (!mFling.isFinished() && !clamped)
             Utils.postInvalidateOnAnimation(mChart); // This causes computeScroll to fire, recommended for this by Google
         else {
             // Range might have changed, which means that Y-axis labels
@@ -0,0 +1,22 @@
+package com.github.mikephil.charting.listener;
+
+import android.view.View;
+
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * Listener for changes of the touch matrix of a ViewPortHandler, e.g. by dragging, zooming or
+ * flinging the chart.
+ */
+public interface OnViewPortChangedListener {
+
+    /**
+     * Called after the touch matrix of the given ViewPortHandler was refreshed. The listener is
+     * responsible for invalidating the chart if requested.
+     *
+     * @param viewPortHandler
+     * @param chart           the chart the matrix was refreshed for
+     * @param invalidate      true if the chart should be invalidated
+     */
+    void onViewPortChanged(ViewPortHandler viewPortHandler, View chart, boolean invalidate);
+}
@@ -9,6 +9,7 @@ import android.view.animation.AnimationUtils;
 
 import com.github.mikephil.charting.charts.PieRadarChartBase;
 import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.math.FlingDecay;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 
@@ -30,8 +31,12 @@ public class PieRadarChartTouchListener extends ChartTouchListener<PieRadarChart
 
     private ArrayList<AngularVelocitySample> _velocitySamples = new ArrayList<AngularVelocitySample>();
 
-    private long mDecelerationLastTime = 0;
-    private float mDecelerationAngularVelocity = 0.f;
+    /**
+     * the deceleration of the rotation after a fling, computed from the time since the fling started
+     */
+    private FlingDecay mFling = new FlingDecay();
+
+    private float mDecelerationStartAngle = 0.f;
 
     public PieRadarChartTouchListener(PieRadarChartBase<?> chart) {
         super(chart);
@@ -96,11 +101,12 @@ public class PieRadarChartTouchListener extends ChartTouchListener<PieRadarChart
 
                         sampleVelocity(x, y);
 
-                        mDecelerationAngularVelocity = calculateVelocity();
+                        mDecelerationStartAngle = mChart.getRotationAngle();
 
-                        if (mDecelerationAngularVelocity != 0.f) {
-                            mDecelerationLastTime = AnimationUtils.currentAnimationTimeMillis();
+                        mFling.start(calculateVelocity(), 0.f, mChart.getDragDecelerationFrictionCoef(),
+                                AnimationUtils.currentAnimationTimeMillis());
 
+                        if (!mFling.isFinished()) {
                             Utils.postInvalidateOnAnimation(mChart); // This causes computeScroll to fire, recommended for this by Google
                         }
                     }
@@ -248,31 +254,21 @@ public class PieRadarChartTouchListener extends ChartTouchListener<PieRadarChart
     }
 
     /**
-     * Sets the deceleration-angular-velocity to 0f
+     * Stops the rotation of a fling
      */
     public void stopDeceleration() {
-        mDecelerationAngularVelocity = 0.f;
+        mFling.abort();
     }
 
     public void computeScroll() {
 
-        if (mDecelerationAngularVelocity == 0.f)
+        if (!mFling.computeOffset(AnimationUtils.currentAnimationTimeMillis()))
             return; // There's no deceleration in progress
 
-        final long currentTime = AnimationUtils.currentAnimationTimeMillis();
-
-        mDecelerationAngularVelocity *= mChart.getDragDecelerationFrictionCoef();
-
-        final float timeInterval = (float) (currentTime - mDecelerationLastTime) / 1000.f;
-
-        mChart.setRotationAngle(mChart.getRotationAngle() + mDecelerationAngularVelocity * timeInterval);
-
-        mDecelerationLastTime = currentTime;
+        mChart.setRotationAngle(mDecelerationStartAngle + mFling.getOffsetX());
 
-        if (Math.abs(mDecelerationAngularVelocity) >= 0.001)
+        if (!mFling.isFinished())
             Utils.postInvalidateOnAnimation(mChart); // This causes computeScroll to fire, recommended for this by Google
-        else
-            stopDeceleration();
     }
 
     private class AngularVelocitySample {
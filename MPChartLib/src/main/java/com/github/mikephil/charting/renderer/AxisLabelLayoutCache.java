@@ -0,0 +1,191 @@
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Paint;
+import android.graphics.Typeface;
+
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.components.AxisLabelLayout;
+import com.github.mikephil.charting.formatter.DefaultAxisValueFormatter;
+import com.github.mikephil.charting.formatter.IAxisValueFormatter;
+import com.github.mikephil.charting.utils.MemoryLruCache;
+
+import java.util.Arrays;
+
+/**
+ * Cache of the AxisLabelLayouts of an axis renderer, keyed by the label positions, decimals,
+ * formatter, label version, text size and typeface. Only used for axes whose formatter
+ * implements ICacheableAxisValueFormatter. Lookups of cached layouts don't allocate. Thread safe, the
+ * labels are measured with a paint that belongs to the cache.
+ */
+public class AxisLabelLayoutCache {
+
+    /**
+     * the default number of layouts kept in the cache
+     */
+    public static final int DEFAULT_MAX_LAYOUTS = 32;
+
+    private MemoryLruCache<LayoutKey, AxisLabelLayout> mCache;
+
+    /**
+     * key used for lookups, to avoid an allocation per lookup
+     */
+    private LayoutKey mLookupKey = new LayoutKey();
+
+    private Paint mMeasurePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    /**
+     * formatter used in place of the default formatter of the axis when laying out labels for
+     * other decimals than the current ones of the axis
+     */
+    private DefaultAxisValueFormatter mDefaultFormatter;
+
+    public AxisLabelLayoutCache() {
+        this(DEFAULT_MAX_LAYOUTS);
+    }
+
+    public AxisLabelLayoutCache(int maxLayouts) {
+        mCache = new MemoryLruCache<>(maxLayouts);
+    }
+
+    /**
+     * Returns the layout of the labels at the given positions of the given axis, formats and
+     * measures them if the layout is not in the cache.
+     *
+     * @param entries    the label positions
+     * @param entryCount the number of valid label positions
+     * @param decimals   the number of decimals of the labels
+     * @param axis
+     * @return
+     */
+    public synchronized AxisLabelLayout getLayout(float[] entries, int entryCount, int decimals, AxisBase axis) {
+
+        IAxisValueFormatter formatter = axis.getValueFormatter();
+
+        // the axis only creates its default formatter for its current decimals
+        if (formatter.getClass() == DefaultAxisValueFormatter.class
+                && ((DefaultAxisValueFormatter) formatter).getDecimalDigits() != decimals) {
+
+            if (mDefaultFormatter == null || mDefaultFormatter.getDecimalDigits() != decimals)
+                mDefaultFormatter = new DefaultAxisValueFormatter(decimals);
+
+            formatter = mDefaultFormatter;
+        }
+
+        mLookupKey.set(entries, entryCount, decimals, formatter, axis.getLabelVersion(formatter),
+                axis.getTextSize(), axis.getTypeface());
+
+        AxisLabelLayout layout = mCache.get(mLookupKey);
+
+        if (layout == null) {
+
+            mMeasurePaint.setTextSize(axis.getTextSize());
+            mMeasurePaint.setTypeface(axis.getTypeface());
+
+            layout = new AxisLabelLayout(entries, entryCount, decimals, formatter, axis, mMeasurePaint);
+            mCache.put(mLookupKey.copy(), layout);
+        }
+
+        // don't hold on to the array of the caller
+        mLookupKey.set(null, 0, 0, null, 0L, 0f, null);
+
+        return layout;
+    }
+
+    /**
+     * Removes all layouts, e.g. after the formatter changed its output without being replaced.
+     */
+    public void clear() {
+        mCache.evictAll();
+    }
+
+    /**
+     * Returns the number of lookups that found a layout in the cache.
+     *
+     * @return
+     */
+    public int getHitCount() {
+        return mCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of lookups that had to lay out the labels.
+     *
+     * @return
+     */
+    public int getMissCount() {
+        return mCache.getMissCount();
+    }
+
+    private static final class LayoutKey {
+
+        private float[] mEntries;
+        private int mEntryCount;
+        private int mDecimals;
+        private IAxisValueFormatter mFormatter;
+        private long mVersion;
+        private float mTextSize;
+        private Typeface mTypeface;
+
+        void set(float[] entries, int entryCount, int decimals, IAxisValueFormatter formatter,
+                 long version, float textSize, Typeface typeface) {
+            mEntries = entries;
+            mEntryCount = entryCount;
+            mDecimals = decimals;
+            mFormatter = formatter;
+            mVersion = version;
+            mTextSize = textSize;
+            mTypeface = typeface;
+        }
+
+        LayoutKey copy() {
+            LayoutKey key = new LayoutKey();
+            key.set(Arrays.copyOf(mEntries, mEntryCount), mEntryCount, mDecimals, mFormatter,
+                    mVersion, mTextSize, mTypeface);
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof LayoutKey))
+                return false;
+
+            LayoutKey other = (LayoutKey) o;
+
+            if (mEntryCount != other.mEntryCount
+                    || mDecimals != other.mDecimals
+                    || mVersion != other.mVersion
+                    || mTextSize != other.mTextSize
+                    || mTypeface != other.mTypeface
+                    || !AxisLabelLayout.isSameFormatter(mFormatter, other.mFormatter))
+                return false;
+
+            for (int i = 0; i < mEntryCount; i++) {
+                if (Float.floatToIntBits(mEntries[i]) != Float.floatToIntBits(other.mEntries[i]))
+                    return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+
+            // default formatters with the same digits are equal
+            int result = mFormatter != null && mFormatter.getClass() == DefaultAxisValueFormatter.class
+                    ? ((DefaultAxisValueFormatter) mFormatter).getDecimalDigits()
+                    : System.identityHashCode(mFormatter);
+
+            result = 31 * result + mEntryCount;
+            result = 31 * result + mDecimals;
+            result = 31 * result + (int) (mVersion ^ (mVersion >>> 32));
+            result = 31 * result + Float.floatToIntBits(mTextSize);
+            result = 31 * result + System.identityHashCode(mTypeface);
+
+            for (int i = 0; i < mEntryCount; i++)
+                result = 31 * result + Float.floatToIntBits(mEntries[i]);
+
+            return result;
+        }
+    }
+}
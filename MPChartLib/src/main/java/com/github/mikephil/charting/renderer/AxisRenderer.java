@@ -5,8 +5,11 @@ import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Paint.Style;
+import android.graphics.Path;
 
 import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.components.AxisLabelLayout;
+import com.github.mikephil.charting.math.AxisTicks;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
@@ -45,6 +48,16 @@ public abstract class AxisRenderer extends Renderer {
      */
     protected Paint mLimitLinePaint;
 
+    /**
+     * calculates the label positions of the axis
+     */
+    protected AxisTicks mAxisTicks = new AxisTicks();
+
+    /**
+     * the label layouts of the ranges seen before, null for renderers without a ViewPortHandler
+     */
+    protected AxisLabelLayoutCache mLabelLayoutCache;
+
     public AxisRenderer(ViewPortHandler viewPortHandler, Transformer trans, AxisBase axis) {
         super(viewPortHandler);
 
@@ -68,6 +81,8 @@ public abstract class AxisRenderer extends Renderer {
 
             mLimitLinePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
             mLimitLinePaint.setStyle(Paint.Style.STROKE);
+
+            mLabelLayoutCache = new AxisLabelLayoutCache();
         }
     }
 
@@ -148,119 +163,164 @@ public abstract class AxisRenderer extends Renderer {
      */
     protected void computeAxisValues(float min, float max) {
 
-        float yMin = min;
-        float yMax = max;
+        // compute into the arrays of the axis, so they are reused
+        AxisTicks ticks = mAxisTicks;
+        ticks.mEntries = mAxis.mEntries;
+        ticks.mCenteredEntries = mAxis.mCenteredEntries;
+        ticks.mEntryCount = mAxis.mEntryCount;
+        ticks.mDecimals = mAxis.mDecimals;
 
-        int labelCount = mAxis.getLabelCount();
-        double range = Math.abs(yMax - yMin);
+        computeTicks(ticks, min, max);
 
-        if (labelCount == 0 || range <= 0 || Double.isInfinite(range)) {
-            mAxis.mEntries = new float[]{};
-            mAxis.mCenteredEntries = new float[]{};
-            mAxis.mEntryCount = 0;
-            return;
-        }
+        mAxis.mEntries = ticks.mEntries;
+        mAxis.mCenteredEntries = ticks.mCenteredEntries;
+        mAxis.mEntryCount = ticks.mEntryCount;
+        mAxis.mDecimals = ticks.mDecimals;
 
-        // Find out how much spacing (in y value space) between axis values
-        double rawInterval = range / labelCount;
-        double interval = Utils.roundToNextSignificant(rawInterval);
-
-        // If granularity is enabled, then do not allow the interval to go below specified granularity.
-        // This is used to avoid repeated values when rounding values for display.
-        if (mAxis.isGranularityEnabled())
-            interval = interval < mAxis.getGranularity() ? mAxis.getGranularity() : interval;
-
-        // Normalize interval
-        double intervalMagnitude = Utils.roundToNextSignificant(Math.pow(10, (int) Math.log10(interval)));
-        int intervalSigDigit = (int) (interval / intervalMagnitude);
-        if (intervalSigDigit > 5) {
-            // Use one order of magnitude higher, to avoid intervals like 0.9 or 90
-            // if it's 0.0 after floor(), we use the old value
-            interval = Math.floor(10.0 * intervalMagnitude) == 0.0
-                    ? interval
-                    : Math.floor(10.0 * intervalMagnitude);
+        computeLabelLayout();
+    }
+
+    private void computeTicks(AxisTicks ticks, float min, float max) {
+
+        ticks.compute(min, max, mAxis.getLabelCount(), mAxis.isGranularityEnabled(),
+                mAxis.getGranularity(), mAxis.isForceLabelsEnabled(),
+                mAxis.isCenterAxisLabelsEnabled());
+    }
 
+    /**
+     * Sets the label layout of the current label positions of the axis, taken from the cache if
+     * these positions were laid out before.
+     */
+    protected void computeLabelLayout() {
+
+        if (mLabelLayoutCache == null)
+            return;
+
+        // formatters that depend on other chart state are called for every label
+        if (!mAxis.isLabelLayoutCacheable()) {
+            mAxis.setLabelLayout(null);
+            return;
         }
 
-        int n = mAxis.isCenterAxisLabelsEnabled() ? 1 : 0;
+        mAxis.setLabelLayout(mLabelLayoutCache.getLayout(mAxis.mEntries, mAxis.mEntryCount,
+                mAxis.mDecimals, mAxis));
+    }
 
-        // force label count
-        if (mAxis.isForceLabelsEnabled()) {
+    /**
+     * Lays out the labels of the given axis range ahead of time, e.g. for the predicted end of a
+     * fling, so that computing the axis for that range later on neither formats nor measures
+     * labels. The axis itself is not changed. Can be called from a background thread, as long as
+     * the value formatter of the axis is thread safe and the axis is not changed meanwhile.
+     *
+     * @param min the minimum visible value of the axis
+     * @param max the maximum visible value of the axis
+     */
+    public void prefetchAxis(float min, float max) {
 
-            interval = (float) range / (float) (labelCount - 1);
-            mAxis.mEntryCount = labelCount;
+        if (mLabelLayoutCache == null || !mAxis.isLabelLayoutCacheable())
+            return;
 
-            if (mAxis.mEntries.length < labelCount) {
-                // Ensure stops contains at least numStops elements.
-                mAxis.mEntries = new float[labelCount];
-            }
+        AxisTicks ticks = new AxisTicks();
+        computeTicks(ticks, min, max);
 
-            float v = min;
+        mLabelLayoutCache.getLayout(ticks.mEntries, ticks.mEntryCount, ticks.mDecimals, mAxis);
+    }
 
-            for (int i = 0; i < labelCount; i++) {
-                mAxis.mEntries[i] = v;
-                v += interval;
-            }
+    /**
+     * Drops all cached label layouts, e.g. after a formatter changed its output without being
+     * replaced.
+     */
+    public void clearLabelLayouts() {
 
-            n = labelCount;
+        if (mLabelLayoutCache != null)
+            mLabelLayoutCache.clear();
 
-            // no forced count
-        } else {
+        mAxis.setLabelLayout(null);
+    }
 
-            double first = interval == 0.0 ? 0.0 : Math.ceil(yMin / interval) * interval;
-            if(mAxis.isCenterAxisLabelsEnabled()) {
-                first -= interval;
-            }
+    /**
+     * Returns the width of the label at the given index as returned by Utils.calcTextWidth(...),
+     * taken from the label layout of the axis if it is valid for the label paint.
+     *
+     * @param index
+     * @param label the formatted label at the index
+     * @return
+     */
+    protected float getLabelWidth(int index, String label) {
 
-            double last = interval == 0.0 ? 0.0 : Utils.nextUp(Math.floor(yMax / interval) * interval);
+        AxisLabelLayout layout = mAxis.getLabelLayout();
 
-            double f;
-            int i;
+        if (layout != null && layout.isMeasuredWith(mAxisLabelPaint))
+            return layout.getLabelWidth(index);
 
-            if (interval != 0.0 && last != first) {
-                for (f = first; f <= last; f += interval) {
-                    ++n;
-                }
-            }
-            else if (last == first && n == 0) {
-                n = 1;
-            }
+        return Utils.calcTextWidth(mAxisLabelPaint, label);
+    }
 
-            mAxis.mEntryCount = n;
+    /**
+     * if true, all grid lines are drawn with one call, otherwise each grid line is drawn with the
+     * deprecated per-line hooks
+     */
+    protected boolean mBatchGridLines = true;
 
-            if (mAxis.mEntries.length < n) {
-                // Ensure stops contains at least numStops elements.
-                mAxis.mEntries = new float[n];
-            }
+    /**
+     * If set to true (default), all grid lines are collected with gridLineSegment(...) and drawn
+     * with one call. Subclasses that still override the deprecated per-line hooks (drawGridLine(...)
+     * of the x-axis, linePath(...) of the y-axis) must set this to false, so that their overrides
+     * are called for each grid line.
+     *
+     * @param enabled
+     */
+    public void setBatchGridLines(boolean enabled) {
+        mBatchGridLines = enabled;
+    }
+
+    /**
+     * Returns true if all grid lines are drawn with one call.
+     *
+     * @return
+     */
+    public boolean isBatchGridLines() {
+        return mBatchGridLines;
+    }
 
-            for (f = first, i = 0; i < n; f += interval, ++i) {
+    /**
+     * path for dashed line segments, created when first needed
+     */
+    protected Path mLineSegmentsPath;
 
-                if (f == 0.0) // Fix for negative zero case (Where value == -0.0, and 0.0 == -0.0)
-                    f = 0.0;
+    /**
+     * Draws the given line segments (x0, y0, x1, y1, ...) with a single draw call. If the paint
+     * has a path effect the segments are combined into one path instead, because lines don't
+     * support dashing on lower android versions.
+     *
+     * @param c
+     * @param segments
+     * @param count    number of floats to draw
+     * @param paint
+     */
+    protected void drawLineSegments(Canvas c, float[] segments, int count, Paint paint) {
 
-                mAxis.mEntries[i] = (float) f;
-            }
-        }
+        if (count < 4)
+            return;
 
-        // set decimals
-        if (interval < 1) {
-            mAxis.mDecimals = (int) Math.ceil(-Math.log10(interval));
-        } else {
-            mAxis.mDecimals = 0;
+        if (paint.getPathEffect() == null) {
+            c.drawLines(segments, 0, count, paint);
+            return;
         }
 
-        if (mAxis.isCenterAxisLabelsEnabled()) {
+        if (mLineSegmentsPath == null)
+            mLineSegmentsPath = new Path();
 
-            if (mAxis.mCenteredEntries.length < n) {
-                mAxis.mCenteredEntries = new float[n];
-            }
-
-            float offset = (float)interval / 2f;
+        Path path = mLineSegmentsPath;
+        path.reset();
 
-            for (int i = 0; i < n; i++) {
-                mAxis.mCenteredEntries[i] = mAxis.mEntries[i] + offset;
-            }
+        for (int i = 0; i + 3 < count; i += 4) {
+            path.moveTo(segments[i], segments[i + 1]);
+            path.lineTo(segments[i + 2], segments[i + 3]);
         }
+
+        c.drawPath(path, paint);
+        path.reset();
     }
 
     /**
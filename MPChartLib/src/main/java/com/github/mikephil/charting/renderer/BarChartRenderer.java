@@ -19,6 +19,7 @@ import com.github.mikephil.charting.utils.Fill;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.WorkerPool;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.util.List;
@@ -59,30 +60,108 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
     public void initBuffers() {
 
         BarData barData = mChart.getBarData();
-        mBarBuffers = new BarBuffer[barData.getDataSetCount()];
+        int dataSetCount = barData.getDataSetCount();
+
+        // keep the buffers of the previous data, they grow or shrink as needed
+        if (mBarBuffers == null || mBarBuffers.length != dataSetCount) {
+
+            BarBuffer[] buffers = new BarBuffer[dataSetCount];
+
+            if (mBarBuffers != null)
+                System.arraycopy(mBarBuffers, 0, buffers, 0, Math.min(mBarBuffers.length, dataSetCount));
+
+            mBarBuffers = buffers;
+        }
 
         for (int i = 0; i < mBarBuffers.length; i++) {
             IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new BarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
-                    barData.getDataSetCount(), set.isStacked());
+            int size = set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1);
+
+            if (mBarBuffers[i] == null) {
+                mBarBuffers[i] = createBarBuffer(size, dataSetCount, set.isStacked());
+            } else {
+                mBarBuffers[i].setDataSetCount(dataSetCount);
+                mBarBuffers[i].setContainsStacks(set.isStacked());
+                mBarBuffers[i].shrinkTo(size);
+            }
         }
     }
 
+    /**
+     * Creates the buffer for a DataSet of this renderer.
+     *
+     * @param size           the initial capacity
+     * @param dataSetCount
+     * @param containsStacks
+     * @return
+     */
+    protected BarBuffer createBarBuffer(int size, int dataSetCount, boolean containsStacks) {
+        return new BarBuffer(size, dataSetCount, containsStacks);
+    }
+
+    /**
+     * true while the buffers of all visible DataSets have already been fed and transformed for
+     * the current frame
+     */
+    protected boolean mBuffersPrepared = false;
+
+    private final WorkerPool.Task mPrepareTask = new WorkerPool.Task() {
+        @Override
+        public void run(int index) {
+
+            IBarDataSet set = mChart.getBarData().getDataSetByIndex(index);
+
+            if (set.isVisible())
+                prepareBuffer(set, index);
+        }
+    };
+
     @Override
     public void drawData(Canvas c) {
 
         BarData barData = mChart.getBarData();
 
-        for (int i = 0; i < barData.getDataSetCount(); i++) {
+        if (mParallelPrepareEnabled && barData.getDataSetCount() > 1) {
+            WorkerPool.getInstance().runAll(mPrepareTask, barData.getDataSetCount());
+            mBuffersPrepared = true;
+        }
 
-            IBarDataSet set = barData.getDataSetByIndex(i);
+        try {
+            for (int i = 0; i < barData.getDataSetCount(); i++) {
+
+                IBarDataSet set = barData.getDataSetByIndex(i);
 
-            if (set.isVisible()) {
-                drawDataSet(c, set, i);
+                if (set.isVisible()) {
+                    drawDataSet(c, set, i);
+                }
             }
+        } finally {
+            mBuffersPrepared = false;
         }
     }
 
+    /**
+     * Feeds the buffer of the DataSet at the given index and transforms it into pixels. This
+     * does not touch any canvas or paint and may be called on a worker thread.
+     *
+     * @param dataSet
+     * @param index
+     */
+    protected void prepareBuffer(IBarDataSet dataSet, int index) {
+
+        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+
+        BarBuffer buffer = mBarBuffers[index];
+        buffer.setPhases(mAnimator.getPhaseX(), mAnimator.getPhaseY());
+        buffer.setDataSet(index);
+        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
+        buffer.setBarWidth(mChart.getBarData().getBarWidth());
+
+        buffer.feed(dataSet);
+
+        trans.pointValuesToPixel(buffer.buffer, 0, buffer.size());
+    }
+
     private RectF mBarShadowRectBuffer = new RectF();
 
     protected void drawDataSet(Canvas c, IBarDataSet dataSet, int index) {
@@ -95,7 +174,6 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         final boolean drawBorder = dataSet.getBarBorderWidth() > 0.f;
 
         float phaseX = mAnimator.getPhaseX();
-        float phaseY = mAnimator.getPhaseY();
 
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
@@ -133,16 +211,11 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             }
         }
 
-        // initialize the buffer
-        BarBuffer buffer = mBarBuffers[index];
-        buffer.setPhases(phaseX, phaseY);
-        buffer.setDataSet(index);
-        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
-        buffer.setBarWidth(mChart.getBarData().getBarWidth());
+        // initialize the buffer, unless it has been prepared in parallel
+        if (!mBuffersPrepared)
+            prepareBuffer(dataSet, index);
 
-        buffer.feed(dataSet);
-
-        trans.pointValuesToPixel(buffer.buffer);
+        BarBuffer buffer = mBarBuffers[index];
 
         final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
         final boolean isSingleColor = dataSet.getColors().size() == 1;
@@ -248,7 +321,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    for (int j = 0; j < buffer.size(); j += 4) {
 
                         float x = (buffer.buffer[j] + buffer.buffer[j + 2]) / 2f;
 
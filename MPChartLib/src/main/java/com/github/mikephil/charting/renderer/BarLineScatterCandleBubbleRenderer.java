@@ -6,6 +6,7 @@ import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IPagedDataSet;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 /**
@@ -34,6 +35,8 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
 
     /**
      * Checks if the provided entry object is in bounds for drawing considering the current animation phase.
+     * This looks up the index of the entry with a linear search, prefer isInBoundsX(int, set) if the
+     * index is known.
      *
      * @param e
      * @param set
@@ -44,13 +47,19 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
         if (e == null)
             return false;
 
-        float entryIndex = set.getEntryIndex(e);
+        return isInBoundsX(set.getEntryIndex(e), set);
+    }
 
-        if (e == null || entryIndex >= set.getEntryCount() * mAnimator.getPhaseX()) {
-            return false;
-        } else {
-            return true;
-        }
+    /**
+     * Checks if the entry at the given index is in bounds for drawing considering the current
+     * animation phase.
+     *
+     * @param entryIndex
+     * @param set
+     * @return
+     */
+    protected boolean isInBoundsX(int entryIndex, IBarLineScatterCandleBubbleDataSet set) {
+        return entryIndex >= 0 && entryIndex < set.getEntryCount() * mAnimator.getPhaseX();
     }
 
     /**
@@ -80,16 +89,41 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
          * @param dataSet
          */
         public void set(BarLineScatterCandleBubbleDataProvider chart, IBarLineScatterCandleBubbleDataSet dataSet) {
-            float phaseX = Math.max(0.f, Math.min(1.f, mAnimator.getPhaseX()));
+            set(chart.getLowestVisibleX(), chart.getHighestVisibleX(), dataSet);
+        }
+
+        /**
+         * Calculates the bounds for the given visible x-range. Paged DataSets swap in the entries
+         * around the range, so this has to be called on the UI thread.
+         *
+         * @param low
+         * @param high
+         * @param dataSet
+         */
+        public void set(float low, float high, IBarLineScatterCandleBubbleDataSet dataSet) {
+
+            // let paged DataSets swap in the entries around the visible range
+            if (dataSet instanceof IPagedDataSet)
+                ((IPagedDataSet) dataSet).setVisibleXRange(low, high);
 
-            float low = chart.getLowestVisibleX();
-            float high = chart.getHighestVisibleX();
+            setIndices(low, high, dataSet);
+        }
 
-            Entry entryFrom = dataSet.getEntryForXValue(low, Float.NaN, DataSet.Rounding.DOWN);
-            Entry entryTo = dataSet.getEntryForXValue(high, Float.NaN, DataSet.Rounding.UP);
+        /**
+         * Calculates the bounds for the given visible x-range from the entries the DataSet
+         * currently holds, without changing the DataSet. Can be called off the UI thread, as
+         * long as paged DataSets were moved to the range before on the UI thread.
+         *
+         * @param low
+         * @param high
+         * @param dataSet
+         */
+        public void setIndices(float low, float high, IBarLineScatterCandleBubbleDataSet dataSet) {
+            float phaseX = Math.max(0.f, Math.min(1.f, mAnimator.getPhaseX()));
 
-            min = entryFrom == null ? 0 : dataSet.getEntryIndex(entryFrom);
-            max = entryTo == null ? 0 : dataSet.getEntryIndex(entryTo);
+            // binary searches, the entries are sorted by x
+            min = Math.max(0, dataSet.getEntryIndex(low, Float.NaN, DataSet.Rounding.DOWN));
+            max = Math.max(0, dataSet.getEntryIndex(high, Float.NaN, DataSet.Rounding.UP));
             range = (int) ((max - min) * phaseX);
         }
     }
@@ -9,6 +9,7 @@ import android.graphics.drawable.Drawable;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.BubbleData;
 import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
@@ -145,8 +146,10 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
                 mXBounds.set(mChart, dataSet);
 
-                final float[] positions = mChart.getTransformer(dataSet.getAxisDependency())
-                        .generateTransformedValuesBubble(dataSet, phaseY, mXBounds.min, mXBounds.max);
+                Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+
+                final float[] positions = trans.generateTransformedValuesBubble(dataSet, phaseY, mXBounds.min, mXBounds.max);
+                final int positionCount = trans.getTransformedValueCount();
 
                 final float alpha = phaseX == 1 ? phaseY : phaseX;
 
@@ -154,7 +157,7 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < positionCount; j += 2) {
 
                     int valueTextColor = dataSet.getValueTextColor(j / 2 + mXBounds.min);
                     valueTextColor = Color.argb(Math.round(255.f * alpha), Color.red(valueTextColor),
@@ -215,12 +218,14 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            final BubbleEntry entry = set.getEntryForXValue(high.getX(), high.getY());
+            int index = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
 
-            if (entry.getY() != high.getY())
+            if (!isInBoundsX(index, set))
                 continue;
 
-            if (!isInBoundsX(entry, set))
+            final BubbleEntry entry = set.getEntryForIndex(index);
+
+            if (entry.getY() != high.getY())
                 continue;
 
             Transformer trans = mChart.getTransformer(set.getAxisDependency());
@@ -6,8 +6,10 @@ import android.graphics.Paint;
 import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.buffer.CandleBuffer;
 import com.github.mikephil.charting.data.CandleData;
 import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.CandleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
@@ -24,11 +26,12 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
     protected CandleDataProvider mChart;
 
-    private float[] mShadowBuffers = new float[8];
-    private float[] mBodyBuffers = new float[4];
-    private float[] mRangeBuffers = new float[4];
-    private float[] mOpenBuffers = new float[4];
-    private float[] mCloseBuffers = new float[4];
+    protected CandleBuffer mCandleBuffer = new CandleBuffer(16 * 12);
+
+    /**
+     * the outlines of the bodies that are not filled, 4 lines per body
+     */
+    private float[] mOutlineBuffers = new float[16];
 
     public CandleStickChartRenderer(CandleDataProvider chart, ChartAnimator animator,
                                     ViewPortHandler viewPortHandler) {
@@ -53,203 +56,221 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
-    @SuppressWarnings("ResourceAsColor")
     protected void drawDataSet(Canvas c, ICandleDataSet dataSet) {
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
-        float phaseY = mAnimator.getPhaseY();
-        float barSpace = dataSet.getBarSpace();
-        boolean showCandleBar = dataSet.getShowCandleBar();
-
         mXBounds.set(mChart, dataSet);
 
-        mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
+        CandleBuffer buffer = mCandleBuffer;
+        buffer.setPhases(mAnimator.getPhaseX(), mAnimator.getPhaseY());
+        buffer.setBarSpace(dataSet.getBarSpace());
+        buffer.setShowCandleBar(dataSet.getShowCandleBar());
+        buffer.limitFrom(mXBounds.min);
+        buffer.limitTo(mXBounds.min + mXBounds.range);
+        buffer.feed(dataSet);
 
-        // draw the body
-        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+        // all visible candles are transformed at once
+        trans.pointValuesToPixel(buffer.buffer, 0, buffer.size());
 
-            // get the entry
-            CandleEntry e = dataSet.getEntryForIndex(j);
+        float shadowWidth = dataSet.getShadowWidth();
 
-            if (e == null)
-                continue;
+        mRenderPaint.setStyle(Paint.Style.STROKE);
+        mRenderPaint.setStrokeWidth(shadowWidth);
 
-            final float xPos = e.getX();
-
-            final float open = e.getOpen();
-            final float close = e.getClose();
-            final float high = e.getHigh();
-            final float low = e.getLow();
-
-            if (showCandleBar) {
-                // calculate the shadow
-
-                mShadowBuffers[0] = xPos;
-                mShadowBuffers[2] = xPos;
-                mShadowBuffers[4] = xPos;
-                mShadowBuffers[6] = xPos;
-
-                if (open > close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = close * phaseY;
-                } else if (open < close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = close * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = open * phaseY;
-                } else {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = mShadowBuffers[3];
-                }
+        int lineStride = buffer.getLineStride();
 
-                trans.pointValuesToPixel(mShadowBuffers);
-
-                // draw the shadows
-
-                if (dataSet.getShadowColorSameAsCandle()) {
-
-                    if (open > close)
-                        mRenderPaint.setColor(
-                                dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getDecreasingColor()
-                        );
-
-                    else if (open < close)
-                        mRenderPaint.setColor(
-                                dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getIncreasingColor()
-                        );
-
-                    else
-                        mRenderPaint.setColor(
-                                dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getNeutralColor()
-                        );
-
-                } else {
-                    mRenderPaint.setColor(
-                            dataSet.getShadowColor() == ColorTemplate.COLOR_NONE ?
-                                    dataSet.getColor(j) :
-                                    dataSet.getShadowColor()
-                    );
-                }
+        if (dataSet.getShowCandleBar()) {
 
-                mRenderPaint.setStyle(Paint.Style.STROKE);
+            // the shadows of all directions first, the bodies are drawn over them
+            for (int d = 0; d < CandleBuffer.DIRECTION_COUNT; d++) {
+                drawLines(c, dataSet, d, true, buffer.buffer, buffer.getLineOffset(d), lineStride);
+            }
 
-                c.drawLines(mShadowBuffers, mRenderPaint);
+            drawBodies(c, dataSet, CandleBuffer.DECREASING, dataSet.getDecreasingPaintStyle());
+            drawBodies(c, dataSet, CandleBuffer.INCREASING, dataSet.getIncreasingPaintStyle());
 
-                // calculate the body
+            // equal values are drawn as a line
+            mRenderPaint.setStyle(Paint.Style.STROKE);
+            mRenderPaint.setStrokeWidth(shadowWidth);
 
-                mBodyBuffers[0] = xPos - 0.5f + barSpace;
-                mBodyBuffers[1] = close * phaseY;
-                mBodyBuffers[2] = (xPos + 0.5f - barSpace);
-                mBodyBuffers[3] = open * phaseY;
+            drawLines(c, dataSet, CandleBuffer.NEUTRAL, false, buffer.buffer,
+                    buffer.getBodyOffset(CandleBuffer.NEUTRAL), buffer.getBodyStride());
 
-                trans.pointValuesToPixel(mBodyBuffers);
+        } else {
 
-                // draw body differently for increasing and decreasing entry
-                if (open > close) { // decreasing
+            for (int d = 0; d < CandleBuffer.DIRECTION_COUNT; d++) {
+                drawLines(c, dataSet, d, false, buffer.buffer, buffer.getLineOffset(d), lineStride);
+            }
+        }
+    }
 
-                    if (dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getDecreasingColor());
-                    }
+    /**
+     * Draws the bodies of the increasing or decreasing candles. Filled bodies are drawn as lines as
+     * wide as the bodies, outlined bodies as four lines each, so that all bodies of a color take
+     * one call. The bodies in the buffer are modified.
+     *
+     * @param c
+     * @param dataSet
+     * @param direction
+     * @param style
+     */
+    protected void drawBodies(Canvas c, ICandleDataSet dataSet, int direction, Paint.Style style) {
 
-                    mRenderPaint.setStyle(dataSet.getDecreasingPaintStyle());
+        CandleBuffer buffer = mCandleBuffer;
 
-                    c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[3],
-                            mBodyBuffers[2], mBodyBuffers[1],
-                            mRenderPaint);
+        int count = buffer.getCount(direction);
 
-                } else if (open < close) {
+        if (count == 0)
+            return;
 
-                    if (dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getIncreasingColor());
-                    }
+        float[] bodies = buffer.buffer;
+        int offset = buffer.getBodyOffset(direction);
+        int end = offset + count * 4;
 
-                    mRenderPaint.setStyle(dataSet.getIncreasingPaintStyle());
+        // all bodies have the same width
+        float bodyWidth = Math.abs(bodies[offset + 2] - bodies[offset]);
 
-                    c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
-                            mRenderPaint);
-                } else { // equal values
+        if (style != Paint.Style.FILL) {
 
-                    if (dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getNeutralColor());
-                    }
+            if (mOutlineBuffers.length < count * 16)
+                mOutlineBuffers = new float[Math.max(count * 16, mOutlineBuffers.length * 2)];
 
-                    c.drawLine(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
-                            mRenderPaint);
-                }
-            } else {
-
-                mRangeBuffers[0] = xPos;
-                mRangeBuffers[1] = high * phaseY;
-                mRangeBuffers[2] = xPos;
-                mRangeBuffers[3] = low * phaseY;
-
-                mOpenBuffers[0] = xPos - 0.5f + barSpace;
-                mOpenBuffers[1] = open * phaseY;
-                mOpenBuffers[2] = xPos;
-                mOpenBuffers[3] = open * phaseY;
-
-                mCloseBuffers[0] = xPos + 0.5f - barSpace;
-                mCloseBuffers[1] = close * phaseY;
-                mCloseBuffers[2] = xPos;
-                mCloseBuffers[3] = close * phaseY;
-
-                trans.pointValuesToPixel(mRangeBuffers);
-                trans.pointValuesToPixel(mOpenBuffers);
-                trans.pointValuesToPixel(mCloseBuffers);
-
-                // draw the ranges
-                int barColor;
-
-                if (open > close)
-                    barColor = dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getDecreasingColor();
-                else if (open < close)
-                    barColor = dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getIncreasingColor();
-                else
-                    barColor = dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getNeutralColor();
-
-                mRenderPaint.setColor(barColor);
-                c.drawLine(
-                        mRangeBuffers[0], mRangeBuffers[1],
-                        mRangeBuffers[2], mRangeBuffers[3],
-                        mRenderPaint);
-                c.drawLine(
-                        mOpenBuffers[0], mOpenBuffers[1],
-                        mOpenBuffers[2], mOpenBuffers[3],
-                        mRenderPaint);
-                c.drawLine(
-                        mCloseBuffers[0], mCloseBuffers[1],
-                        mCloseBuffers[2], mCloseBuffers[3],
-                        mRenderPaint);
+            int k = 0;
+
+            for (int i = offset; i < end; i += 4) {
+
+                final float left = bodies[i];
+                final float top = bodies[i + 1];
+                final float right = bodies[i + 2];
+                final float bottom = bodies[i + 3];
+
+                mOutlineBuffers[k++] = left;
+                mOutlineBuffers[k++] = top;
+                mOutlineBuffers[k++] = right;
+                mOutlineBuffers[k++] = top;
+
+                mOutlineBuffers[k++] = right;
+                mOutlineBuffers[k++] = top;
+                mOutlineBuffers[k++] = right;
+                mOutlineBuffers[k++] = bottom;
+
+                mOutlineBuffers[k++] = right;
+                mOutlineBuffers[k++] = bottom;
+                mOutlineBuffers[k++] = left;
+                mOutlineBuffers[k++] = bottom;
+
+                mOutlineBuffers[k++] = left;
+                mOutlineBuffers[k++] = bottom;
+                mOutlineBuffers[k++] = left;
+                mOutlineBuffers[k++] = top;
             }
         }
+
+        if (style != Paint.Style.STROKE && bodyWidth > 0f) {
+
+            // a vertical line through the center, as wide as the body
+            for (int i = offset; i < end; i += 4) {
+                float center = (bodies[i] + bodies[i + 2]) / 2f;
+                bodies[i] = center;
+                bodies[i + 2] = center;
+            }
+
+            mRenderPaint.setStyle(Paint.Style.STROKE);
+            mRenderPaint.setStrokeWidth(bodyWidth);
+
+            drawLines(c, dataSet, direction, false, bodies, offset, 4);
+        }
+
+        if (style != Paint.Style.FILL) {
+
+            Paint.Cap cap = mRenderPaint.getStrokeCap();
+
+            // square caps close the corners like the joins of a stroked rect
+            mRenderPaint.setStyle(Paint.Style.STROKE);
+            mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
+            mRenderPaint.setStrokeCap(Paint.Cap.SQUARE);
+
+            drawLines(c, dataSet, direction, false, mOutlineBuffers, 0, 16);
+
+            mRenderPaint.setStrokeCap(cap);
+        }
+    }
+
+    /**
+     * Draws the lines of the candles of the given direction, with one call per run of candles of
+     * the same color.
+     *
+     * @param c
+     * @param dataSet
+     * @param direction
+     * @param shadow    true to use the shadow color, false to use the color of the candle
+     * @param pts       the lines of the candles of the direction
+     * @param offset    the index in pts of the first candle
+     * @param stride    the number of values per candle
+     */
+    protected void drawLines(Canvas c, ICandleDataSet dataSet, int direction, boolean shadow,
+                             float[] pts, int offset, int stride) {
+
+        CandleBuffer buffer = mCandleBuffer;
+
+        int count = buffer.getCount(direction);
+
+        if (count == 0)
+            return;
+
+        int first = buffer.getCandleOffset(direction);
+        int[] indices = buffer.entryIndices;
+
+        int start = 0;
+        int color = getColor(dataSet, direction, shadow, indices[first]);
+
+        while (start < count) {
+
+            int end = start + 1;
+            int nextColor = color;
+
+            while (end < count) {
+
+                nextColor = getColor(dataSet, direction, shadow, indices[first + end]);
+
+                if (nextColor != color)
+                    break;
+
+                end++;
+            }
+
+            mRenderPaint.setColor(color);
+            c.drawLines(pts, offset + start * stride, (end - start) * stride, mRenderPaint);
+
+            start = end;
+            color = nextColor;
+        }
+    }
+
+    /**
+     * Returns the color of the candle or of the shadow of the candle with the given entry index.
+     *
+     * @param dataSet
+     * @param direction
+     * @param shadow
+     * @param index
+     * @return
+     */
+    protected int getColor(ICandleDataSet dataSet, int direction, boolean shadow, int index) {
+
+        int color;
+
+        if (shadow && !dataSet.getShadowColorSameAsCandle())
+            color = dataSet.getShadowColor();
+        else if (direction == CandleBuffer.DECREASING)
+            color = dataSet.getDecreasingColor();
+        else if (direction == CandleBuffer.INCREASING)
+            color = dataSet.getIncreasingColor();
+        else
+            color = dataSet.getNeutralColor();
+
+        return color == ColorTemplate.COLOR_NONE ? dataSet.getColor(index) : color;
     }
 
     @Override
@@ -276,6 +297,7 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
                 float[] positions = trans.generateTransformedValuesCandle(
                         dataSet, mAnimator.getPhaseX(), mAnimator.getPhaseY(), mXBounds.min, mXBounds.max);
+                int positionCount = trans.getTransformedValueCount();
 
                 float yOffset = Utils.convertDpToPixel(5f);
 
@@ -283,7 +305,7 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < positionCount; j += 2) {
 
                     float x = positions[j];
                     float y = positions[j + 1];
@@ -343,11 +365,13 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            CandleEntry e = set.getEntryForXValue(high.getX(), high.getY());
+            int index = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
 
-            if (!isInBoundsX(e, set))
+            if (!isInBoundsX(index, set))
                 continue;
 
+            CandleEntry e = set.getEntryForIndex(index);
+
             float lowValue = e.getLow() * mAnimator.getPhaseY();
             float highValue = e.getHigh() * mAnimator.getPhaseY();
             float y = (lowValue + highValue) / 2f;
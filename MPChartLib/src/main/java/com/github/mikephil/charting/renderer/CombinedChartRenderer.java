@@ -73,6 +73,22 @@ public class CombinedChartRenderer extends DataRenderer {
                     break;
             }
         }
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setParallelPrepareEnabled(mParallelPrepareEnabled);
+    }
+
+    /**
+     * Enables or disables parallel geometry preparation for all sub-renderers.
+     *
+     * @param enabled
+     */
+    @Override
+    public void setParallelPrepareEnabled(boolean enabled) {
+        super.setParallelPrepareEnabled(enabled);
+
+        for (DataRenderer renderer : mRenderers)
+            renderer.setParallelPrepareEnabled(enabled);
     }
 
     @Override
@@ -48,6 +48,12 @@ public abstract class DataRenderer extends Renderer {
      */
     protected Paint mValuePaint;
 
+    /**
+     * if true, renderers that support it compute the pixel-space geometry of their DataSets in
+     * parallel on the shared WorkerPool before issuing the canvas calls
+     */
+    protected boolean mParallelPrepareEnabled = false;
+
     public DataRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(viewPortHandler);
         this.mAnimator = animator;
@@ -73,6 +79,25 @@ public abstract class DataRenderer extends Renderer {
                 * mViewPortHandler.getScaleX();
     }
 
+    /**
+     * If set to true, the geometry of the DataSets is computed on multiple threads before it is
+     * drawn. This pays off for charts with several large DataSets. Default: false
+     *
+     * @param enabled
+     */
+    public void setParallelPrepareEnabled(boolean enabled) {
+        mParallelPrepareEnabled = enabled;
+    }
+
+    /**
+     * Returns true if the geometry of the DataSets is computed on multiple threads.
+     *
+     * @return
+     */
+    public boolean isParallelPrepareEnabled() {
+        return mParallelPrepareEnabled;
+    }
+
     /**
      * Returns the Paint object this renderer uses for drawing the values
      * (value-text).
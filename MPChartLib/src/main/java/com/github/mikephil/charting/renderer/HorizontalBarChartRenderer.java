@@ -39,16 +39,8 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
     }
 
     @Override
-    public void initBuffers() {
-
-        BarData barData = mChart.getBarData();
-        mBarBuffers = new HorizontalBarBuffer[barData.getDataSetCount()];
-
-        for (int i = 0; i < mBarBuffers.length; i++) {
-            IBarDataSet set = barData.getDataSetByIndex(i);
-            mBarBuffers[i] = new HorizontalBarBuffer(set.getEntryCount() * 4 * (set.isStacked() ? set.getStackSize() : 1),
-                    barData.getDataSetCount(), set.isStacked());
-        }
+    protected BarBuffer createBarBuffer(int size, int dataSetCount, boolean containsStacks) {
+        return new HorizontalBarBuffer(size, dataSetCount, containsStacks);
     }
 
     private RectF mBarShadowRectBuffer = new RectF();
@@ -64,7 +56,6 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         final boolean drawBorder = dataSet.getBarBorderWidth() > 0.f;
 
         float phaseX = mAnimator.getPhaseX();
-        float phaseY = mAnimator.getPhaseY();
 
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
@@ -102,16 +93,11 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             }
         }
 
-        // initialize the buffer
-        BarBuffer buffer = mBarBuffers[index];
-        buffer.setPhases(phaseX, phaseY);
-        buffer.setDataSet(index);
-        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
-        buffer.setBarWidth(mChart.getBarData().getBarWidth());
-
-        buffer.feed(dataSet);
+        // initialize the buffer, unless it has been prepared in parallel
+        if (!mBuffersPrepared)
+            prepareBuffer(dataSet, index);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        BarBuffer buffer = mBarBuffers[index];
 
         final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
         final boolean isSingleColor = dataSet.getColors().size() == 1;
@@ -196,7 +182,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    for (int j = 0; j < buffer.size(); j += 4) {
 
                         float y = (buffer.buffer[j + 1] + buffer.buffer[j + 3]) / 2f;
 
@@ -21,7 +21,6 @@ import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 public class LegendRenderer extends Renderer {
@@ -75,6 +74,63 @@ public class LegendRenderer extends Renderer {
 
     protected List<LegendEntry> computedEntries = new ArrayList<>(16);
 
+    /**
+     * the number of computedEntries that were filled during the current computeLegend call, the
+     * LegendEntry objects of the previous call are reused
+     */
+    private int mComputedEntryCount = 0;
+
+    /**
+     * true if any computed entry differs from the previous computeLegend call
+     */
+    private boolean mComputedEntriesChanged = false;
+
+    /**
+     * the entries array that was last handed to the legend
+     */
+    private LegendEntry[] mLastLegendEntries;
+
+    /**
+     * Sets the next computed entry, reusing the LegendEntry of the previous computation at the
+     * same position if there is one.
+     */
+    private void addComputedEntry(String label,
+                                  Legend.LegendForm form,
+                                  float formSize,
+                                  float formLineWidth,
+                                  DashPathEffect formLineDashEffect,
+                                  int formColor) {
+
+        if (mComputedEntryCount < computedEntries.size()) {
+
+            LegendEntry e = computedEntries.get(mComputedEntryCount);
+
+            if (!(label == null ? e.label == null : label.equals(e.label))
+                    || e.form != form
+                    || Float.compare(e.formSize, formSize) != 0
+                    || Float.compare(e.formLineWidth, formLineWidth) != 0
+                    || e.formLineDashEffect != formLineDashEffect
+                    || e.formColor != formColor) {
+
+                e.label = label;
+                e.form = form;
+                e.formSize = formSize;
+                e.formLineWidth = formLineWidth;
+                e.formLineDashEffect = formLineDashEffect;
+                e.formColor = formColor;
+
+                mComputedEntriesChanged = true;
+            }
+
+        } else {
+            computedEntries.add(new LegendEntry(label, form, formSize, formLineWidth,
+                    formLineDashEffect, formColor));
+            mComputedEntriesChanged = true;
+        }
+
+        mComputedEntryCount++;
+    }
+
     /**
      * Prepares the legend and calculates all needed forms, labels and colors.
      *
@@ -84,7 +140,8 @@ public class LegendRenderer extends Renderer {
 
         if (!mLegend.isLegendCustom()) {
 
-            computedEntries.clear();
+            mComputedEntryCount = 0;
+            mComputedEntriesChanged = false;
 
             // loop for building up the colors and labels used in the legend
             for (int i = 0; i < data.getDataSetCount(); i++) {
@@ -112,26 +169,26 @@ public class LegendRenderer extends Renderer {
                             label = null;
                         }
 
-                        computedEntries.add(new LegendEntry(
+                        addComputedEntry(
                                 label,
                                 dataSet.getForm(),
                                 dataSet.getFormSize(),
                                 dataSet.getFormLineWidth(),
                                 dataSet.getFormLineDashEffect(),
                                 clrs.get(j)
-                        ));
+                        );
                     }
 
                     if (bds.getLabel() != null) {
                         // add the legend description label
-                        computedEntries.add(new LegendEntry(
+                        addComputedEntry(
                                 dataSet.getLabel(),
                                 Legend.LegendForm.NONE,
                                 Float.NaN,
                                 Float.NaN,
                                 null,
                                 ColorTemplate.COLOR_NONE
-                        ));
+                        );
                     }
 
                 } else if (dataSet instanceof IPieDataSet) {
@@ -140,26 +197,26 @@ public class LegendRenderer extends Renderer {
 
                     for (int j = 0; j < clrs.size() && j < entryCount; j++) {
 
-                        computedEntries.add(new LegendEntry(
+                        addComputedEntry(
                                 pds.getEntryForIndex(j).getLabel(),
                                 dataSet.getForm(),
                                 dataSet.getFormSize(),
                                 dataSet.getFormLineWidth(),
                                 dataSet.getFormLineDashEffect(),
                                 clrs.get(j)
-                        ));
+                        );
                     }
 
                     if (pds.getLabel() != null) {
                         // add the legend description label
-                        computedEntries.add(new LegendEntry(
+                        addComputedEntry(
                                 dataSet.getLabel(),
                                 Legend.LegendForm.NONE,
                                 Float.NaN,
                                 Float.NaN,
                                 null,
                                 ColorTemplate.COLOR_NONE
-                        ));
+                        );
                     }
 
                 } else if (dataSet instanceof ICandleDataSet && ((ICandleDataSet) dataSet).getDecreasingColor() !=
@@ -168,23 +225,23 @@ public class LegendRenderer extends Renderer {
                     int decreasingColor = ((ICandleDataSet) dataSet).getDecreasingColor();
                     int increasingColor = ((ICandleDataSet) dataSet).getIncreasingColor();
 
-                    computedEntries.add(new LegendEntry(
+                    addComputedEntry(
                             null,
                             dataSet.getForm(),
                             dataSet.getFormSize(),
                             dataSet.getFormLineWidth(),
                             dataSet.getFormLineDashEffect(),
                             decreasingColor
-                    ));
+                    );
 
-                    computedEntries.add(new LegendEntry(
+                    addComputedEntry(
                             dataSet.getLabel(),
                             dataSet.getForm(),
                             dataSet.getFormSize(),
                             dataSet.getFormLineWidth(),
                             dataSet.getFormLineDashEffect(),
                             increasingColor
-                    ));
+                    );
 
                 } else { // all others
 
@@ -199,23 +256,35 @@ public class LegendRenderer extends Renderer {
                             label = data.getDataSetByIndex(i).getLabel();
                         }
 
-                        computedEntries.add(new LegendEntry(
+                        addComputedEntry(
                                 label,
                                 dataSet.getForm(),
                                 dataSet.getFormSize(),
                                 dataSet.getFormLineWidth(),
                                 dataSet.getFormLineDashEffect(),
                                 clrs.get(j)
-                        ));
+                        );
                     }
                 }
             }
 
             if (mLegend.getExtraEntries() != null) {
-                Collections.addAll(computedEntries, mLegend.getExtraEntries());
+                for (LegendEntry e : mLegend.getExtraEntries()) {
+                    addComputedEntry(e.label, e.form, e.formSize, e.formLineWidth,
+                            e.formLineDashEffect, e.formColor);
+                }
             }
 
-            mLegend.setEntries(computedEntries);
+            if (computedEntries.size() > mComputedEntryCount) {
+                computedEntries.subList(mComputedEntryCount, computedEntries.size()).clear();
+                mComputedEntriesChanged = true;
+            }
+
+            // the legend keeps the entries as long as they did not change
+            if (mComputedEntriesChanged || mLegend.getEntries() != mLastLegendEntries) {
+                mLegend.setEntries(computedEntries);
+                mLastLegendEntries = mLegend.getEntries();
+            }
         }
 
         Typeface tf = mLegend.getTypeface();
@@ -9,22 +9,23 @@ import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
-import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
-import com.github.mikephil.charting.utils.ColorTemplate;
+import com.github.mikephil.charting.interfaces.datasets.IPagedDataSet;
+import com.github.mikephil.charting.utils.CircleBitmapCache;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.WorkerPool;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 import java.lang.ref.WeakReference;
-import java.util.HashMap;
 import java.util.List;
 
 public class LineChartRenderer extends LineRadarRenderer {
@@ -93,16 +94,153 @@ public class LineChartRenderer extends LineRadarRenderer {
         drawBitmap.eraseColor(Color.TRANSPARENT);
 
         LineData lineData = mChart.getLineData();
+        List<ILineDataSet> dataSets = lineData.getDataSets();
 
-        for (ILineDataSet set : lineData.getDataSets()) {
+        boolean prepared = mParallelPrepareEnabled && dataSets.size() > 1;
+
+        if (prepared)
+            prepareLinearGeometry(dataSets);
+
+        try {
+            for (int i = 0; i < dataSets.size(); i++) {
+
+                ILineDataSet set = dataSets.get(i);
+
+                if (!set.isVisible())
+                    continue;
+
+                mCurrentGeometry = prepared && mGeometries[i].prepared ? mGeometries[i] : null;
 
-            if (set.isVisible())
                 drawDataSet(c, set);
+            }
+        } finally {
+            mCurrentGeometry = null;
         }
 
         c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
     }
 
+    /**
+     * Pixel-space line segments of a single colored linear DataSet, ready to be passed to
+     * Canvas.drawLines(...).
+     */
+    protected class LineGeometry {
+
+        /**
+         * the visible entry range the segments were computed for
+         */
+        public final XBounds bounds = new XBounds();
+
+        /**
+         * the transformed segment coordinates
+         */
+        public float[] buffer = new float[4];
+
+        /**
+         * number of floats in the buffer to draw, 0 if there is nothing to draw
+         */
+        public int size;
+
+        /**
+         * true if the geometry has been computed for the current frame
+         */
+        public boolean prepared;
+    }
+
+    /**
+     * geometry of the DataSets prepared in parallel, indexed like the DataSets
+     */
+    private LineGeometry[] mGeometries = new LineGeometry[0];
+
+    /**
+     * geometry used when a DataSet is drawn without having been prepared
+     */
+    private LineGeometry mLineGeometry = new LineGeometry();
+
+    /**
+     * the prepared geometry of the DataSet that is currently drawn, null if it has to be
+     * computed while drawing
+     */
+    private LineGeometry mCurrentGeometry;
+
+    private List<ILineDataSet> mPrepareDataSets;
+
+    private float mPrepareLowX, mPrepareHighX;
+
+    private final WorkerPool.Task mPrepareTask = new WorkerPool.Task() {
+        @Override
+        public void run(int index) {
+
+            ILineDataSet set = mPrepareDataSets.get(index);
+            LineGeometry geometry = mGeometries[index];
+
+            if (!isLinearPreparable(set))
+                return;
+
+            geometry.bounds.setIndices(mPrepareLowX, mPrepareHighX, set);
+            prepareLinear(set, geometry.bounds, geometry);
+            geometry.prepared = true;
+        }
+    };
+
+    /**
+     * Computes the line segments of all single colored linear DataSets in parallel. The visible
+     * range is queried and paged DataSets are moved to it on the calling thread, the workers
+     * only read the DataSets.
+     *
+     * @param dataSets
+     */
+    protected void prepareLinearGeometry(List<ILineDataSet> dataSets) {
+
+        int count = dataSets.size();
+
+        if (mGeometries.length < count) {
+            LineGeometry[] geometries = new LineGeometry[count];
+            System.arraycopy(mGeometries, 0, geometries, 0, mGeometries.length);
+
+            for (int i = mGeometries.length; i < count; i++)
+                geometries[i] = new LineGeometry();
+
+            mGeometries = geometries;
+        }
+
+        for (int i = 0; i < count; i++)
+            mGeometries[i].prepared = false;
+
+        mPrepareDataSets = dataSets;
+        mPrepareLowX = mChart.getLowestVisibleX();
+        mPrepareHighX = mChart.getHighestVisibleX();
+
+        // the pagers swap the entries of their DataSets, they must not run on the workers
+        for (int i = 0; i < count; i++) {
+
+            ILineDataSet set = dataSets.get(i);
+
+            if (set instanceof IPagedDataSet && isLinearPreparable(set))
+                ((IPagedDataSet) set).setVisibleXRange(mPrepareLowX, mPrepareHighX);
+        }
+
+        try {
+            WorkerPool.getInstance().runAll(mPrepareTask, count);
+        } finally {
+            mPrepareDataSets = null;
+        }
+    }
+
+    /**
+     * Returns true if the line segments of the given DataSet can be computed ahead of drawing.
+     *
+     * @param set
+     * @return
+     */
+    protected boolean isLinearPreparable(ILineDataSet set) {
+
+        if (!set.isVisible() || set.getEntryCount() < 1 || set.getColors().size() > 1)
+            return false;
+
+        return set.getMode() == LineDataSet.Mode.LINEAR || set.getMode() == LineDataSet.Mode.STEPPED;
+    }
+
     protected void drawDataSet(Canvas c, ILineDataSet dataSet) {
 
         if (dataSet.getEntryCount() < 1)
@@ -312,11 +450,15 @@ public class LineChartRenderer extends LineRadarRenderer {
             canvas = c;
         }
 
-        mXBounds.set(mChart, dataSet);
+        LineGeometry geometry = mCurrentGeometry;
+        XBounds bounds = geometry != null ? geometry.bounds : mXBounds;
+
+        if (geometry == null)
+            mXBounds.set(mChart, dataSet);
 
         // if drawing filled is enabled
         if (dataSet.isDrawFilledEnabled() && entryCount > 0) {
-            drawLinearFill(c, dataSet, trans, mXBounds);
+            drawLinearFill(c, dataSet, trans, bounds);
         }
 
         // more than 1 color
@@ -327,9 +469,9 @@ public class LineChartRenderer extends LineRadarRenderer {
             if (mLineBuffer.length <= numberOfFloats)
                 mLineBuffer = new float[numberOfFloats * 2];
 
-            int max = mXBounds.min + mXBounds.range;
+            int max = bounds.min + bounds.range;
 
-            for (int j = mXBounds.min; j < max; j++) {
+            for (int j = bounds.min; j < max; j++) {
 
                 Entry e = dataSet.getEntryForIndex(j);
                 if (e == null) continue;
@@ -337,7 +479,7 @@ public class LineChartRenderer extends LineRadarRenderer {
                 mLineBuffer[0] = e.getX();
                 mLineBuffer[1] = e.getY() * phaseY;
 
-                if (j < mXBounds.max) {
+                if (j < bounds.max) {
 
                     e = dataSet.getEntryForIndex(j + 1);
 
@@ -390,50 +532,81 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         } else { // only one color per dataset
 
-            if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
-                mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
+            if (geometry == null) {
+                geometry = mLineGeometry;
+                prepareLinear(dataSet, mXBounds, geometry);
+            }
 
-            Entry e1, e2;
+            if (geometry.size > 0) {
+                mRenderPaint.setColor(dataSet.getColor());
 
-            e1 = dataSet.getEntryForIndex(mXBounds.min);
+                canvas.drawLines(geometry.buffer, 0, geometry.size, mRenderPaint);
+            }
+        }
 
-            if (e1 != null) {
+        mRenderPaint.setPathEffect(null);
+    }
+
+    /**
+     * Computes the pixel-space line segments of a single colored DataSet for the given bounds.
+     * This does not touch any canvas or paint and may be called on a worker thread.
+     *
+     * @param dataSet
+     * @param bounds
+     * @param out
+     */
+    protected void prepareLinear(ILineDataSet dataSet, XBounds bounds, LineGeometry out) {
+
+        int entryCount = dataSet.getEntryCount();
 
-                int j = 0;
-                for (int x = mXBounds.min; x <= mXBounds.range + mXBounds.min; x++) {
+        final boolean isDrawSteppedEnabled = dataSet.isDrawSteppedEnabled();
+        final int pointsPerEntryPair = isDrawSteppedEnabled ? 4 : 2;
 
-                    e1 = dataSet.getEntryForIndex(x == 0 ? 0 : (x - 1));
-                    e2 = dataSet.getEntryForIndex(x);
+        Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
-                    if (e1 == null || e2 == null) continue;
+        float phaseY = mAnimator.getPhaseY();
 
-                    mLineBuffer[j++] = e1.getX();
-                    mLineBuffer[j++] = e1.getY() * phaseY;
+        out.size = 0;
 
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                    }
+        if (out.buffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
+            out.buffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
 
-                    mLineBuffer[j++] = e2.getX();
-                    mLineBuffer[j++] = e2.getY() * phaseY;
-                }
+        float[] buffer = out.buffer;
+
+        Entry e1, e2;
 
-                if (j > 0) {
-                    trans.pointValuesToPixel(mLineBuffer);
+        e1 = dataSet.getEntryForIndex(bounds.min);
 
-                    final int size = Math.max((mXBounds.range + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
+        if (e1 != null) {
 
-                    mRenderPaint.setColor(dataSet.getColor());
+            int j = 0;
+            for (int x = bounds.min; x <= bounds.range + bounds.min; x++) {
 
-                    canvas.drawLines(mLineBuffer, 0, size, mRenderPaint);
+                e1 = dataSet.getEntryForIndex(x == 0 ? 0 : (x - 1));
+                e2 = dataSet.getEntryForIndex(x);
+
+                if (e1 == null || e2 == null) continue;
+
+                buffer[j++] = e1.getX();
+                buffer[j++] = e1.getY() * phaseY;
+
+                if (isDrawSteppedEnabled) {
+                    buffer[j++] = e2.getX();
+                    buffer[j++] = e1.getY() * phaseY;
+                    buffer[j++] = e2.getX();
+                    buffer[j++] = e1.getY() * phaseY;
                 }
+
+                buffer[j++] = e2.getX();
+                buffer[j++] = e2.getY() * phaseY;
             }
-        }
 
-        mRenderPaint.setPathEffect(null);
+            if (j > 0) {
+                trans.pointValuesToPixel(buffer, 0, j);
+
+                out.size = Math.max((bounds.range + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
+            }
+        }
     }
 
     protected Path mGenerateFilledPathBuffer = new Path();
@@ -561,12 +734,13 @@ public class LineChartRenderer extends LineRadarRenderer {
 
                 float[] positions = trans.generateTransformedValuesLine(dataSet, mAnimator.getPhaseX(), mAnimator
                         .getPhaseY(), mXBounds.min, mXBounds.max);
+                int positionCount = trans.getTransformedValueCount();
 
                 MPPointF iconsOffset = MPPointF.getInstance(dataSet.getIconsOffset());
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < positionCount; j += 2) {
 
                     float x = positions[j];
                     float y = positions[j + 1];
@@ -609,9 +783,19 @@ public class LineChartRenderer extends LineRadarRenderer {
     }
 
     /**
-     * cache for the circle bitmaps of all datasets
+     * the shared cache for the circle bitmaps
      */
-    private HashMap<IDataSet, DataSetImageCache> mImageCaches = new HashMap<>();
+    private CircleBitmapCache mCircleCache = CircleBitmapCache.getInstance();
+
+    /**
+     * true if this renderer is registered as an owner of the circle cache
+     */
+    private boolean mCircleCacheOwner = false;
+
+    /**
+     * the circle bitmaps of the DataSet that is drawn, one per circle color
+     */
+    private Bitmap[] mCircleBitmaps = new Bitmap[1];
 
     /**
      * buffer for drawing the circles
@@ -648,23 +832,27 @@ public class LineChartRenderer extends LineRadarRenderer {
             boolean drawCircleHole = dataSet.isDrawCircleHoleEnabled() &&
                     circleHoleRadius < circleRadius &&
                     circleHoleRadius > 0.f;
-            boolean drawTransparentCircleHole = drawCircleHole &&
-                    dataSet.getCircleHoleColor() == ColorTemplate.COLOR_NONE;
-
-            DataSetImageCache imageCache;
 
-            if (mImageCaches.containsKey(dataSet)) {
-                imageCache = mImageCaches.get(dataSet);
-            } else {
-                imageCache = new DataSetImageCache();
-                mImageCaches.put(dataSet, imageCache);
+            if (!mCircleCacheOwner) {
+                mCircleCache.addOwner(this);
+                mCircleCacheOwner = true;
             }
 
-            boolean changeRequired = imageCache.init(dataSet);
+            // look up the bitmaps once per color, they are shared with other DataSets and charts
+            // that use the same circle style
+            int colorCount = dataSet.getCircleColorCount();
+
+            if (colorCount == 0)
+                continue;
+
+            if (mCircleBitmaps.length < colorCount)
+                mCircleBitmaps = new Bitmap[colorCount];
 
-            // only fill the cache with new bitmaps if a change is required
-            if (changeRequired) {
-                imageCache.fill(dataSet, drawCircleHole, drawTransparentCircleHole);
+            for (int k = 0; k < colorCount; k++) {
+                mCircleBitmaps[k] = mCircleCache.getBitmap(circleRadius,
+                        drawCircleHole ? circleHoleRadius : 0f,
+                        dataSet.getCircleColor(k),
+                        dataSet.getCircleHoleColor());
             }
 
             int boundsRangeCount = mXBounds.range + mXBounds.min;
@@ -687,7 +875,7 @@ public class LineChartRenderer extends LineRadarRenderer {
                         !mViewPortHandler.isInBoundsY(mCirclesBuffer[1]))
                     continue;
 
-                Bitmap circleBitmap = imageCache.getBitmap(j);
+                Bitmap circleBitmap = mCircleBitmaps[j % colorCount];
 
                 if (circleBitmap != null) {
                     c.drawBitmap(circleBitmap, mCirclesBuffer[0] - circleRadius, mCirclesBuffer[1] - circleRadius, null);
@@ -708,11 +896,13 @@ public class LineChartRenderer extends LineRadarRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            Entry e = set.getEntryForXValue(high.getX(), high.getY());
+            int index = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
 
-            if (!isInBoundsX(e, set))
+            if (!isInBoundsX(index, set))
                 continue;
 
+            Entry e = set.getEntryForIndex(index);
+
             MPPointD pix = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(e.getX(), e.getY() * mAnimator
                     .getPhaseY());
 
@@ -745,9 +935,14 @@ public class LineChartRenderer extends LineRadarRenderer {
     }
 
     /**
-     * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
+     * Releases the drawing bitmap and the shared circle bitmaps if no other chart uses them.
+     * This should be called when {@link LineChart#onDetachedFromWindow()}.
      */
     public void releaseBitmap() {
+        if (mCircleCacheOwner) {
+            mCircleCache.removeOwner(this);
+            mCircleCacheOwner = false;
+        }
         if (mBitmapCanvas != null) {
             mBitmapCanvas.setBitmap(null);
             mBitmapCanvas = null;
@@ -761,103 +956,4 @@ public class LineChartRenderer extends LineRadarRenderer {
             mDrawBitmap = null;
         }
     }
-
-    private class DataSetImageCache {
-
-        private Path mCirclePathBuffer = new Path();
-
-        private Bitmap[] circleBitmaps;
-
-        /**
-         * Sets up the cache, returns true if a change of cache was required.
-         *
-         * @param set
-         * @return
-         */
-        protected boolean init(ILineDataSet set) {
-
-            int size = set.getCircleColorCount();
-            boolean changeRequired = false;
-
-            if (circleBitmaps == null) {
-                circleBitmaps = new Bitmap[size];
-                changeRequired = true;
-            } else if (circleBitmaps.length != size) {
-                circleBitmaps = new Bitmap[size];
-                changeRequired = true;
-            }
-
-            return changeRequired;
-        }
-
-        /**
-         * Fills the cache with bitmaps for the given dataset.
-         *
-         * @param set
-         * @param drawCircleHole
-         * @param drawTransparentCircleHole
-         */
-        protected void fill(ILineDataSet set, boolean drawCircleHole, boolean drawTransparentCircleHole) {
-
-            int colorCount = set.getCircleColorCount();
-            float circleRadius = set.getCircleRadius();
-            float circleHoleRadius = set.getCircleHoleRadius();
-
-            for (int i = 0; i < colorCount; i++) {
-
-                Bitmap.Config conf = Bitmap.Config.ARGB_4444;
-                Bitmap circleBitmap = Bitmap.createBitmap((int) (circleRadius * 2.1), (int) (circleRadius * 2.1), conf);
-
-                Canvas canvas = new Canvas(circleBitmap);
-                circleBitmaps[i] = circleBitmap;
-                mRenderPaint.setColor(set.getCircleColor(i));
-
-                if (drawTransparentCircleHole) {
-                    // Begin path for circle with hole
-                    mCirclePathBuffer.reset();
-
-                    mCirclePathBuffer.addCircle(
-                            circleRadius,
-                            circleRadius,
-                            circleRadius,
-                            Path.Direction.CW);
-
-                    // Cut hole in path
-                    mCirclePathBuffer.addCircle(
-                            circleRadius,
-                            circleRadius,
-                            circleHoleRadius,
-                            Path.Direction.CCW);
-
-                    // Fill in-between
-                    canvas.drawPath(mCirclePathBuffer, mRenderPaint);
-                } else {
-
-                    canvas.drawCircle(
-                            circleRadius,
-                            circleRadius,
-                            circleRadius,
-                            mRenderPaint);
-
-                    if (drawCircleHole) {
-                        canvas.drawCircle(
-                                circleRadius,
-                                circleRadius,
-                                circleHoleRadius,
-                                mCirclePaintInner);
-                    }
-                }
-            }
-        }
-
-        /**
-         * Returns the cached Bitmap at the given index.
-         *
-         * @param index
-         * @return
-         */
-        protected Bitmap getBitmap(int index) {
-            return circleBitmaps[index % circleBitmaps.length];
-        }
-    }
 }
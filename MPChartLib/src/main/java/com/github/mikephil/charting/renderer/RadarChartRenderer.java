@@ -13,6 +13,7 @@ import com.github.mikephil.charting.data.RadarData;
 import com.github.mikephil.charting.data.RadarEntry;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IRadarDataSet;
+import com.github.mikephil.charting.math.PolarTable;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
@@ -89,10 +90,12 @@ public class RadarChartRenderer extends LineRadarRenderer {
         float factor = mChart.getFactor();
 
         MPPointF center = mChart.getCenterOffsets();
-        MPPointF pOut = MPPointF.getInstance(0,0);
         Path surface = mDrawDataSetSurfacePathBuffer;
         surface.reset();
 
+        PolarTable polar = mChart.getPolarTable(
+                Math.max(mostEntries, dataSet.getEntryCount()), sliceangle * phaseX);
+
         boolean hasMovedToPoint = false;
 
         for (int j = 0; j < dataSet.getEntryCount(); j++) {
@@ -101,19 +104,18 @@ public class RadarChartRenderer extends LineRadarRenderer {
 
             RadarEntry e = dataSet.getEntryForIndex(j);
 
-            Utils.getPosition(
-                    center,
-                    (e.getY() - mChart.getYChartMin()) * factor * phaseY,
-                    sliceangle * j * phaseX + mChart.getRotationAngle(), pOut);
+            float r = (e.getY() - mChart.getYChartMin()) * factor * phaseY;
+            float x = center.x + r * polar.cos(j);
+            float y = center.y + r * polar.sin(j);
 
-            if (Float.isNaN(pOut.x))
+            if (Float.isNaN(x))
                 continue;
 
             if (!hasMovedToPoint) {
-                surface.moveTo(pOut.x, pOut.y);
+                surface.moveTo(x, y);
                 hasMovedToPoint = true;
             } else
-                surface.lineTo(pOut.x, pOut.y);
+                surface.lineTo(x, y);
         }
 
         if (dataSet.getEntryCount() > mostEntries) {
@@ -143,7 +145,6 @@ public class RadarChartRenderer extends LineRadarRenderer {
             c.drawPath(surface, mRenderPaint);
 
         MPPointF.recycleInstance(center);
-        MPPointF.recycleInstance(pOut);
     }
 
     @Override
@@ -178,15 +179,15 @@ public class RadarChartRenderer extends LineRadarRenderer {
             iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
             iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
+            PolarTable polar = mChart.getPolarTable(dataSet.getEntryCount(), sliceangle * phaseX);
+
             for (int j = 0; j < dataSet.getEntryCount(); j++) {
 
                 RadarEntry entry = dataSet.getEntryForIndex(j);
 
-                 Utils.getPosition(
-                         center,
-                         (entry.getY() - mChart.getYChartMin()) * factor * phaseY,
-                         sliceangle * j * phaseX + mChart.getRotationAngle(),
-                         pOut);
+                float r = (entry.getY() - mChart.getYChartMin()) * factor * phaseY;
+                pOut.x = center.x + r * polar.cos(j);
+                pOut.y = center.y + r * polar.sin(j);
 
                 if (dataSet.isDrawValuesEnabled()) {
                     drawValue(c,
@@ -204,11 +205,9 @@ public class RadarChartRenderer extends LineRadarRenderer {
 
                     Drawable icon = entry.getIcon();
 
-                    Utils.getPosition(
-                            center,
-                            (entry.getY()) * factor * phaseY + iconsOffset.y,
-                            sliceangle * j * phaseX + mChart.getRotationAngle(),
-                            pIcon);
+                    float iconRadius = (entry.getY()) * factor * phaseY + iconsOffset.y;
+                    pIcon.x = center.x + iconRadius * polar.cos(j);
+                    pIcon.y = center.y + iconRadius * polar.sin(j);
 
                     //noinspection SuspiciousNameCombination
                     pIcon.y += iconsOffset.x;
@@ -236,6 +235,11 @@ public class RadarChartRenderer extends LineRadarRenderer {
         drawWeb(c);
     }
 
+    /**
+     * buffer for the lines of the web, 4 floats per line
+     */
+    protected float[] mWebLineBuffer = new float[4];
+
     protected void drawWeb(Canvas c) {
 
         float sliceangle = mChart.getSliceAngle();
@@ -243,7 +247,6 @@ public class RadarChartRenderer extends LineRadarRenderer {
         // calculate the factor that is needed for transforming the value to
         // pixels
         float factor = mChart.getFactor();
-        float rotationangle = mChart.getRotationAngle();
 
         MPPointF center = mChart.getCenterOffsets();
 
@@ -255,18 +258,22 @@ public class RadarChartRenderer extends LineRadarRenderer {
         final int xIncrements = 1 + mChart.getSkipWebLineCount();
         int maxEntryCount = mChart.getData().getMaxEntryCountSet().getEntryCount();
 
-        MPPointF p = MPPointF.getInstance(0,0);
-        for (int i = 0; i < maxEntryCount; i += xIncrements) {
+        PolarTable polar = mChart.getPolarTable(maxEntryCount, sliceangle);
 
-            Utils.getPosition(
-                    center,
-                    mChart.getYRange() * factor,
-                    sliceangle * i + rotationangle,
-                    p);
+        float webRadius = mChart.getYRange() * factor;
+        int count = 0;
 
-            c.drawLine(center.x, center.y, p.x, p.y, mWebPaint);
+        ensureWebLineBuffer((maxEntryCount / xIncrements + 1) * 4);
+
+        for (int i = 0; i < maxEntryCount; i += xIncrements) {
+
+            mWebLineBuffer[count++] = center.x;
+            mWebLineBuffer[count++] = center.y;
+            mWebLineBuffer[count++] = center.x + webRadius * polar.cos(i);
+            mWebLineBuffer[count++] = center.y + webRadius * polar.sin(i);
         }
-        MPPointF.recycleInstance(p);
+
+        c.drawLines(mWebLineBuffer, 0, count, mWebPaint);
 
         // draw the inner-web
         mWebPaint.setStrokeWidth(mChart.getWebLineWidthInner());
@@ -274,25 +281,37 @@ public class RadarChartRenderer extends LineRadarRenderer {
         mWebPaint.setAlpha(mChart.getWebAlpha());
 
         int labelCount = mChart.getYAxis().mEntryCount;
+        int entryCount = mChart.getData().getEntryCount();
 
-        MPPointF p1out = MPPointF.getInstance(0,0);
-        MPPointF p2out = MPPointF.getInstance(0,0);
-        for (int j = 0; j < labelCount; j++) {
+        // the angles repeat after maxEntryCount directions
+        count = 0;
 
-            for (int i = 0; i < mChart.getData().getEntryCount(); i++) {
+        ensureWebLineBuffer(labelCount * entryCount * 4);
 
-                float r = (mChart.getYAxis().mEntries[j] - mChart.getYChartMin()) * factor;
+        for (int j = 0; j < labelCount; j++) {
 
-                Utils.getPosition(center, r, sliceangle * i + rotationangle, p1out);
-                Utils.getPosition(center, r, sliceangle * (i + 1) + rotationangle, p2out);
+            float r = (mChart.getYAxis().mEntries[j] - mChart.getYChartMin()) * factor;
 
-                c.drawLine(p1out.x, p1out.y, p2out.x, p2out.y, mWebPaint);
+            for (int i = 0; i < entryCount; i++) {
 
+                int from = i % maxEntryCount;
+                int to = (i + 1) % maxEntryCount;
 
+                mWebLineBuffer[count++] = center.x + r * polar.cos(from);
+                mWebLineBuffer[count++] = center.y + r * polar.sin(from);
+                mWebLineBuffer[count++] = center.x + r * polar.cos(to);
+                mWebLineBuffer[count++] = center.y + r * polar.sin(to);
             }
         }
-        MPPointF.recycleInstance(p1out);
-        MPPointF.recycleInstance(p2out);
+
+        c.drawLines(mWebLineBuffer, 0, count, mWebPaint);
+
+        MPPointF.recycleInstance(center);
+    }
+
+    private void ensureWebLineBuffer(int size) {
+        if (mWebLineBuffer.length < size)
+            mWebLineBuffer = new float[Math.max(size, mWebLineBuffer.length * 2)];
     }
 
     @Override
@@ -1,23 +1,32 @@
 
 package com.github.mikephil.charting.renderer;
 
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.RectF;
 import android.graphics.drawable.Drawable;
 import android.util.Log;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.ScatterData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.renderer.scatter.CircleShapeRenderer;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
+import com.github.mikephil.charting.renderer.scatter.ShapeSpriteAtlas;
+import com.github.mikephil.charting.renderer.scatter.SquareShapeRenderer;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
@@ -38,6 +47,8 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
         ScatterData scatterData = mChart.getScatterData();
 
+        mSpriteAtlas.beginFrame();
+
         for (IScatterDataSet set : scatterData.getDataSets()) {
 
             if (set.isVisible())
@@ -45,8 +56,23 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
+    /**
+     * buffer for the pixel positions of the visible entries of a DataSet, grows as needed
+     */
     float[] mPixelBuffer = new float[2];
 
+    /**
+     * the colors of the visible entries in mPixelBuffer, grows as needed
+     */
+    private int[] mColorBuffer = new int[16];
+
+    /**
+     * the pre-rendered shapes of the DataSets that use sprite rendering
+     */
+    protected ShapeSpriteAtlas mSpriteAtlas = new ShapeSpriteAtlas();
+
+    private RectF mSpriteRect = new RectF();
+
     protected void drawDataSet(Canvas c, IScatterDataSet dataSet) {
 
         if (dataSet.getEntryCount() < 1)
@@ -64,34 +90,192 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             return;
         }
 
-        int max = (int)(Math.min(
-                Math.ceil((float)dataSet.getEntryCount() * mAnimator.getPhaseX()),
-                (float)dataSet.getEntryCount()));
+        mXBounds.set(mChart, dataSet);
+
+        // only the entries within the visible x-range are transformed
+        final int count = (mXBounds.range + 1) * 2;
+
+        if (mPixelBuffer.length < count)
+            mPixelBuffer = new float[count];
+
+        float[] buffer = mPixelBuffer;
+
+        for (int i = 0; i < count; i += 2) {
 
-        for (int i = 0; i < max; i++) {
+            Entry e = dataSet.getEntryForIndex(i / 2 + mXBounds.min);
 
-            Entry e = dataSet.getEntryForIndex(i);
+            buffer[i] = e.getX();
+            buffer[i + 1] = e.getY();
+        }
+
+        trans.pointValuesToPixel(buffer, 0, count, phaseY);
 
-            mPixelBuffer[0] = e.getX();
-            mPixelBuffer[1] = e.getY() * phaseY;
+        // move the points that are within the content rect to the front and remember their
+        // colors, so that they can be drawn in runs of equal color
+        int visible = 0;
 
-            trans.pointValuesToPixel(mPixelBuffer);
+        for (int i = 0; i < count; i += 2) {
 
-            if (!viewPortHandler.isInBoundsRight(mPixelBuffer[0]))
+            if (!viewPortHandler.isInBoundsRight(buffer[i]))
                 break;
 
-            if (!viewPortHandler.isInBoundsLeft(mPixelBuffer[0])
-                    || !viewPortHandler.isInBoundsY(mPixelBuffer[1]))
+            if (!viewPortHandler.isInBoundsLeft(buffer[i])
+                    || !viewPortHandler.isInBoundsY(buffer[i + 1]))
                 continue;
 
-            mRenderPaint.setColor(dataSet.getColor(i / 2));
+            buffer[visible] = buffer[i];
+            buffer[visible + 1] = buffer[i + 1];
+
+            int index = i / 2 + mXBounds.min;
+
+            if (mColorBuffer.length < visible / 2 + 1)
+                mColorBuffer = Arrays.copyOf(mColorBuffer, Math.max(mColorBuffer.length * 2, 16));
+
+            mColorBuffer[visible / 2] = dataSet.getColor(index / 2);
+
+            visible += 2;
+        }
+
+        if (visible == 0)
+            return;
+
+        if (dataSet.isSpriteRenderingEnabled()) {
+            drawSprites(c, dataSet, buffer, visible);
+            return;
+        }
+
+        if (isPointShape(dataSet, renderer)) {
+            drawPointShapes(c, dataSet, renderer, buffer, visible);
+            return;
+        }
+
+        for (int i = 0; i < visible; i += 2) {
+
+            mRenderPaint.setColor(mColorBuffer[i / 2]);
             renderer.renderShape(
                     c, dataSet, mViewPortHandler,
-                    mPixelBuffer[0], mPixelBuffer[1],
+                    buffer[i], buffer[i + 1],
                     mRenderPaint);
         }
     }
 
+    /**
+     * Draws the shapes by copying them from the sprite atlas, the shapes are only drawn once per
+     * color. Falls back to drawing each shape if it does not fit into the atlas in this frame.
+     *
+     * @param c
+     * @param dataSet
+     * @param buffer  the pixel positions
+     * @param count   the number of valid floats in buffer
+     */
+    private void drawSprites(Canvas c, IScatterDataSet dataSet, float[] buffer, int count) {
+
+        int start = 0;
+
+        while (start < count) {
+
+            int color = mColorBuffer[start / 2];
+            int end = start + 2;
+
+            while (end < count && mColorBuffer[end / 2] == color)
+                end += 2;
+
+            Rect sprite = mSpriteAtlas.getSprite(dataSet, color, mViewPortHandler);
+
+            if (sprite == null) {
+
+                mRenderPaint.setColor(color);
+
+                for (int i = start; i < end; i += 2) {
+                    dataSet.getShapeRenderer().renderShape(
+                            c, dataSet, mViewPortHandler,
+                            buffer[i], buffer[i + 1],
+                            mRenderPaint);
+                }
+
+            } else {
+
+                Bitmap atlas = mSpriteAtlas.getBitmap();
+                float half = sprite.width() / 2f;
+
+                for (int i = start; i < end; i += 2) {
+                    mSpriteRect.set(buffer[i] - half, buffer[i + 1] - half,
+                            buffer[i] + half, buffer[i + 1] + half);
+                    c.drawBitmap(atlas, sprite, mSpriteRect, null);
+                }
+            }
+
+            start = end;
+        }
+    }
+
+    /**
+     * Releases the sprite bitmap. This should be called when
+     * {@link com.github.mikephil.charting.charts.ScatterChart#onDetachedFromWindow()}.
+     */
+    public void releaseBitmap() {
+        mSpriteAtlas.release();
+    }
+
+    /**
+     * Returns true if the shapes of the given DataSet are plain circles or squares without a hole,
+     * which look the same as a point drawn with a round or square stroke cap.
+     *
+     * @param dataSet
+     * @param renderer
+     * @return
+     */
+    private boolean isPointShape(IScatterDataSet dataSet, IShapeRenderer renderer) {
+
+        Class<?> type = renderer.getClass();
+
+        if (type != CircleShapeRenderer.class && type != SquareShapeRenderer.class)
+            return false;
+
+        return dataSet.getScatterShapeSize() > 0f
+                && Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius()) <= 0f;
+    }
+
+    /**
+     * Draws circles or squares without a hole as points, one drawPoints call per run of
+     * entries with the same color.
+     *
+     * @param c
+     * @param dataSet
+     * @param renderer
+     * @param buffer   the pixel positions
+     * @param count    the number of valid floats in buffer
+     */
+    private void drawPointShapes(Canvas c, IScatterDataSet dataSet, IShapeRenderer renderer,
+                                 float[] buffer, int count) {
+
+        Paint.Cap cap = mRenderPaint.getStrokeCap();
+
+        mRenderPaint.setStyle(Paint.Style.STROKE);
+        mRenderPaint.setStrokeWidth(dataSet.getScatterShapeSize());
+        mRenderPaint.setStrokeCap(renderer instanceof CircleShapeRenderer
+                ? Paint.Cap.ROUND
+                : Paint.Cap.SQUARE);
+
+        int start = 0;
+
+        while (start < count) {
+
+            int color = mColorBuffer[start / 2];
+            int end = start + 2;
+
+            while (end < count && mColorBuffer[end / 2] == color)
+                end += 2;
+
+            mRenderPaint.setColor(color);
+            c.drawPoints(buffer, start, end - start, mRenderPaint);
+
+            start = end;
+        }
+
+        mRenderPaint.setStrokeCap(cap);
+    }
+
     @Override
     public void drawValues(Canvas c) {
 
@@ -112,9 +296,11 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
                 mXBounds.set(mChart, dataSet);
 
-                float[] positions = mChart.getTransformer(dataSet.getAxisDependency())
-                        .generateTransformedValuesScatter(dataSet,
-                                mAnimator.getPhaseX(), mAnimator.getPhaseY(), mXBounds.min, mXBounds.max);
+                Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
+
+                float[] positions = trans.generateTransformedValuesScatter(dataSet,
+                        mAnimator.getPhaseX(), mAnimator.getPhaseY(), mXBounds.min, mXBounds.max);
+                int positionCount = trans.getTransformedValueCount();
 
                 float shapeSize = Utils.convertDpToPixel(dataSet.getScatterShapeSize());
 
@@ -122,7 +308,7 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                 iconsOffset.x = Utils.convertDpToPixel(iconsOffset.x);
                 iconsOffset.y = Utils.convertDpToPixel(iconsOffset.y);
 
-                for (int j = 0; j < positions.length; j += 2) {
+                for (int j = 0; j < positionCount; j += 2) {
 
                     if (!mViewPortHandler.isInBoundsRight(positions[j]))
                         break;
@@ -180,11 +366,13 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             if (set == null || !set.isHighlightEnabled())
                 continue;
 
-            final Entry e = set.getEntryForXValue(high.getX(), high.getY());
+            int index = set.getEntryIndex(high.getX(), high.getY(), DataSet.Rounding.CLOSEST);
 
-            if (!isInBoundsX(e, set))
+            if (!isInBoundsX(index, set))
                 continue;
 
+            final Entry e = set.getEntryForIndex(index);
+
             MPPointD pix = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(e.getX(), e.getY() * mAnimator
                     .getPhaseY());
 
@@ -8,9 +8,12 @@ import android.graphics.Paint.Align;
 import android.graphics.Path;
 import android.graphics.RectF;
 
+import com.github.mikephil.charting.components.AxisLabelLayout;
 import com.github.mikephil.charting.components.LimitLine;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.components.XAxis.XAxisPosition;
+import com.github.mikephil.charting.data.TimeScale;
+import com.github.mikephil.charting.math.TimeTicks;
 import com.github.mikephil.charting.utils.FSize;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -69,11 +72,131 @@ public class XAxisRenderer extends AxisRenderer {
 
     @Override
     protected void computeAxisValues(float min, float max) {
-        super.computeAxisValues(min, max);
+
+        if (mXAxis.isTimeAxis())
+            computeTimeAxisValues(min, max);
+        else
+            super.computeAxisValues(min, max);
 
         computeSize();
     }
 
+    /**
+     * calculates the calendar aligned label positions of a time axis, created when first needed
+     */
+    protected TimeTicks mTimeTicks;
+
+    /**
+     * Sets up the label positions of a time axis at calendar aligned timestamps between the two
+     * given x-values.
+     *
+     * @param min
+     * @param max
+     */
+    protected void computeTimeAxisValues(float min, float max) {
+
+        if (mTimeTicks == null)
+            mTimeTicks = new TimeTicks();
+
+        TimeScale scale = mXAxis.getTimeScale();
+
+        TimeTicks ticks = mTimeTicks;
+        computeTimeTicks(ticks, min, max);
+
+        final int n = ticks.mTickCount;
+
+        if (mXAxis.mEntries.length < n)
+            mXAxis.mEntries = new float[n];
+
+        for (int i = 0; i < n; i++)
+            mXAxis.mEntries[i] = scale.toX(ticks.mTicks[i]);
+
+        if (mXAxis.isCenterAxisLabelsEnabled()) {
+
+            if (mXAxis.mCenteredEntries.length < n)
+                mXAxis.mCenteredEntries = new float[n];
+
+            // calendar steps vary in length, center each label in its own interval
+            for (int i = 0; i < n; i++) {
+
+                float interval = 0f;
+
+                if (i + 1 < n)
+                    interval = mXAxis.mEntries[i + 1] - mXAxis.mEntries[i];
+                else if (i > 0)
+                    interval = mXAxis.mEntries[i] - mXAxis.mEntries[i - 1];
+
+                mXAxis.mCenteredEntries[i] = mXAxis.mEntries[i] + interval / 2f;
+            }
+        }
+
+        mXAxis.mEntryCount = n;
+        mXAxis.mDecimals = 0;
+
+        // the formatter picks its pattern by the unit, the labels of the old unit can't be reused
+        if (mXAxis.mTimeUnit != ticks.mUnit) {
+            clearLabelLayouts();
+            mXAxis.mTimeUnit = ticks.mUnit;
+        }
+
+        computeLabelLayout();
+    }
+
+    /**
+     * Computes the calendar aligned label positions of a time axis between the two given x-values
+     * into the given ticks, without changing the axis.
+     *
+     * @param ticks
+     * @param min
+     * @param max
+     */
+    protected void computeTimeTicks(TimeTicks ticks, float min, float max) {
+
+        TimeScale scale = mXAxis.getTimeScale();
+
+        long minInterval = mXAxis.isGranularityEnabled()
+                ? (long) ((double) mXAxis.getGranularity() * scale.getUnit())
+                : 0L;
+
+        ticks.compute(scale.toMillis(min), scale.toMillis(max), mXAxis.getLabelCount(),
+                minInterval, scale.getTimeZone());
+    }
+
+    /**
+     * Lays out the labels of the given range ahead of time. On a time axis the labels are laid
+     * out at the calendar aligned positions, and only if they have the current time unit of the
+     * axis, because the formatter picks its pattern by the unit of the axis.
+     *
+     * @param min the minimum visible value of the axis
+     * @param max the maximum visible value of the axis
+     */
+    @Override
+    public void prefetchAxis(float min, float max) {
+
+        if (!mXAxis.isTimeAxis()) {
+            super.prefetchAxis(min, max);
+            return;
+        }
+
+        if (mLabelLayoutCache == null || !mXAxis.isLabelLayoutCacheable())
+            return;
+
+        TimeTicks ticks = new TimeTicks();
+        computeTimeTicks(ticks, min, max);
+
+        if (ticks.mUnit != mXAxis.mTimeUnit)
+            return;
+
+        TimeScale scale = mXAxis.getTimeScale();
+
+        float[] entries = new float[ticks.mTickCount];
+
+        for (int i = 0; i < entries.length; i++)
+            entries[i] = scale.toX(ticks.mTicks[i]);
+
+        mLabelLayoutCache.getLayout(entries, entries.length, 0, mXAxis);
+    }
+
     protected void computeSize() {
 
         String longest = mXAxis.getLongestLabel();
@@ -81,7 +204,12 @@ public class XAxisRenderer extends AxisRenderer {
         mAxisLabelPaint.setTypeface(mXAxis.getTypeface());
         mAxisLabelPaint.setTextSize(mXAxis.getTextSize());
 
-        final FSize labelSize = Utils.calcTextSize(mAxisLabelPaint, longest);
+        // the bounds of the longest label are known if it was laid out with this paint
+        AxisLabelLayout layout = mXAxis.getLabelLayout();
+
+        final FSize labelSize = layout != null && layout.isMeasuredWith(mAxisLabelPaint)
+                ? FSize.getInstance(layout.getLongestLabelBoundsWidth(), layout.getLongestLabelBoundsHeight())
+                : Utils.calcTextSize(mAxisLabelPaint, longest);
 
         final float labelWidth = labelSize.width;
         final float labelHeight = Utils.calcTextHeight(mAxisLabelPaint, "Q");
@@ -172,6 +300,11 @@ public class XAxisRenderer extends AxisRenderer {
         }
     }
 
+    /**
+     * buffer for the positions of the labels
+     */
+    protected float[] mLabelPositionsBuffer = new float[2];
+
     /**
      * draws the x-labels on the specified y-position
      *
@@ -182,9 +315,14 @@ public class XAxisRenderer extends AxisRenderer {
         final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
         boolean centeringEnabled = mXAxis.isCenterAxisLabelsEnabled();
 
-        float[] positions = new float[mXAxis.mEntryCount * 2];
+        final int count = mXAxis.mEntryCount * 2;
 
-        for (int i = 0; i < positions.length; i += 2) {
+        if (mLabelPositionsBuffer.length < count)
+            mLabelPositionsBuffer = new float[count];
+
+        float[] positions = mLabelPositionsBuffer;
+
+        for (int i = 0; i < count; i += 2) {
 
             // only fill x values
             if (centeringEnabled) {
@@ -192,23 +330,24 @@ public class XAxisRenderer extends AxisRenderer {
             } else {
                 positions[i] = mXAxis.mEntries[i / 2];
             }
+            positions[i + 1] = 0f;
         }
 
-        mTrans.pointValuesToPixel(positions);
+        mTrans.pointValuesToPixel(positions, 0, count);
 
-        for (int i = 0; i < positions.length; i += 2) {
+        for (int i = 0; i < count; i += 2) {
 
             float x = positions[i];
 
             if (mViewPortHandler.isInBoundsX(x)) {
 
-                String label = mXAxis.getValueFormatter().getFormattedValue(mXAxis.mEntries[i / 2], mXAxis);
+                String label = mXAxis.getFormattedLabel(i / 2);
 
                 if (mXAxis.isAvoidFirstLastClippingEnabled()) {
 
                     // avoid clipping of the last
                     if (i / 2 == mXAxis.mEntryCount - 1 && mXAxis.mEntryCount > 1) {
-                        float width = Utils.calcTextWidth(mAxisLabelPaint, label);
+                        float width = getLabelWidth(i / 2, label);
 
                         if (width > mViewPortHandler.offsetRight() * 2
                                 && x + width > mViewPortHandler.getChartWidth())
@@ -217,7 +356,7 @@ public class XAxisRenderer extends AxisRenderer {
                         // avoid clipping of the first
                     } else if (i == 0) {
 
-                        float width = Utils.calcTextWidth(mAxisLabelPaint, label);
+                        float width = getLabelWidth(0, label);
                         x += width / 2;
                     }
                 }
@@ -255,14 +394,32 @@ public class XAxisRenderer extends AxisRenderer {
 
         setupGridPaint();
 
-        Path gridLinePath = mRenderGridLinesPath;
-        gridLinePath.reset();
+        // subclasses that still override the old hook draw each line themselves
+        if (!mBatchGridLines) {
 
-        for (int i = 0; i < positions.length; i += 2) {
+            Path gridLinePath = mRenderGridLinesPath;
+            gridLinePath.reset();
 
-            drawGridLine(c, positions[i], positions[i + 1], gridLinePath);
+            for (int i = 0; i < positions.length; i += 2) {
+                drawGridLine(c, positions[i], positions[i + 1], gridLinePath);
+            }
+
+            c.restoreToCount(clipRestoreCount);
+            return;
         }
 
+        if (mGridLineSegments.length < positions.length * 2)
+            mGridLineSegments = new float[positions.length * 2];
+
+        float[] segments = mGridLineSegments;
+
+        // collect all grid lines and draw them at once
+        for (int i = 0; i < positions.length; i += 2) {
+            gridLineSegment(segments, i * 2, positions[i], positions[i + 1]);
+        }
+
+        drawLineSegments(c, segments, positions.length * 2, mGridPaint);
+
         c.restoreToCount(clipRestoreCount);
     }
 
@@ -274,6 +431,28 @@ public class XAxisRenderer extends AxisRenderer {
         return mGridClippingRect;
     }
 
+    /**
+     * start and end points of all grid lines, drawn with one call
+     */
+    protected float[] mGridLineSegments = new float[0];
+
+    /**
+     * Writes the start and end point of the grid line at the specified position into the
+     * segments array, starting at offset.
+     *
+     * @param segments
+     * @param offset
+     * @param x
+     * @param y
+     */
+    protected void gridLineSegment(float[] segments, int offset, float x, float y) {
+
+        segments[offset] = x;
+        segments[offset + 1] = mViewPortHandler.contentBottom();
+        segments[offset + 2] = x;
+        segments[offset + 3] = mViewPortHandler.contentTop();
+    }
+
     /**
      * Draws the grid line at the specified position using the provided path.
      *
@@ -281,7 +460,10 @@ public class XAxisRenderer extends AxisRenderer {
      * @param x
      * @param y
      * @param gridLinePath
+     * @deprecated grid lines are drawn as segments, override gridLineSegment(...) instead. Only
+     * called if setBatchGridLines(false) was set.
      */
+    @Deprecated
     protected void drawGridLine(Canvas c, float x, float y, Path gridLinePath) {
 
         gridLinePath.moveTo(x, mViewPortHandler.contentBottom());
@@ -338,7 +520,6 @@ public class XAxisRenderer extends AxisRenderer {
     }
 
     float[] mLimitLineSegmentsBuffer = new float[4];
-    private Path mLimitLinePath = new Path();
 
     public void renderLimitLineLine(Canvas c, LimitLine limitLine, float[] position) {
         mLimitLineSegmentsBuffer[0] = position[0];
@@ -346,16 +527,12 @@ public class XAxisRenderer extends AxisRenderer {
         mLimitLineSegmentsBuffer[2] = position[0];
         mLimitLineSegmentsBuffer[3] = mViewPortHandler.contentBottom();
 
-        mLimitLinePath.reset();
-        mLimitLinePath.moveTo(mLimitLineSegmentsBuffer[0], mLimitLineSegmentsBuffer[1]);
-        mLimitLinePath.lineTo(mLimitLineSegmentsBuffer[2], mLimitLineSegmentsBuffer[3]);
-
         mLimitLinePaint.setStyle(Paint.Style.STROKE);
         mLimitLinePaint.setColor(limitLine.getLineColor());
         mLimitLinePaint.setStrokeWidth(limitLine.getLineWidth());
         mLimitLinePaint.setPathEffect(limitLine.getDashPathEffect());
 
-        c.drawPath(mLimitLinePath, mLimitLinePaint);
+        drawLineSegments(c, mLimitLineSegmentsBuffer, 4, mLimitLinePaint);
     }
 
     public void renderLimitLineLabel(Canvas c, LimitLine limitLine, float[] position, float yOffset) {
@@ -377,7 +554,7 @@ public class XAxisRenderer extends AxisRenderer {
 
             if (labelPosition == LimitLine.LimitLabelPosition.RIGHT_TOP) {
 
-                final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
+                final float labelLineHeight = limitLine.getLabelHeight(mLimitLinePaint);
                 mLimitLinePaint.setTextAlign(Align.LEFT);
                 c.drawText(label, position[0] + xOffset, mViewPortHandler.contentTop() + yOffset + labelLineHeight,
                         mLimitLinePaint);
@@ -388,7 +565,7 @@ public class XAxisRenderer extends AxisRenderer {
             } else if (labelPosition == LimitLine.LimitLabelPosition.LEFT_TOP) {
 
                 mLimitLinePaint.setTextAlign(Align.RIGHT);
-                final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
+                final float labelLineHeight = limitLine.getLabelHeight(mLimitLinePaint);
                 c.drawText(label, position[0] - xOffset, mViewPortHandler.contentTop() + yOffset + labelLineHeight,
                         mLimitLinePaint);
             } else {
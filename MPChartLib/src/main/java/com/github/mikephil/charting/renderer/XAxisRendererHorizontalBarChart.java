@@ -8,6 +8,7 @@ import android.graphics.Path;
 import android.graphics.RectF;
 
 import com.github.mikephil.charting.charts.BarChart;
+import com.github.mikephil.charting.components.AxisLabelLayout;
 import com.github.mikephil.charting.components.LimitLine;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.components.XAxis.XAxisPosition;
@@ -66,7 +67,12 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
 
         String longest = mXAxis.getLongestLabel();
 
-        final FSize labelSize = Utils.calcTextSize(mAxisLabelPaint, longest);
+        // the bounds of the longest label are known if it was laid out with this paint
+        AxisLabelLayout layout = mXAxis.getLabelLayout();
+
+        final FSize labelSize = layout != null && layout.isMeasuredWith(mAxisLabelPaint)
+                ? FSize.getInstance(layout.getLongestLabelBoundsWidth(), layout.getLongestLabelBoundsHeight())
+                : Utils.calcTextSize(mAxisLabelPaint, longest);
 
         final float labelWidth = (int)(labelSize.width + mXAxis.getXOffset() * 3.5f);
         final float labelHeight = labelSize.height;
@@ -136,11 +142,17 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
         final float labelRotationAngleDegrees = mXAxis.getLabelRotationAngle();
         boolean centeringEnabled = mXAxis.isCenterAxisLabelsEnabled();
 
-        float[] positions = new float[mXAxis.mEntryCount * 2];
+        final int count = mXAxis.mEntryCount * 2;
+
+        if (mLabelPositionsBuffer.length < count)
+            mLabelPositionsBuffer = new float[count];
 
-        for (int i = 0; i < positions.length; i += 2) {
+        float[] positions = mLabelPositionsBuffer;
+
+        for (int i = 0; i < count; i += 2) {
 
             // only fill x values
+            positions[i] = 0f;
             if (centeringEnabled) {
                 positions[i + 1] = mXAxis.mCenteredEntries[i / 2];
             } else {
@@ -148,15 +160,15 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
             }
         }
 
-        mTrans.pointValuesToPixel(positions);
+        mTrans.pointValuesToPixel(positions, 0, count);
 
-        for (int i = 0; i < positions.length; i += 2) {
+        for (int i = 0; i < count; i += 2) {
 
             float y = positions[i + 1];
 
             if (mViewPortHandler.isInBoundsY(y)) {
 
-                String label = mXAxis.getValueFormatter().getFormattedValue(mXAxis.mEntries[i / 2], mXAxis);
+                String label = mXAxis.getFormattedLabel(i / 2);
                 drawLabel(c, label, pos, y, anchor, labelRotationAngleDegrees);
             }
         }
@@ -169,6 +181,16 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
         return mGridClippingRect;
     }
 
+    @Override
+    protected void gridLineSegment(float[] segments, int offset, float x, float y) {
+
+        segments[offset] = mViewPortHandler.contentRight();
+        segments[offset + 1] = y;
+        segments[offset + 2] = mViewPortHandler.contentLeft();
+        segments[offset + 3] = y;
+    }
+
+    @Deprecated
     @Override
     protected void drawGridLine(Canvas c, float x, float y, Path gridLinePath) {
 
@@ -208,6 +230,7 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
     }
 
     protected Path mRenderLimitLinesPathBuffer = new Path();
+    protected float[] mRenderLimitLineSegment = new float[4];
     /**
 	 * Draws the LimitLines associated with this axis to the screen.
 	 * This is the standard YAxis renderer using the XAxis limit lines.
@@ -226,8 +249,7 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
         pts[0] = 0;
         pts[1] = 0;
 
-		Path limitLinePath = mRenderLimitLinesPathBuffer;
-        limitLinePath.reset();
+		float[] segment = mRenderLimitLineSegment;
 
 		for (int i = 0; i < limitLines.size(); i++) {
 
@@ -250,12 +272,12 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
 
 			mTrans.pointValuesToPixel(pts);
 
-			limitLinePath.moveTo(mViewPortHandler.contentLeft(), pts[1]);
-			limitLinePath.lineTo(mViewPortHandler.contentRight(), pts[1]);
+			segment[0] = mViewPortHandler.contentLeft();
+			segment[1] = pts[1];
+			segment[2] = mViewPortHandler.contentRight();
+			segment[3] = pts[1];
 
-			c.drawPath(limitLinePath, mLimitLinePaint);
-			limitLinePath.reset();
-			// c.drawLines(pts, mLimitLinePaint);
+			drawLineSegments(c, segment, 4, mLimitLinePaint);
 
 			String label = l.getLabel();
 
@@ -268,7 +290,7 @@ public class XAxisRendererHorizontalBarChart extends XAxisRenderer {
 				mLimitLinePaint.setStrokeWidth(0.5f);
 				mLimitLinePaint.setTextSize(l.getTextSize());
 
-                final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
+                final float labelLineHeight = l.getLabelHeight(mLimitLinePaint);
                 float xOffset = Utils.convertDpToPixel(4f) + l.getXOffset();
                 float yOffset = l.getLineWidth() + labelLineHeight + l.getYOffset();
 
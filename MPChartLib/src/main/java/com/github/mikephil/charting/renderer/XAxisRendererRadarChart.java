@@ -6,8 +6,8 @@ import android.graphics.PointF;
 
 import com.github.mikephil.charting.charts.RadarChart;
 import com.github.mikephil.charting.components.XAxis;
+import com.github.mikephil.charting.math.PolarTable;
 import com.github.mikephil.charting.utils.MPPointF;
-import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
 public class XAxisRendererRadarChart extends XAxisRenderer {
@@ -41,14 +41,17 @@ public class XAxisRendererRadarChart extends XAxisRenderer {
 
         MPPointF center = mChart.getCenterOffsets();
         MPPointF pOut = MPPointF.getInstance(0,0);
-        for (int i = 0; i < mChart.getData().getMaxEntryCountSet().getEntryCount(); i++) {
 
-            String label = mXAxis.getValueFormatter().getFormattedValue(i, mXAxis);
+        int count = mChart.getData().getMaxEntryCountSet().getEntryCount();
+        PolarTable polar = mChart.getPolarTable(count, sliceangle);
+        float labelRadius = mChart.getYRange() * factor + mXAxis.mLabelRotatedWidth / 2f;
+
+        for (int i = 0; i < count; i++) {
 
-            float angle = (sliceangle * i + mChart.getRotationAngle()) % 360f;
+            String label = mXAxis.getValueFormatter().getFormattedValue(i, mXAxis);
 
-            Utils.getPosition(center, mChart.getYRange() * factor
-                    + mXAxis.mLabelRotatedWidth / 2f, angle, pOut);
+            pOut.x = center.x + labelRadius * polar.cos(i);
+            pOut.y = center.y + labelRadius * polar.sin(i);
 
             drawLabel(c, label, pOut.x, pOut.y - mXAxis.mLabelRotatedHeight / 2.f,
                     drawLabelAnchor, labelRotationAngleDegrees);
@@ -151,15 +151,30 @@ public class YAxisRenderer extends AxisRenderer {
             mGridPaint.setStrokeWidth(mYAxis.getGridLineWidth());
             mGridPaint.setPathEffect(mYAxis.getGridDashPathEffect());
 
-            Path gridLinePath = mRenderGridLinesPath;
-            gridLinePath.reset();
+            if (!mBatchGridLines) {
 
-            // draw the grid
-            for (int i = 0; i < positions.length; i += 2) {
-
-                // draw a path because lines don't support dashing on lower android versions
-                c.drawPath(linePath(gridLinePath, i, positions), mGridPaint);
+                // subclasses that still override the old hook get a path per line
+                Path gridLinePath = mRenderGridLinesPath;
                 gridLinePath.reset();
+
+                for (int i = 0; i < positions.length; i += 2) {
+                    c.drawPath(linePath(gridLinePath, i, positions), mGridPaint);
+                    gridLinePath.reset();
+                }
+
+            } else {
+
+                if (mGridLineSegments.length < positions.length * 2)
+                    mGridLineSegments = new float[positions.length * 2];
+
+                float[] segments = mGridLineSegments;
+
+                // collect all grid lines and draw them at once
+                for (int i = 0; i < positions.length; i += 2) {
+                    gridLineSegment(segments, i * 2, i, positions);
+                }
+
+                drawLineSegments(c, segments, positions.length * 2, mGridPaint);
             }
 
             c.restoreToCount(clipRestoreCount);
@@ -178,6 +193,28 @@ public class YAxisRenderer extends AxisRenderer {
         return mGridClippingRect;
     }
 
+    /**
+     * start and end points of all grid lines, drawn with one call
+     */
+    protected float[] mGridLineSegments = new float[0];
+
+    /**
+     * Writes the start and end point of the grid line for the position at index i into the
+     * segments array, starting at offset.
+     *
+     * @param segments
+     * @param offset
+     * @param i
+     * @param positions
+     */
+    protected void gridLineSegment(float[] segments, int offset, int i, float[] positions) {
+
+        segments[offset] = mViewPortHandler.offsetLeft();
+        segments[offset + 1] = positions[i + 1];
+        segments[offset + 2] = mViewPortHandler.contentRight();
+        segments[offset + 3] = positions[i + 1];
+    }
+
     /**
      * Calculates the path for a grid line.
      *
@@ -185,7 +222,10 @@ public class YAxisRenderer extends AxisRenderer {
      * @param i
      * @param positions
      * @return
+     * @deprecated grid lines are drawn as segments, override gridLineSegment(...) instead. Only
+     * called if setBatchGridLines(false) was set.
      */
+    @Deprecated
     protected Path linePath(Path p, int i, float[] positions) {
 
         p.moveTo(mViewPortHandler.offsetLeft(), positions[i + 1]);
@@ -219,6 +259,7 @@ public class YAxisRenderer extends AxisRenderer {
 
     protected Path mDrawZeroLinePath = new Path();
     protected RectF mZeroLineClippingRect = new RectF();
+    protected float[] mZeroLineSegment = new float[4];
 
     /**
      * Draws the zero line.
@@ -236,20 +277,22 @@ public class YAxisRenderer extends AxisRenderer {
         mZeroLinePaint.setColor(mYAxis.getZeroLineColor());
         mZeroLinePaint.setStrokeWidth(mYAxis.getZeroLineWidth());
 
-        Path zeroLinePath = mDrawZeroLinePath;
-        zeroLinePath.reset();
+        float[] segment = mZeroLineSegment;
+        segment[0] = mViewPortHandler.contentLeft();
+        segment[1] = (float) pos.y;
+        segment[2] = mViewPortHandler.contentRight();
+        segment[3] = (float) pos.y;
 
-        zeroLinePath.moveTo(mViewPortHandler.contentLeft(), (float) pos.y);
-        zeroLinePath.lineTo(mViewPortHandler.contentRight(), (float) pos.y);
+        MPPointD.recycleInstance(pos);
 
-        // draw a path because lines don't support dashing on lower android versions
-        c.drawPath(zeroLinePath, mZeroLinePaint);
+        drawLineSegments(c, segment, 4, mZeroLinePaint);
 
         c.restoreToCount(clipRestoreCount);
     }
 
     protected Path mRenderLimitLines = new Path();
     protected float[] mRenderLimitLinesBuffer = new float[2];
+    protected float[] mRenderLimitLineSegment = new float[4];
     protected RectF mLimitLineClippingRect = new RectF();
     /**
      * Draws the LimitLines associated with this axis to the screen.
@@ -267,8 +310,7 @@ public class YAxisRenderer extends AxisRenderer {
         float[] pts = mRenderLimitLinesBuffer;
         pts[0] = 0;
         pts[1] = 0;
-        Path limitLinePath = mRenderLimitLines;
-        limitLinePath.reset();
+        float[] segment = mRenderLimitLineSegment;
 
         for (int i = 0; i < limitLines.size(); i++) {
 
@@ -291,12 +333,12 @@ public class YAxisRenderer extends AxisRenderer {
 
             mTrans.pointValuesToPixel(pts);
 
-            limitLinePath.moveTo(mViewPortHandler.contentLeft(), pts[1]);
-            limitLinePath.lineTo(mViewPortHandler.contentRight(), pts[1]);
+            segment[0] = mViewPortHandler.contentLeft();
+            segment[1] = pts[1];
+            segment[2] = mViewPortHandler.contentRight();
+            segment[3] = pts[1];
 
-            c.drawPath(limitLinePath, mLimitLinePaint);
-            limitLinePath.reset();
-            // c.drawLines(pts, mLimitLinePaint);
+            drawLineSegments(c, segment, 4, mLimitLinePaint);
 
             String label = l.getLabel();
 
@@ -310,7 +352,7 @@ public class YAxisRenderer extends AxisRenderer {
                 mLimitLinePaint.setStrokeWidth(0.5f);
                 mLimitLinePaint.setTextSize(l.getTextSize());
 
-                final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
+                final float labelLineHeight = l.getLabelHeight(mLimitLinePaint);
                 float xOffset = Utils.convertDpToPixel(4f) + l.getXOffset();
                 float yOffset = l.getLineWidth() + labelLineHeight + l.getYOffset();
 
@@ -179,6 +179,16 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
         return mGridClippingRect;
     }
 
+    @Override
+    protected void gridLineSegment(float[] segments, int offset, int i, float[] positions) {
+
+        segments[offset] = positions[i];
+        segments[offset + 1] = mViewPortHandler.contentTop();
+        segments[offset + 2] = positions[i];
+        segments[offset + 3] = mViewPortHandler.contentBottom();
+    }
+
+    @Deprecated
     @Override
     protected Path linePath(Path p, int i, float[] positions) {
 
@@ -204,14 +214,15 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
         mZeroLinePaint.setColor(mYAxis.getZeroLineColor());
         mZeroLinePaint.setStrokeWidth(mYAxis.getZeroLineWidth());
 
-        Path zeroLinePath = mDrawZeroLinePathBuffer;
-        zeroLinePath.reset();
+        float[] segment = mZeroLineSegment;
+        segment[0] = (float) pos.x - 1;
+        segment[1] = mViewPortHandler.contentTop();
+        segment[2] = (float) pos.x - 1;
+        segment[3] = mViewPortHandler.contentBottom();
 
-        zeroLinePath.moveTo((float) pos.x - 1, mViewPortHandler.contentTop());
-        zeroLinePath.lineTo((float) pos.x - 1, mViewPortHandler.contentBottom());
+        MPPointD.recycleInstance(pos);
 
-        // draw a path because lines don't support dashing on lower android versions
-        c.drawPath(zeroLinePath, mZeroLinePaint);
+        drawLineSegments(c, segment, 4, mZeroLinePaint);
 
         c.restoreToCount(clipRestoreCount);
     }
@@ -237,8 +248,6 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
         pts[1] = 0;
         pts[2] = 0;
         pts[3] = 0;
-        Path limitLinePath = mRenderLimitLinesPathBuffer;
-        limitLinePath.reset();
 
         for (int i = 0; i < limitLines.size(); i++) {
 
@@ -260,16 +269,12 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
             pts[1] = mViewPortHandler.contentTop();
             pts[3] = mViewPortHandler.contentBottom();
 
-            limitLinePath.moveTo(pts[0], pts[1]);
-            limitLinePath.lineTo(pts[2], pts[3]);
-
             mLimitLinePaint.setStyle(Paint.Style.STROKE);
             mLimitLinePaint.setColor(l.getLineColor());
             mLimitLinePaint.setPathEffect(l.getDashPathEffect());
             mLimitLinePaint.setStrokeWidth(l.getLineWidth());
 
-            c.drawPath(limitLinePath, mLimitLinePaint);
-            limitLinePath.reset();
+            drawLineSegments(c, pts, 4, mLimitLinePaint);
 
             String label = l.getLabel();
 
@@ -290,7 +295,7 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
 
                 if (position == LimitLine.LimitLabelPosition.RIGHT_TOP) {
 
-                    final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
+                    final float labelLineHeight = l.getLabelHeight(mLimitLinePaint);
                     mLimitLinePaint.setTextAlign(Align.LEFT);
                     c.drawText(label, pts[0] + xOffset, mViewPortHandler.contentTop() + yOffset + labelLineHeight, mLimitLinePaint);
                 } else if (position == LimitLine.LimitLabelPosition.RIGHT_BOTTOM) {
@@ -300,7 +305,7 @@ public class YAxisRendererHorizontalBarChart extends YAxisRenderer {
                 } else if (position == LimitLine.LimitLabelPosition.LEFT_TOP) {
 
                     mLimitLinePaint.setTextAlign(Align.RIGHT);
-                    final float labelLineHeight = Utils.calcTextHeight(mLimitLinePaint, label);
+                    final float labelLineHeight = l.getLabelHeight(mLimitLinePaint);
                     c.drawText(label, pts[0] - xOffset, mViewPortHandler.contentTop() + yOffset + labelLineHeight, mLimitLinePaint);
                 } else {
 
@@ -7,6 +7,7 @@ import android.graphics.PointF;
 import com.github.mikephil.charting.charts.RadarChart;
 import com.github.mikephil.charting.components.LimitLine;
 import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.math.PolarTable;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -213,9 +214,13 @@ public class YAxisRendererRadarChart extends YAxisRenderer {
             limitPath.reset();
 
 
-            for (int j = 0; j < mChart.getData().getMaxEntryCountSet().getEntryCount(); j++) {
+            int count = mChart.getData().getMaxEntryCountSet().getEntryCount();
+            PolarTable polar = mChart.getPolarTable(count, sliceangle);
 
-                Utils.getPosition(center, r, sliceangle * j + mChart.getRotationAngle(), pOut);
+            for (int j = 0; j < count; j++) {
+
+                pOut.x = center.x + r * polar.cos(j);
+                pOut.y = center.y + r * polar.sin(j);
 
                 if (j == 0)
                     limitPath.moveTo(pOut.x, pOut.y);
@@ -3,6 +3,9 @@ package com.github.mikephil.charting.renderer.scatter;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 
+import com.github.mikephil.charting.canvas.ScatterShapes;
+import com.github.mikephil.charting.canvas.android.AndroidChartCanvas;
+import com.github.mikephil.charting.canvas.android.AndroidChartPaint;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -14,28 +17,20 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
 public class ChevronDownShapeRenderer implements IShapeRenderer
 {
 
+    /**
+     * wrappers to draw the shape with ScatterShapes, reused for every shape
+     */
+    private AndroidChartCanvas mChartCanvas = new AndroidChartCanvas();
+    private AndroidChartPaint mChartPaint = new AndroidChartPaint();
 
     @Override
     public void renderShape(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
-                     float posX, float posY, Paint renderPaint) {
+                            float posX, float posY, Paint renderPaint) {
 
-        final float shapeHalf = dataSet.getScatterShapeSize() / 2f;
+        mChartCanvas.setCanvas(c);
+        mChartPaint.setPaint(renderPaint);
 
-        renderPaint.setStyle(Paint.Style.STROKE);
-        renderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
-
-        c.drawLine(
-                posX,
-                posY + (2 * shapeHalf),
-                posX + (2 * shapeHalf),
-                posY,
-                renderPaint);
-
-        c.drawLine(
-                posX,
-                posY + (2 * shapeHalf),
-                posX - (2 * shapeHalf),
-                posY,
-                renderPaint);
+        ScatterShapes.drawChevronDown(mChartCanvas, mChartPaint, posX, posY,
+                dataSet.getScatterShapeSize(), Utils.convertDpToPixel(1f));
     }
 }
@@ -0,0 +1,228 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.ShelfPacker;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import java.util.HashMap;
+
+/**
+ * A bitmap that holds pre-rendered scatter shapes. Every combination of shape renderer, size,
+ * color and hole is drawn once with its IShapeRenderer, afterwards the shape can be copied to
+ * the chart with drawBitmap. Shape renderers are expected to draw within a square of the shape
+ * size around the given position, anything outside of it is cut off.
+ * <p>
+ * Sprites that were drawn in a frame must stay unchanged until the frame is rendered, with
+ * hardware acceleration the bitmap is only uploaded after drawing. If the atlas fills up during a
+ * frame it is therefore only cleared or grown by the next call of beginFrame(), the shapes that
+ * don't fit until then have to be drawn directly.
+ */
+public class ShapeSpriteAtlas {
+
+    /**
+     * the initial and the largest edge length of the atlas bitmap, in pixels
+     */
+    private static final int INITIAL_SIZE = 256;
+    private static final int MAX_SIZE = 2048;
+
+    private Bitmap mBitmap;
+    private Canvas mCanvas;
+
+    private ShelfPacker mPacker = new ShelfPacker(INITIAL_SIZE, INITIAL_SIZE);
+
+    private HashMap<SpriteKey, Rect> mSprites = new HashMap<>();
+
+    /**
+     * key used for lookups, to avoid an allocation per lookup
+     */
+    private SpriteKey mLookupKey = new SpriteKey();
+
+    private Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    /**
+     * the size the atlas is cleared or grown to at the start of the next frame, 0 if none
+     */
+    private int mPendingSize = 0;
+
+    /**
+     * Called before the sprites of a frame are requested. Clears or grows the atlas if it filled
+     * up during the previous frame.
+     */
+    public void beginFrame() {
+
+        if (mPendingSize == 0)
+            return;
+
+        resize(mPendingSize);
+        mPendingSize = 0;
+    }
+
+    /**
+     * Returns the atlas bitmap, null if no sprite was added yet.
+     *
+     * @return
+     */
+    public Bitmap getBitmap() {
+        return mBitmap;
+    }
+
+    /**
+     * Returns the part of the atlas bitmap that holds the shape of the given DataSet in the
+     * given color, the shape is drawn first if needed. Returns null if the shape is too large
+     * for the atlas, or if the atlas is full until the next frame. Adding the first sprite
+     * creates the atlas bitmap, so getBitmap() must be called after this.
+     *
+     * @param dataSet
+     * @param color
+     * @param viewPortHandler
+     * @return
+     */
+    public Rect getSprite(IScatterDataSet dataSet, int color, ViewPortHandler viewPortHandler) {
+
+        IShapeRenderer renderer = dataSet.getShapeRenderer();
+
+        mLookupKey.set(renderer, dataSet.getScatterShapeSize(), color,
+                dataSet.getScatterShapeHoleRadius(), dataSet.getScatterShapeHoleColor());
+
+        Rect sprite = mSprites.get(mLookupKey);
+
+        if (sprite != null)
+            return sprite;
+
+        // leave room for antialiasing and the stroke of line shapes
+        final int padding = (int) Math.ceil(Utils.convertDpToPixel(1f)) + 1;
+        final int cellSize = (int) Math.ceil(dataSet.getScatterShapeSize()) + padding * 2;
+
+        if (cellSize > MAX_SIZE)
+            return null;
+
+        if (mBitmap == null) {
+
+            resize(Math.max(INITIAL_SIZE, cellSize));
+
+            if (!mPacker.add(cellSize, cellSize))
+                return null;
+
+        } else if (!mPacker.add(cellSize, cellSize)) {
+
+            // the atlas is full, grow it if possible and draw all sprites again in the next
+            // frame, the sprites of this frame still refer to the current content
+            mPendingSize = Math.max(mPendingSize, Math.min(mPacker.getWidth() * 2, MAX_SIZE));
+            return null;
+        }
+
+        sprite = new Rect(mPacker.mX, mPacker.mY, mPacker.mX + cellSize, mPacker.mY + cellSize);
+
+        mCanvas.save();
+        mCanvas.clipRect(sprite);
+
+        mPaint.setColor(color);
+        renderer.renderShape(mCanvas, dataSet, viewPortHandler,
+                sprite.exactCenterX(), sprite.exactCenterY(), mPaint);
+
+        mCanvas.restore();
+
+        mSprites.put(mLookupKey.copy(), sprite);
+
+        return sprite;
+    }
+
+    /**
+     * Removes all sprites and makes sure the atlas bitmap has the given size.
+     *
+     * @param size
+     */
+    private void resize(int size) {
+
+        mSprites.clear();
+        mPacker.reset(size, size);
+
+        if (mBitmap != null && mBitmap.getWidth() == size) {
+            mBitmap.eraseColor(Color.TRANSPARENT);
+            return;
+        }
+
+        // the previous frame may still be rendered from the old bitmap, leave it to the GC
+        // instead of recycling it
+        if (mCanvas != null)
+            mCanvas.setBitmap(null);
+
+        mBitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+        mCanvas = new Canvas(mBitmap);
+    }
+
+    /**
+     * Releases the atlas bitmap, the sprites are drawn again when they are needed.
+     */
+    public void release() {
+
+        mPendingSize = 0;
+        mSprites.clear();
+        mPacker.reset(INITIAL_SIZE, INITIAL_SIZE);
+
+        if (mCanvas != null) {
+            mCanvas.setBitmap(null);
+            mCanvas = null;
+        }
+
+        if (mBitmap != null) {
+            mBitmap.recycle();
+            mBitmap = null;
+        }
+    }
+
+    private static final class SpriteKey {
+
+        private IShapeRenderer mRenderer;
+        private float mSize;
+        private int mColor;
+        private float mHoleRadius;
+        private int mHoleColor;
+
+        void set(IShapeRenderer renderer, float size, int color, float holeRadius, int holeColor) {
+            mRenderer = renderer;
+            mSize = size;
+            mColor = color;
+            mHoleRadius = holeRadius;
+            mHoleColor = holeColor;
+        }
+
+        SpriteKey copy() {
+            SpriteKey key = new SpriteKey();
+            key.set(mRenderer, mSize, mColor, mHoleRadius, mHoleColor);
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof SpriteKey))
+                return false;
+
+            SpriteKey other = (SpriteKey) o;
+
+            return mRenderer == other.mRenderer
+                    && mSize == other.mSize
+                    && mColor == other.mColor
+                    && mHoleRadius == other.mHoleRadius
+                    && mHoleColor == other.mHoleColor;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(mRenderer);
+            result = 31 * result + Float.floatToIntBits(mSize);
+            result = 31 * result + mColor;
+            result = 31 * result + Float.floatToIntBits(mHoleRadius);
+            result = 31 * result + mHoleColor;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Process wide cache for the bitmaps of the circles drawn by the LineChartRenderer. The bitmaps
+ * are shared between all DataSets and charts with the same circle style, and the least recently
+ * used bitmaps are dropped once the cache exceeds its maximum size in bytes.
+ *
+ * Renderers register themselves as owners, the cache only keeps weak references to them. Once
+ * the last owner is released or garbage collected, all bitmaps are dropped. Bitmaps are never
+ * recycled by the cache, because a display list may still draw them.
+ */
+public class CircleBitmapCache {
+
+    /**
+     * the default maximum size of the cache, in bytes
+     */
+    public static final int DEFAULT_MAX_SIZE = 2 * 1024 * 1024;
+
+    private static CircleBitmapCache mInstance;
+
+    public static synchronized CircleBitmapCache getInstance() {
+        if (mInstance == null)
+            mInstance = new CircleBitmapCache();
+        return mInstance;
+    }
+
+    private MemoryLruCache<CircleKey, Bitmap> mCache =
+            new MemoryLruCache<CircleKey, Bitmap>(DEFAULT_MAX_SIZE) {
+                @Override
+                protected int sizeOf(CircleKey key, Bitmap value) {
+                    return value.getRowBytes() * value.getHeight();
+                }
+            };
+
+    private List<WeakReference<Object>> mOwners = new ArrayList<>();
+    private ReferenceQueue<Object> mCollectedOwners = new ReferenceQueue<>();
+
+    /**
+     * key used for lookups, to avoid an allocation per lookup
+     */
+    private CircleKey mLookupKey = new CircleKey();
+
+    private Paint mCirclePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private Paint mCirclePaintInner = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private Path mCirclePathBuffer = new Path();
+
+    private CircleBitmapCache() {
+        mCirclePaint.setStyle(Paint.Style.FILL);
+        mCirclePaintInner.setStyle(Paint.Style.FILL);
+    }
+
+    /**
+     * Returns the bitmap of a circle with the given style, it is drawn if it is not in the cache.
+     *
+     * @param radius     the radius of the circle in pixels
+     * @param holeRadius the radius of the hole in pixels, 0 for no hole
+     * @param color      the color of the circle
+     * @param holeColor  the color of the hole, ColorTemplate.COLOR_NONE for a transparent hole
+     * @return
+     */
+    public synchronized Bitmap getBitmap(float radius, float holeRadius, int color, int holeColor) {
+
+        pollCollectedOwners();
+
+        if (holeRadius <= 0f) {
+            holeRadius = 0f;
+            holeColor = ColorTemplate.COLOR_NONE;
+        }
+
+        mLookupKey.set(radius, holeRadius, color, holeColor, Utils.convertDpToPixel(1f));
+
+        Bitmap bitmap = mCache.get(mLookupKey);
+
+        if (bitmap == null) {
+            bitmap = createBitmap(radius, holeRadius, color, holeColor);
+            mCache.put(mLookupKey.copy(), bitmap);
+        }
+
+        return bitmap;
+    }
+
+    private Bitmap createBitmap(float circleRadius, float circleHoleRadius, int color, int holeColor) {
+
+        Bitmap.Config conf = Bitmap.Config.ARGB_4444;
+        Bitmap circleBitmap = Bitmap.createBitmap((int) (circleRadius * 2.1), (int) (circleRadius * 2.1), conf);
+
+        Canvas canvas = new Canvas(circleBitmap);
+        mCirclePaint.setColor(color);
+
+        if (circleHoleRadius > 0f && holeColor == ColorTemplate.COLOR_NONE) {
+            // Begin path for circle with hole
+            mCirclePathBuffer.reset();
+
+            mCirclePathBuffer.addCircle(
+                    circleRadius,
+                    circleRadius,
+                    circleRadius,
+                    Path.Direction.CW);
+
+            // Cut hole in path
+            mCirclePathBuffer.addCircle(
+                    circleRadius,
+                    circleRadius,
+                    circleHoleRadius,
+                    Path.Direction.CCW);
+
+            // Fill in-between
+            canvas.drawPath(mCirclePathBuffer, mCirclePaint);
+        } else {
+
+            canvas.drawCircle(
+                    circleRadius,
+                    circleRadius,
+                    circleRadius,
+                    mCirclePaint);
+
+            if (circleHoleRadius > 0f) {
+                mCirclePaintInner.setColor(holeColor);
+
+                canvas.drawCircle(
+                        circleRadius,
+                        circleRadius,
+                        circleHoleRadius,
+                        mCirclePaintInner);
+            }
+        }
+
+        return circleBitmap;
+    }
+
+    /**
+     * Registers an owner of the cache. The cache is emptied when all owners are removed or
+     * garbage collected.
+     *
+     * @param owner
+     */
+    public synchronized void addOwner(Object owner) {
+
+        pollCollectedOwners();
+
+        for (int i = 0; i < mOwners.size(); i++) {
+            if (mOwners.get(i).get() == owner)
+                return;
+        }
+
+        mOwners.add(new WeakReference<>(owner, mCollectedOwners));
+    }
+
+    /**
+     * Removes an owner of the cache, empties the cache if it was the last one.
+     *
+     * @param owner
+     */
+    public synchronized void removeOwner(Object owner) {
+
+        for (int i = mOwners.size() - 1; i >= 0; i--) {
+            Object o = mOwners.get(i).get();
+            if (o == null || o == owner)
+                mOwners.remove(i);
+        }
+
+        if (mOwners.isEmpty())
+            mCache.evictAll();
+    }
+
+    private void pollCollectedOwners() {
+
+        Reference<?> ref = mCollectedOwners.poll();
+
+        if (ref == null)
+            return;
+
+        while (ref != null) {
+            mOwners.remove(ref);
+            ref = mCollectedOwners.poll();
+        }
+
+        if (mOwners.isEmpty())
+            mCache.evictAll();
+    }
+
+    /**
+     * Sets the maximum size of the cache in bytes, default: DEFAULT_MAX_SIZE
+     *
+     * @param maxSize
+     */
+    public void setMaxSize(int maxSize) {
+        mCache.setMaxSize(maxSize);
+    }
+
+    /**
+     * Returns the current size of the cache in bytes.
+     *
+     * @return
+     */
+    public int getSize() {
+        return mCache.size();
+    }
+
+    /**
+     * Returns the number of lookups that found a bitmap in the cache.
+     *
+     * @return
+     */
+    public int getHitCount() {
+        return mCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of lookups that had to draw a new bitmap.
+     *
+     * @return
+     */
+    public int getMissCount() {
+        return mCache.getMissCount();
+    }
+
+    /**
+     * Returns the number of bitmaps that were dropped because the cache was full.
+     *
+     * @return
+     */
+    public int getEvictionCount() {
+        return mCache.getEvictionCount();
+    }
+
+    @Override
+    public String toString() {
+        return mCache.toString();
+    }
+
+    private static final class CircleKey {
+
+        private float mRadius;
+        private float mHoleRadius;
+        private int mColor;
+        private int mHoleColor;
+        private float mDensity;
+
+        void set(float radius, float holeRadius, int color, int holeColor, float density) {
+            mRadius = radius;
+            mHoleRadius = holeRadius;
+            mColor = color;
+            mHoleColor = holeColor;
+            mDensity = density;
+        }
+
+        CircleKey copy() {
+            CircleKey key = new CircleKey();
+            key.set(mRadius, mHoleRadius, mColor, mHoleColor, mDensity);
+            return key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof CircleKey))
+                return false;
+
+            CircleKey other = (CircleKey) o;
+
+            return mRadius == other.mRadius
+                    && mHoleRadius == other.mHoleRadius
+                    && mColor == other.mColor
+                    && mHoleColor == other.mHoleColor
+                    && mDensity == other.mDensity;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Float.floatToIntBits(mRadius);
+            result = 31 * result + Float.floatToIntBits(mHoleRadius);
+            result = 31 * result + mColor;
+            result = 31 * result + mHoleColor;
+            result = 31 * result + Float.floatToIntBits(mDensity);
+            return result;
+        }
+    }
+}
@@ -2,14 +2,18 @@ package com.github.mikephil.charting.utils;
 
 import android.graphics.Canvas;
 import android.graphics.LinearGradient;
+import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.Path;
 import android.graphics.RectF;
+import android.graphics.Shader;
 import android.graphics.drawable.Drawable;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.Arrays;
+
 public class Fill
 {
     public enum Type
@@ -52,6 +56,35 @@ public class Fill
      */
     private int mAlpha = 255;
 
+    /**
+     * gradient running from y = 0 to y = 1, it is mapped onto each rect by transforming the canvas
+     * so the same shader can be used for all rects
+     */
+    @Nullable
+    private LinearGradient mRectShader;
+
+    /**
+     * gradient spanning the whole canvas, used for filling paths
+     */
+    @Nullable
+    private LinearGradient mPathShader;
+
+    private int mPathShaderWidth;
+    private int mPathShaderHeight;
+
+    /**
+     * copies of the colors and positions the cached shaders were created with
+     */
+    @Nullable
+    private int[] mShaderColors;
+
+    @Nullable
+    private float[] mShaderPositions;
+
+    private final Matrix mGradientMatrix = new Matrix();
+
+    private final float[] mGradientMatrixValues = new float[]{1f, 0f, 0f, 0f, 1f, 0f, 0f, 0f, 1f};
+
     public Fill()
     {
     }
@@ -203,34 +236,58 @@ public class Fill
             {
                 if (mGradientColors == null) return;
 
-                LinearGradient gradient = new LinearGradient(
-                        (int) (gradientDirection == Direction.RIGHT
-                                ? right
-                                : gradientDirection == Direction.LEFT
-                                ? left
-                                : left),
-                        (int) (gradientDirection == Direction.UP
-                                ? bottom
-                                : gradientDirection == Direction.DOWN
-                                ? top
-                                : top),
-                        (int) (gradientDirection == Direction.RIGHT
-                                ? left
-                                : gradientDirection == Direction.LEFT
-                                ? right
-                                : left),
-                        (int) (gradientDirection == Direction.UP
-                                ? top
-                                : gradientDirection == Direction.DOWN
-                                ? bottom
-                                : top),
-                        mGradientColors,
-                        mGradientPositions,
-                        android.graphics.Shader.TileMode.MIRROR);
-
-                paint.setShader(gradient);
-
-                c.drawRect(left, top, right, bottom, paint);
+                updateShaders();
+
+                if (mRectShader == null)
+                {
+                    mRectShader = new LinearGradient(0f, 0f, 0f, 1f,
+                            mGradientColors,
+                            mGradientPositions,
+                            Shader.TileMode.MIRROR);
+                }
+
+                float width = right - left;
+                float height = bottom - top;
+
+                // maps the unit square onto the rect, the gradient runs along the unit y-axis
+                float[] values = mGradientMatrixValues;
+
+                if (gradientDirection == Direction.RIGHT || gradientDirection == Direction.LEFT)
+                {
+                    boolean toLeft = gradientDirection == Direction.RIGHT;
+
+                    values[Matrix.MSCALE_X] = 0f;
+                    values[Matrix.MSKEW_X] = toLeft ? -width : width;
+                    values[Matrix.MTRANS_X] = toLeft ? right : left;
+                    values[Matrix.MSKEW_Y] = height;
+                    values[Matrix.MSCALE_Y] = 0f;
+                    values[Matrix.MTRANS_Y] = top;
+                }
+                else
+                {
+                    boolean toTop = gradientDirection == Direction.UP;
+
+                    values[Matrix.MSCALE_X] = width;
+                    values[Matrix.MSKEW_X] = 0f;
+                    values[Matrix.MTRANS_X] = left;
+                    values[Matrix.MSKEW_Y] = 0f;
+                    values[Matrix.MSCALE_Y] = toTop ? -height : height;
+                    values[Matrix.MTRANS_Y] = toTop ? bottom : top;
+                }
+
+                mGradientMatrix.setValues(values);
+
+                Shader previous = paint.getShader();
+                paint.setShader(mRectShader);
+
+                int save = c.save();
+
+                c.concat(mGradientMatrix);
+                c.drawRect(0f, 0f, 1f, 1f, paint);
+
+                c.restoreToCount(save);
+
+                paint.setShader(previous);
             }
             break;
 
@@ -289,18 +346,31 @@ public class Fill
             {
                 if (mGradientColors == null) return;
 
-                LinearGradient gradient = new LinearGradient(
-                        0,
-                        0,
-                        c.getWidth(),
-                        c.getHeight(),
-                        mGradientColors,
-                        mGradientPositions,
-                        android.graphics.Shader.TileMode.MIRROR);
+                updateShaders();
+
+                if (mPathShader == null
+                        || mPathShaderWidth != c.getWidth()
+                        || mPathShaderHeight != c.getHeight())
+                {
+                    mPathShaderWidth = c.getWidth();
+                    mPathShaderHeight = c.getHeight();
+
+                    mPathShader = new LinearGradient(
+                            0,
+                            0,
+                            mPathShaderWidth,
+                            mPathShaderHeight,
+                            mGradientColors,
+                            mGradientPositions,
+                            Shader.TileMode.MIRROR);
+                }
 
-                paint.setShader(gradient);
+                Shader previous = paint.getShader();
+                paint.setShader(mPathShader);
 
                 c.drawPath(path, paint);
+
+                paint.setShader(previous);
             }
             break;
 
@@ -326,6 +396,23 @@ public class Fill
         }
     }
 
+    /**
+     * Drops the cached shaders if the gradient colors or positions have changed since they were
+     * created. The arrays are compared by content because they may be modified in place.
+     */
+    private void updateShaders()
+    {
+        if (Arrays.equals(mShaderColors, mGradientColors)
+                && Arrays.equals(mShaderPositions, mGradientPositions))
+            return;
+
+        mShaderColors = mGradientColors == null ? null : mGradientColors.clone();
+        mShaderPositions = mGradientPositions == null ? null : mGradientPositions.clone();
+
+        mRectShader = null;
+        mPathShader = null;
+    }
+
     private boolean isClipPathSupported()
     {
         return Utils.getSDKInt() >= 18;
@@ -34,10 +34,98 @@ public class Transformer {
 
     protected ViewPortHandler mViewPortHandler;
 
+    /**
+     * plain Java copy of the concatenated value-touch-offset matrices, used instead of
+     * Matrix.mapPoints(...) as long as it is valid
+     */
+    private final AffineMatrix mValueToPixel = new AffineMatrix();
+
+    private final AffineMatrix mPixelToValue = new AffineMatrix();
+
+    private final AffineMatrix mAffineBuffer = new AffineMatrix();
+
+    private final float[] mAffineValues = new float[9];
+
+    /**
+     * true if the concatenated matrix can be represented as an AffineMatrix
+     */
+    private boolean mAffineUsable = false;
+
+    private boolean mAffineInvertible = false;
+
+    /**
+     * true if the value or offset matrix has changed since the AffineMatrix was computed
+     */
+    private volatile boolean mAffineDirty = true;
+
+    /**
+     * version of the touch matrix the AffineMatrix was computed for
+     */
+    private volatile int mAffineTouchVersion = -1;
+
     public Transformer(ViewPortHandler viewPortHandler) {
         this.mViewPortHandler = viewPortHandler;
     }
 
+    /**
+     * Marks the cached value-to-pixel mapping as outdated. Subclasses that modify the value or
+     * offset matrix have to call this, it is called by prepareMatrixValuePx(...) and
+     * prepareMatrixOffset(...).
+     */
+    public void invalidateAffine() {
+        mAffineDirty = true;
+    }
+
+    /**
+     * Returns true if the cached value-to-pixel mapping is up to date and can be used instead of
+     * the android matrices. Recomputes it if the viewport has changed.
+     *
+     * @return
+     */
+    protected boolean isAffineValid() {
+
+        if (mAffineDirty || mAffineTouchVersion != mViewPortHandler.getMatrixTouchVersion())
+            updateAffine();
+
+        return mAffineUsable;
+    }
+
+    private synchronized void updateAffine() {
+
+        int touchVersion = mViewPortHandler.getMatrixTouchVersion();
+
+        if (!mAffineDirty && mAffineTouchVersion == touchVersion)
+            return;
+
+        mMatrixValueToPx.getValues(mAffineValues);
+        boolean usable = mValueToPixel.setValues(mAffineValues);
+
+        mViewPortHandler.getMatrixTouch().getValues(mAffineValues);
+        usable &= mAffineBuffer.setValues(mAffineValues);
+        mValueToPixel.postConcat(mAffineBuffer);
+
+        mMatrixOffset.getValues(mAffineValues);
+        usable &= mAffineBuffer.setValues(mAffineValues);
+        mValueToPixel.postConcat(mAffineBuffer);
+
+        mAffineUsable = usable;
+        mAffineInvertible = usable && mValueToPixel.invert(mPixelToValue);
+
+        mAffineDirty = false;
+        mAffineTouchVersion = touchVersion;
+    }
+
+    /**
+     * Returns the plain Java representation of the concatenated value-to-pixel matrices, or null
+     * if it cannot be represented as an affine matrix. The returned object is reused and must not
+     * be modified.
+     *
+     * @return
+     */
+    public AffineMatrix getValueToPixelAffine() {
+        return isAffineValid() ? mValueToPixel : null;
+    }
+
     /**
      * Prepares the matrix that transforms values to pixels. Calculates the
      * scale factors from the charts size and offsets.
@@ -63,6 +151,8 @@ public class Transformer {
         mMatrixValueToPx.reset();
         mMatrixValueToPx.postTranslate(-xChartMin, -yChartMin);
         mMatrixValueToPx.postScale(scaleX, -scaleY);
+
+        invalidateAffine();
     }
 
     /**
@@ -84,6 +174,36 @@ public class Transformer {
                     .setTranslate(mViewPortHandler.offsetLeft(), -mViewPortHandler.offsetTop());
             mMatrixOffset.postScale(1.0f, -1.0f);
         }
+
+        invalidateAffine();
+    }
+
+    /**
+     * the number of valid values in the array returned by the last generateTransformedValues call
+     */
+    protected int mTransformedValueCount = 0;
+
+    /**
+     * Returns the number of valid values in the array that was returned by the last call to one
+     * of the generateTransformedValues methods. The arrays are reused and grow as needed, so they
+     * can be longer than that.
+     *
+     * @return
+     */
+    public int getTransformedValueCount() {
+        return mTransformedValueCount;
+    }
+
+    /**
+     * Returns the given array if it can hold count values, otherwise a new array that is at
+     * least twice as long.
+     */
+    private static float[] ensureCapacity(float[] array, int count) {
+
+        if (array.length >= count)
+            return array;
+
+        return new float[Math.max(count, array.length * 2)];
     }
 
     protected float[] valuePointsForGenerateTransformedValuesScatter = new float[1];
@@ -92,6 +212,8 @@ public class Transformer {
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the SCATTERCHART.
      *
+     * Only the first getTransformedValueCount() values of the returned array are valid.
+     *
      * @param data
      * @return
      */
@@ -100,9 +222,8 @@ public class Transformer {
 
         final int count = (int) ((to - from) * phaseX + 1) * 2;
 
-        if (valuePointsForGenerateTransformedValuesScatter.length != count) {
-            valuePointsForGenerateTransformedValuesScatter = new float[count];
-        }
+        valuePointsForGenerateTransformedValuesScatter = ensureCapacity(valuePointsForGenerateTransformedValuesScatter, count);
+        mTransformedValueCount = count;
         float[] valuePoints = valuePointsForGenerateTransformedValuesScatter;
 
         for (int j = 0; j < count; j += 2) {
@@ -111,14 +232,14 @@ public class Transformer {
 
             if (e != null) {
                 valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
+                valuePoints[j + 1] = e.getY();
             } else {
                 valuePoints[j] = 0;
                 valuePoints[j + 1] = 0;
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count, phaseY);
 
         return valuePoints;
     }
@@ -129,6 +250,8 @@ public class Transformer {
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the BUBBLECHART.
      *
+     * Only the first getTransformedValueCount() values of the returned array are valid.
+     *
      * @param data
      * @return
      */
@@ -136,9 +259,8 @@ public class Transformer {
 
         final int count = (to - from + 1) * 2; // (int) Math.ceil((to - from) * phaseX) * 2;
 
-        if (valuePointsForGenerateTransformedValuesBubble.length != count) {
-            valuePointsForGenerateTransformedValuesBubble = new float[count];
-        }
+        valuePointsForGenerateTransformedValuesBubble = ensureCapacity(valuePointsForGenerateTransformedValuesBubble, count);
+        mTransformedValueCount = count;
         float[] valuePoints = valuePointsForGenerateTransformedValuesBubble;
 
         for (int j = 0; j < count; j += 2) {
@@ -147,14 +269,14 @@ public class Transformer {
 
             if (e != null) {
                 valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
+                valuePoints[j + 1] = e.getY();
             } else {
                 valuePoints[j] = 0;
                 valuePoints[j + 1] = 0;
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count, phaseY);
 
         return valuePoints;
     }
@@ -165,6 +287,8 @@ public class Transformer {
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the LINECHART.
      *
+     * Only the first getTransformedValueCount() values of the returned array are valid.
+     *
      * @param data
      * @return
      */
@@ -174,9 +298,8 @@ public class Transformer {
 
         final int count = ((int) ((max - min) * phaseX) + 1) * 2;
 
-        if (valuePointsForGenerateTransformedValuesLine.length != count) {
-            valuePointsForGenerateTransformedValuesLine = new float[count];
-        }
+        valuePointsForGenerateTransformedValuesLine = ensureCapacity(valuePointsForGenerateTransformedValuesLine, count);
+        mTransformedValueCount = count;
         float[] valuePoints = valuePointsForGenerateTransformedValuesLine;
 
         for (int j = 0; j < count; j += 2) {
@@ -185,14 +308,14 @@ public class Transformer {
 
             if (e != null) {
                 valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getY() * phaseY;
+                valuePoints[j + 1] = e.getY();
             } else {
                 valuePoints[j] = 0;
                 valuePoints[j + 1] = 0;
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count, phaseY);
 
         return valuePoints;
     }
@@ -203,6 +326,8 @@ public class Transformer {
      * Transforms an List of Entry into a float array containing the x and
      * y values transformed with all matrices for the CANDLESTICKCHART.
      *
+     * Only the first getTransformedValueCount() values of the returned array are valid.
+     *
      * @param data
      * @return
      */
@@ -211,9 +336,8 @@ public class Transformer {
 
         final int count = (int) ((to - from) * phaseX + 1) * 2;
 
-        if (valuePointsForGenerateTransformedValuesCandle.length != count) {
-            valuePointsForGenerateTransformedValuesCandle = new float[count];
-        }
+        valuePointsForGenerateTransformedValuesCandle = ensureCapacity(valuePointsForGenerateTransformedValuesCandle, count);
+        mTransformedValueCount = count;
         float[] valuePoints = valuePointsForGenerateTransformedValuesCandle;
 
         for (int j = 0; j < count; j += 2) {
@@ -222,14 +346,14 @@ public class Transformer {
 
             if (e != null) {
                 valuePoints[j] = e.getX();
-                valuePoints[j + 1] = e.getHigh() * phaseY;
+                valuePoints[j + 1] = e.getHigh();
             } else {
                 valuePoints[j] = 0;
                 valuePoints[j + 1] = 0;
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints, 0, count, phaseY);
 
         return valuePoints;
     }
@@ -266,10 +390,46 @@ public class Transformer {
      * @param pts
      */
     public void pointValuesToPixel(float[] pts) {
+        pointValuesToPixel(pts, 0, pts.length, 1f);
+    }
 
-        mMatrixValueToPx.mapPoints(pts);
-        mViewPortHandler.getMatrixTouch().mapPoints(pts);
-        mMatrixOffset.mapPoints(pts);
+    /**
+     * Transforms count floats (count / 2 points) of the given array, starting at offset.
+     *
+     * @param pts
+     * @param offset
+     * @param count
+     */
+    public void pointValuesToPixel(float[] pts, int offset, int count) {
+        pointValuesToPixel(pts, offset, count, 1f);
+    }
+
+    /**
+     * Transforms count floats (count / 2 points) of the given array, starting at offset. The
+     * y-values are multiplied with phaseY before they are transformed.
+     *
+     * @param pts
+     * @param offset
+     * @param count
+     * @param phaseY
+     */
+    public void pointValuesToPixel(float[] pts, int offset, int count, float phaseY) {
+
+        if (isAffineValid()) {
+            mValueToPixel.mapPoints(pts, offset, count, phaseY);
+            return;
+        }
+
+        if (phaseY != 1f) {
+            for (int i = offset + 1; i < offset + count; i += 2)
+                pts[i] *= phaseY;
+        }
+
+        int pointCount = count / 2;
+
+        mMatrixValueToPx.mapPoints(pts, offset, pts, offset, pointCount);
+        mViewPortHandler.getMatrixTouch().mapPoints(pts, offset, pts, offset, pointCount);
+        mMatrixOffset.mapPoints(pts, offset, pts, offset, pointCount);
     }
 
     /**
@@ -279,11 +439,51 @@ public class Transformer {
      */
     public void rectValueToPixel(RectF r) {
 
+        if (isAffineValid()) {
+            mapRect(mValueToPixel, r);
+            return;
+        }
+
         mMatrixValueToPx.mapRect(r);
         mViewPortHandler.getMatrixTouch().mapRect(r);
         mMatrixOffset.mapRect(r);
     }
 
+    /**
+     * Maps the given rectangle with the given matrix and sorts the result, like
+     * Matrix.mapRect(...) does.
+     *
+     * @param m
+     * @param r
+     */
+    private static void mapRect(AffineMatrix m, RectF r) {
+
+        if (m.isScaleTranslate()) {
+
+            float left = r.left * m.scaleX + m.transX;
+            float right = r.right * m.scaleX + m.transX;
+            float top = r.top * m.scaleY + m.transY;
+            float bottom = r.bottom * m.scaleY + m.transY;
+
+            r.left = Math.min(left, right);
+            r.right = Math.max(left, right);
+            r.top = Math.min(top, bottom);
+            r.bottom = Math.max(top, bottom);
+
+        } else {
+
+            float x0 = m.mapX(r.left, r.top), y0 = m.mapY(r.left, r.top);
+            float x1 = m.mapX(r.right, r.top), y1 = m.mapY(r.right, r.top);
+            float x2 = m.mapX(r.left, r.bottom), y2 = m.mapY(r.left, r.bottom);
+            float x3 = m.mapX(r.right, r.bottom), y3 = m.mapY(r.right, r.bottom);
+
+            r.left = Math.min(Math.min(x0, x1), Math.min(x2, x3));
+            r.right = Math.max(Math.max(x0, x1), Math.max(x2, x3));
+            r.top = Math.min(Math.min(y0, y1), Math.min(y2, y3));
+            r.bottom = Math.max(Math.max(y0, y1), Math.max(y2, y3));
+        }
+    }
+
     /**
      * Transform a rectangle with all matrices with potential animation phases.
      *
@@ -296,9 +496,7 @@ public class Transformer {
         r.top *= phaseY;
         r.bottom *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        rectValueToPixel(r);
     }
 
     public void rectToPixelPhaseHorizontal(RectF r, float phaseY) {
@@ -307,9 +505,7 @@ public class Transformer {
         r.left *= phaseY;
         r.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        rectValueToPixel(r);
     }
 
     /**
@@ -319,9 +515,7 @@ public class Transformer {
      */
     public void rectValueToPixelHorizontal(RectF r) {
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        rectValueToPixel(r);
     }
 
     /**
@@ -336,9 +530,7 @@ public class Transformer {
         r.left *= phaseY;
         r.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        rectValueToPixel(r);
     }
 
     /**
@@ -348,6 +540,12 @@ public class Transformer {
      */
     public void rectValuesToPixel(List<RectF> rects) {
 
+        if (isAffineValid()) {
+            for (int i = 0; i < rects.size(); i++)
+                mapRect(mValueToPixel, rects.get(i));
+            return;
+        }
+
         Matrix m = getValueToPixelMatrix();
 
         for (int i = 0; i < rects.size(); i++)
@@ -364,6 +562,11 @@ public class Transformer {
      */
     public void pixelsToValue(float[] pixels) {
 
+        if (isAffineValid() && mAffineInvertible) {
+            mPixelToValue.mapPoints(pixels);
+            return;
+        }
+
         Matrix tmp = mPixelToValueMatrixBuffer;
         tmp.reset();
 
@@ -23,6 +23,7 @@ import android.view.ViewConfiguration;
 
 import com.github.mikephil.charting.formatter.DefaultValueFormatter;
 import com.github.mikephil.charting.formatter.IValueFormatter;
+import com.github.mikephil.charting.math.ChartMath;
 
 import java.util.List;
 
@@ -353,16 +354,7 @@ public abstract class Utils {
      * @return
      */
     public static float roundToNextSignificant(double number) {
-        if (Double.isInfinite(number) || 
-            Double.isNaN(number) || 
-            number == 0.0)
-            return 0;
-        
-        final float d = (float) Math.ceil((float) Math.log10(number < 0 ? -number : number));
-        final int pw = 1 - (int) d;
-        final float magnitude = (float) Math.pow(10, pw);
-        final long shifted = Math.round(number * magnitude);
-        return shifted / magnitude;
+        return ChartMath.roundToNextSignificant(number);
     }
 
     /**
@@ -373,13 +365,7 @@ public abstract class Utils {
      * @return
      */
     public static int getDecimals(float number) {
-
-        float i = roundToNextSignificant(number);
-        
-        if (Float.isInfinite(i))
-            return 0;
-        
-        return (int) Math.ceil(-Math.log10(i)) + 2;
+        return ChartMath.getDecimals(number);
     }
 
     /**
@@ -436,13 +422,7 @@ public abstract class Utils {
      * @return
      */
     public static double nextUp(double d) {
-        if (d == Double.POSITIVE_INFINITY)
-            return d;
-        else {
-            d += 0.0d;
-            return Double.longBitsToDouble(Double.doubleToRawLongBits(d) +
-                    ((d >= 0.0d) ? +1L : -1L));
-        }
+        return ChartMath.nextUp(d);
     }
 
     /**
@@ -5,6 +5,8 @@ import android.graphics.Matrix;
 import android.graphics.RectF;
 import android.view.View;
 
+import com.github.mikephil.charting.listener.OnViewPortChangedListener;
+
 /**
  * Class that contains information about the charts current viewport settings, including offsets, scale & translation
  * levels, ...
@@ -18,6 +20,17 @@ public class ViewPortHandler {
      */
     protected final Matrix mMatrixTouch = new Matrix();
 
+    /**
+     * incremented every time the touch matrix is refreshed, used by the Transformers to tell if
+     * their cached value-to-pixel mapping is still valid
+     */
+    protected int mMatrixTouchVersion = 0;
+
+    /**
+     * notified when the touch matrix is refreshed, e.g. by a ChartGroup
+     */
+    protected OnViewPortChangedListener mViewPortChangedListener;
+
     /**
      * this rectangle defines the area in which graph values can be drawn
      */
@@ -424,13 +437,29 @@ public class ViewPortHandler {
         // make sure scale and translation are within their bounds
         limitTransAndScale(mMatrixTouch, mContentRect);
 
-        if (invalidate)
+        if (mViewPortChangedListener != null)
+            mViewPortChangedListener.onViewPortChanged(this, chart, invalidate);
+        else if (invalidate)
             chart.invalidate();
 
         newMatrix.set(mMatrixTouch);
         return newMatrix;
     }
 
+    /**
+     * Sets a listener that is notified whenever refresh(...) is called. The listener is also
+     * responsible for invalidating the chart then.
+     *
+     * @param listener
+     */
+    public void setOnViewPortChangedListener(OnViewPortChangedListener listener) {
+        mViewPortChangedListener = listener;
+    }
+
+    public OnViewPortChangedListener getOnViewPortChangedListener() {
+        return mViewPortChangedListener;
+    }
+
     /**
      * limits the maximum scale and X translation of the given matrix
      *
@@ -473,6 +502,9 @@ public class ViewPortHandler {
         matrixBuffer[Matrix.MSCALE_Y] = mScaleY;
 
         matrix.setValues(matrixBuffer);
+
+        if (matrix == mMatrixTouch)
+            mMatrixTouchVersion++;
     }
 
     /**
@@ -578,6 +610,16 @@ public class ViewPortHandler {
         return mMatrixTouch;
     }
 
+    /**
+     * Returns a counter that changes whenever the touch matrix is refreshed. If the matrix
+     * returned by getMatrixTouch() is modified directly, refresh(...) has to be called afterwards.
+     *
+     * @return
+     */
+    public int getMatrixTouchVersion() {
+        return mMatrixTouchVersion;
+    }
+
     /**
      * ################ ################ ################ ################
      */
@@ -0,0 +1,79 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.components.XAxis;
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.formatter.IAxisValueFormatter;
+import com.github.mikephil.charting.formatter.TimeAxisValueFormatter;
+import com.github.mikephil.charting.math.TimeTicks;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class AxisLabelCacheTest {
+
+    /**
+     * Formatter whose labels depend on state outside of the formatter.
+     */
+    private static class PrefixFormatter implements IAxisValueFormatter {
+
+        String prefix = "a";
+
+        @Override
+        public String getFormattedValue(float value, AxisBase axis) {
+            return prefix + (int) value;
+        }
+    }
+
+    @Test
+    public void testStatefulFormatter() {
+
+        YAxis axis = new YAxis();
+        axis.mEntries = new float[]{0f, 10f};
+        axis.mEntryCount = 2;
+
+        PrefixFormatter formatter = new PrefixFormatter();
+        axis.setValueFormatter(formatter);
+
+        assertFalse(axis.isLabelLayoutCacheable());
+        assertNull(axis.getLabelLayout());
+
+        assertEquals("a10", axis.getFormattedLabel(1));
+
+        formatter.prefix = "b";
+
+        assertEquals("b10", axis.getFormattedLabel(1));
+    }
+
+    @Test
+    public void testLabelVersion() {
+
+        XAxis axis = new XAxis();
+
+        // the default formatter is pure
+        assertTrue(axis.isLabelLayoutCacheable());
+
+        long version = axis.getLabelVersion(axis.getValueFormatter());
+
+        axis.setValueFormatter(null);
+        assertTrue(version != axis.getLabelVersion(axis.getValueFormatter()));
+
+        TimeAxisValueFormatter formatter = new TimeAxisValueFormatter();
+        axis.setValueFormatter(formatter);
+        assertTrue(axis.isLabelLayoutCacheable());
+
+        version = axis.getLabelVersion(formatter);
+
+        formatter.setPattern(TimeTicks.DAY, "dd.MM.");
+        assertTrue(version != axis.getLabelVersion(formatter));
+
+        version = axis.getLabelVersion(formatter);
+
+        axis.invalidateLabels();
+        assertTrue(version != axis.getLabelVersion(formatter));
+    }
+}
@@ -0,0 +1,153 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.buffer.BarBuffer;
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.highlight.Range;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class BarBufferTest {
+
+    @Test
+    public void testFeedGrowsBuffer() {
+
+        List<BarEntry> values = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            values.add(new BarEntry(i, i + 1));
+        }
+
+        BarDataSet set = new BarDataSet(values, "Set");
+
+        BarBuffer buffer = new BarBuffer(4, 1, false);
+        buffer.setBarWidth(0.5f);
+        buffer.feed(set);
+
+        assertEquals(40, buffer.size());
+        assertTrue(buffer.capacity() >= 40);
+
+        // left, top, right, bottom of the last bar
+        assertEquals(8.75f, buffer.buffer[36], 0.01f);
+        assertEquals(10f, buffer.buffer[37], 0.01f);
+        assertEquals(9.25f, buffer.buffer[38], 0.01f);
+        assertEquals(0f, buffer.buffer[39], 0.01f);
+
+        // the capacity doubles, so appending bars does not reallocate the buffer every time
+        set.addEntry(new BarEntry(10, 5));
+        buffer.feed(set);
+
+        assertEquals(44, buffer.size());
+        assertEquals(80, buffer.capacity());
+
+        float[] array = buffer.buffer;
+
+        for (int i = 11; i < 20; i++) {
+            set.addEntry(new BarEntry(i, 5));
+            buffer.feed(set);
+        }
+
+        assertEquals(80, buffer.size());
+        assertSame(array, buffer.buffer);
+    }
+
+    @Test
+    public void testStackedAndPhase() {
+
+        List<BarEntry> values = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            values.add(new BarEntry(i, new float[]{1, 2, -3}));
+        }
+
+        BarDataSet set = new BarDataSet(values, "Set");
+
+        BarBuffer buffer = new BarBuffer(0, 1, true);
+        buffer.feed(set);
+
+        assertEquals(4 * 4 * 3, buffer.size());
+
+        buffer.setPhases(0.5f, 1f);
+        buffer.feed(set);
+
+        assertEquals(2 * 4 * 3, buffer.size());
+    }
+
+    @Test
+    public void testStackBounds() {
+
+        List<BarEntry> values = new ArrayList<>();
+        values.add(new BarEntry(0, new float[]{0, 2, -1, 0, 3, -2, 0}));
+        values.add(new BarEntry(1, 4));
+
+        BarDataSet set = new BarDataSet(values, "Set");
+
+        // the bounds are the same as the ranges of the entry
+        float[] bounds = set.getStackBounds();
+        Range[] ranges = values.get(0).getRanges();
+
+        int offset = set.getStackBoundsOffset(0);
+
+        assertEquals(7f, bounds[offset]);
+
+        for (int k = 0; k < ranges.length; k++) {
+            assertEquals(ranges[k].from, bounds[offset + 1 + k * BarDataSet.STACK_SEGMENT_SIZE + 1]);
+            assertEquals(ranges[k].to, bounds[offset + 1 + k * BarDataSet.STACK_SEGMENT_SIZE + 2]);
+        }
+
+        assertEquals(-1, set.getStackBoundsOffset(1));
+
+        BarBuffer buffer = new BarBuffer(0, 1, true);
+        buffer.feed(set);
+
+        // top and bottom of each stack value, 0.0 values are moved to 0 if they do not overlap a bar
+        float[] expected = new float[]{0, 0, 2, 0, -2, -3, 2, 2, 5, 2, 0, -2, 0, 0};
+
+        for (int k = 0; k < 7; k++) {
+            assertEquals(expected[k * 2], buffer.buffer[k * 4 + 1]);
+            assertEquals(expected[k * 2 + 1], buffer.buffer[k * 4 + 3]);
+        }
+
+        assertEquals(4f, buffer.buffer[7 * 4 + 1]);
+        assertEquals(32, buffer.size());
+
+        // values changed without notifying the dataset
+        values.get(0).setVals(new float[]{1, -1});
+        buffer.feed(set);
+
+        assertEquals(1f, buffer.buffer[1]);
+        assertEquals(0f, buffer.buffer[3]);
+        assertEquals(0f, buffer.buffer[5]);
+        assertEquals(-1f, buffer.buffer[7]);
+
+        // appended entries are added to the bounds
+        set.addEntry(new BarEntry(2, new float[]{1, 1, 1, 1, 1, 1, 1, 1}));
+        buffer.feed(set);
+
+        assertEquals(2 * 4 + 4 + 8 * 4, buffer.size());
+        assertEquals(8f, buffer.buffer[buffer.size() - 3]);
+        assertEquals(8f, set.getStackBounds()[set.getStackBoundsOffset(2)]);
+    }
+
+    @Test
+    public void testShrink() {
+
+        BarBuffer buffer = new BarBuffer(1000, 1, false);
+
+        buffer.shrinkTo(400);
+        assertEquals(1000, buffer.capacity());
+
+        buffer.shrinkTo(100);
+        assertEquals(200, buffer.capacity());
+
+        buffer.ensureCapacity(201);
+        assertEquals(400, buffer.capacity());
+    }
+}
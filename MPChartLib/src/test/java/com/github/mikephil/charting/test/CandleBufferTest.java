@@ -0,0 +1,115 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.buffer.CandleBuffer;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+public class CandleBufferTest {
+
+    private static CandleDataSet createDataSet() {
+
+        List<CandleEntry> values = new ArrayList<>();
+
+        // x, high, low, open, close
+        values.add(new CandleEntry(0, 10, 2, 8, 4)); // decreasing
+        values.add(new CandleEntry(1, 12, 3, 5, 9)); // increasing
+        values.add(new CandleEntry(2, 7, 5, 6, 6)); // neutral
+        values.add(new CandleEntry(3, 11, 1, 2, 10)); // increasing
+        values.add(new CandleEntry(4, 9, 4, 8, 5)); // decreasing
+
+        return new CandleDataSet(values, "Set");
+    }
+
+    @Test
+    public void testFeedGroupsByDirection() {
+
+        CandleBuffer buffer = new CandleBuffer(4);
+        buffer.setBarSpace(0.1f);
+        buffer.limitFrom(0);
+        buffer.limitTo(4);
+        buffer.feed(createDataSet());
+
+        assertEquals(2, buffer.getCount(CandleBuffer.DECREASING));
+        assertEquals(2, buffer.getCount(CandleBuffer.INCREASING));
+        assertEquals(1, buffer.getCount(CandleBuffer.NEUTRAL));
+
+        // 8 values of shadows and 4 of body per candle
+        assertEquals(5 * 12, buffer.size());
+
+        assertEquals(0, buffer.getLineOffset(CandleBuffer.DECREASING));
+        assertEquals(16, buffer.getLineOffset(CandleBuffer.INCREASING));
+        assertEquals(32, buffer.getLineOffset(CandleBuffer.NEUTRAL));
+        assertEquals(40, buffer.getBodyOffset(CandleBuffer.DECREASING));
+        assertEquals(48, buffer.getBodyOffset(CandleBuffer.INCREASING));
+        assertEquals(56, buffer.getBodyOffset(CandleBuffer.NEUTRAL));
+
+        // entry indices, in order per direction
+        assertEquals(0, buffer.entryIndices[buffer.getCandleOffset(CandleBuffer.DECREASING)]);
+        assertEquals(4, buffer.entryIndices[buffer.getCandleOffset(CandleBuffer.DECREASING) + 1]);
+        assertEquals(1, buffer.entryIndices[buffer.getCandleOffset(CandleBuffer.INCREASING)]);
+        assertEquals(3, buffer.entryIndices[buffer.getCandleOffset(CandleBuffer.INCREASING) + 1]);
+        assertEquals(2, buffer.entryIndices[buffer.getCandleOffset(CandleBuffer.NEUTRAL)]);
+
+        // shadows of the second decreasing candle: high to open, low to close
+        int i = buffer.getLineOffset(CandleBuffer.DECREASING) + 8;
+        assertEquals(4f, buffer.buffer[i], 0.01f);
+        assertEquals(9f, buffer.buffer[i + 1], 0.01f);
+        assertEquals(8f, buffer.buffer[i + 3], 0.01f);
+        assertEquals(4f, buffer.buffer[i + 5], 0.01f);
+        assertEquals(5f, buffer.buffer[i + 7], 0.01f);
+
+        // body of the first increasing candle: left, close, right, open
+        i = buffer.getBodyOffset(CandleBuffer.INCREASING);
+        assertEquals(0.6f, buffer.buffer[i], 0.01f);
+        assertEquals(9f, buffer.buffer[i + 1], 0.01f);
+        assertEquals(1.4f, buffer.buffer[i + 2], 0.01f);
+        assertEquals(5f, buffer.buffer[i + 3], 0.01f);
+
+        // the shadows of a neutral candle end at the body
+        i = buffer.getLineOffset(CandleBuffer.NEUTRAL);
+        assertEquals(6f, buffer.buffer[i + 3], 0.01f);
+        assertEquals(6f, buffer.buffer[i + 7], 0.01f);
+    }
+
+    @Test
+    public void testFeedBars() {
+
+        CandleBuffer buffer = new CandleBuffer(4);
+        buffer.setShowCandleBar(false);
+        buffer.setBarSpace(0.1f);
+        buffer.setPhases(1f, 0.5f);
+        buffer.limitFrom(1);
+        buffer.limitTo(10);
+        buffer.feed(createDataSet());
+
+        assertEquals(1, buffer.getCount(CandleBuffer.DECREASING));
+        assertEquals(2, buffer.getCount(CandleBuffer.INCREASING));
+        assertEquals(1, buffer.getCount(CandleBuffer.NEUTRAL));
+
+        // range, open and close tick per candle, no body
+        assertEquals(4 * 12, buffer.size());
+        assertEquals(0, buffer.getBodyStride());
+
+        // the decreasing candle at index 4
+        int i = buffer.getLineOffset(CandleBuffer.DECREASING);
+        assertEquals(4, buffer.entryIndices[buffer.getCandleOffset(CandleBuffer.DECREASING)]);
+
+        assertEquals(4f, buffer.buffer[i], 0.01f);
+        assertEquals(4.5f, buffer.buffer[i + 1], 0.01f);
+        assertEquals(2f, buffer.buffer[i + 3], 0.01f);
+
+        assertEquals(3.6f, buffer.buffer[i + 4], 0.01f);
+        assertEquals(4f, buffer.buffer[i + 5], 0.01f);
+        assertEquals(4f, buffer.buffer[i + 6], 0.01f);
+
+        assertEquals(4.4f, buffer.buffer[i + 8], 0.01f);
+        assertEquals(2.5f, buffer.buffer[i + 9], 0.01f);
+    }
+}
@@ -208,4 +208,99 @@ public class ChartDataTest {
         assertFalse(lineData.removeDataSet(lineSet1));
         assertFalse(lineData.removeDataSet(lineSet2));
     }
+
+    @Test
+    public void testCalcMinMaxYOnlyChangedSets() {
+
+        List<Entry> entries1 = new ArrayList<Entry>();
+        List<Entry> entries2 = new ArrayList<Entry>();
+
+        for (int i = 0; i < 10; i++) {
+            entries1.add(new Entry(i, i));
+            entries2.add(new Entry(i, -i));
+        }
+
+        CountingDataSet set1 = new CountingDataSet(entries1);
+        CountingDataSet set2 = new CountingDataSet(entries2);
+
+        LineData data = new LineData(set1, set2);
+        data.setAutoScaleCaching(true);
+
+        data.calcMinMaxY(2, 12);
+
+        assertEquals(1, set1.mCalcCount);
+        assertEquals(1, set2.mCalcCount);
+        assertEquals(-9f, data.getYMin(), 0.01f);
+        assertEquals(9f, data.getYMax(), 0.01f);
+
+        // nothing changed
+        data.calcMinMaxY(2, 12);
+
+        assertEquals(1, set1.mCalcCount);
+        assertEquals(1, set2.mCalcCount);
+
+        // only the set with the new entry
+        data.addEntry(new Entry(10, 20), 0);
+        data.calcMinMaxY(2, 12);
+
+        assertEquals(2, set1.mCalcCount);
+        assertEquals(1, set2.mCalcCount);
+        assertEquals(-9f, data.getYMin(), 0.01f);
+        assertEquals(20f, data.getYMax(), 0.01f);
+
+        // another range
+        data.calcMinMaxY(0, 3);
+
+        assertEquals(3, set1.mCalcCount);
+        assertEquals(2, set2.mCalcCount);
+        assertEquals(-3f, data.getYMin(), 0.01f);
+        assertEquals(3f, data.getYMax(), 0.01f);
+
+        // values changed in place
+        entries2.get(1).setY(-50);
+        data.invalidateMinMaxY();
+        data.calcMinMaxY(0, 3);
+
+        assertEquals(4, set1.mCalcCount);
+        assertEquals(3, set2.mCalcCount);
+        assertEquals(-50f, data.getYMin(), 0.01f);
+    }
+
+    @Test
+    public void testCalcMinMaxYInPlaceChanges() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 10; i++) {
+            entries.add(new Entry(i, i));
+        }
+
+        CountingDataSet set = new CountingDataSet(entries);
+        LineData data = new LineData(set);
+
+        data.calcMinMaxY(0, 9);
+        assertEquals(9f, data.getYMax(), 0.01f);
+
+        // without caching, values changed in place are picked up by the next call
+        entries.get(9).setY(30);
+        data.calcMinMaxY(0, 9);
+
+        assertEquals(2, set.mCalcCount);
+        assertEquals(30f, data.getYMax(), 0.01f);
+    }
+
+    private static class CountingDataSet extends LineDataSet {
+
+        int mCalcCount = 0;
+
+        CountingDataSet(List<Entry> entries) {
+            super(entries, "");
+        }
+
+        @Override
+        public void calcMinMaxY(float fromX, float toX) {
+            mCalcCount++;
+            super.calcMinMaxY(fromX, toX);
+        }
+    }
 }
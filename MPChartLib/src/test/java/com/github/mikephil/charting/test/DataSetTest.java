@@ -55,6 +55,45 @@ public class DataSetTest {
         assertEquals(10f, set.getYMax(), 0.01f);
     }
 
+    @Test
+    public void testRemoveInnerEntry() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+        entries.add(new Entry(10, 10));
+        entries.add(new Entry(15, 2));
+        entries.add(new Entry(18, 5));
+        entries.add(new Entry(21, 7));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        int count = set.getModificationCount();
+
+        // inside the extents
+        assertTrue(set.removeEntry(2));
+        assertTrue(set.getModificationCount() != count);
+
+        assertEquals(10f, set.getXMin(), 0.01f);
+        assertEquals(21f, set.getXMax(), 0.01f);
+        assertEquals(2f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        // the minimum y-value
+        assertTrue(set.removeEntry(1));
+
+        assertEquals(10f, set.getXMin(), 0.01f);
+        assertEquals(21f, set.getXMax(), 0.01f);
+        assertEquals(7f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+
+        // the maximum x-value
+        assertTrue(set.removeLast());
+
+        assertEquals(10f, set.getXMin(), 0.01f);
+        assertEquals(10f, set.getXMax(), 0.01f);
+        assertEquals(10f, set.getYMin(), 0.01f);
+        assertEquals(10f, set.getYMax(), 0.01f);
+    }
+
     @Test
     public void testAddRemoveEntry() {
 
@@ -234,5 +273,20 @@ public class DataSetTest {
         entries = set.getEntriesForXValue(2f);
         assertEquals(1, entries.size());
         assertEquals(30, entries.get(0).getY(), 0.01f);
+
+        // the buffer variant clears the list before filling it
+        List<Entry> buffer = new ArrayList<>();
+
+        set.getEntriesForXValue(4f, buffer);
+        assertEquals(2, buffer.size());
+        assertEquals(60, buffer.get(0).getY(), 0.01f);
+        assertEquals(70, buffer.get(1).getY(), 0.01f);
+
+        set.getEntriesForXValue(2f, buffer);
+        assertEquals(1, buffer.size());
+        assertEquals(30, buffer.get(0).getY(), 0.01f);
+
+        set.getEntriesForXValue(3.5f, buffer);
+        assertEquals(0, buffer.size());
     }
 }
@@ -0,0 +1,123 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.paging.FileDataSource;
+import com.github.mikephil.charting.data.paging.PagedLineDataSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class PagedDataSetTest {
+
+    /**
+     * runs all loads on the calling thread
+     */
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private File mFile;
+
+    @Before
+    public void setUp() throws IOException {
+
+        List<Entry> entries = new ArrayList<>();
+
+        // x: 0 .. 9999, y: x % 100, except one peak at x = 4321
+        for (int i = 0; i < 10000; i++) {
+            entries.add(new Entry(i, i == 4321 ? 500 : i % 100));
+        }
+
+        mFile = File.createTempFile("paged", ".bin");
+        FileDataSource.write(mFile, entries);
+    }
+
+    @After
+    public void tearDown() {
+        mFile.delete();
+    }
+
+    @Test
+    public void testExtentsWithoutLoading() throws IOException {
+
+        FileDataSource source = new FileDataSource(mFile, 1000);
+
+        assertEquals(10, source.getChunkCount());
+        assertEquals(4000f, source.getChunkInfo(4).getXMin(), 0.01f);
+        assertEquals(4999f, source.getChunkInfo(4).getXMax(), 0.01f);
+        assertEquals(500f, source.getChunkInfo(4).getYMax(), 0.01f);
+
+        PagedLineDataSet set = new PagedLineDataSet(source, "", DIRECT, 5000);
+
+        assertEquals(0, set.getEntryCount());
+        assertEquals(10000, set.getTotalEntryCount());
+
+        assertEquals(0f, set.getXMin(), 0.01f);
+        assertEquals(9999f, set.getXMax(), 0.01f);
+        assertEquals(0f, set.getYMin(), 0.01f);
+        assertEquals(500f, set.getYMax(), 0.01f);
+
+        // chunk 4 is not resident, its precomputed extents are used
+        set.calcMinMaxY(4500, 4600);
+        assertEquals(500f, set.getYMax(), 0.01f);
+        assertEquals(0, set.getPager().getResidentEntryCount());
+    }
+
+    @Test
+    public void testWindowAndEviction() throws IOException {
+
+        FileDataSource source = new FileDataSource(mFile, 1000);
+        PagedLineDataSet set = new PagedLineDataSet(source, "", DIRECT, 3000);
+
+        set.setVisibleXRange(2500, 2600);
+
+        // visible chunk plus one prefetched chunk on each side
+        assertEquals(3000, set.getEntryCount());
+        assertEquals(1000f, set.getEntryForIndex(0).getX(), 0.01f);
+        assertEquals(2550f, set.getEntryForXValue(2550, Float.NaN).getX(), 0.01f);
+
+        // the visible chunk is resident, so the scan is exact
+        set.calcMinMaxY(2510, 2520);
+        assertEquals(10f, set.getYMin(), 0.01f);
+        assertEquals(20f, set.getYMax(), 0.01f);
+
+        set.setVisibleXRange(7500, 7600);
+
+        assertEquals(3000, set.getEntryCount());
+        assertEquals(6000f, set.getEntryForIndex(0).getX(), 0.01f);
+        assertEquals(3000, set.getPager().getResidentEntryCount());
+        assertFalse(set.getPager().isResident(2));
+        assertTrue(set.getPager().isResident(7));
+    }
+
+    @Test
+    public void testNotifyDataSetChanged() throws IOException {
+
+        FileDataSource source = new FileDataSource(mFile, 1000);
+        PagedLineDataSet set = new PagedLineDataSet(source, "", DIRECT, 5000);
+
+        set.setVisibleXRange(0, 100);
+
+        assertEquals(2000, set.getEntryCount());
+
+        set.notifyDataSetChanged();
+
+        assertEquals(0, set.getEntryCount());
+        assertEquals(0, set.getPager().getResidentEntryCount());
+        assertEquals(9999f, set.getXMax(), 0.01f);
+    }
+}